@@ -1,5 +1,8 @@
 -- 만화카페 관리 시스템 데이터베이스 초기화
 
+-- 부분 문자열 검색용 트라이그램 확장
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- Members 테이블
 CREATE TABLE members (
     id BIGSERIAL PRIMARY KEY,
@@ -23,6 +26,10 @@ CREATE TABLE books (
     condition VARCHAR(20) NOT NULL DEFAULT 'GOOD',
     location VARCHAR(50),
     remarks VARCHAR(1000),
+    version BIGINT NOT NULL DEFAULT 0,
+    search_vector TSVECTOR GENERATED ALWAYS AS (
+        to_tsvector('simple', title || ' ' || author || ' ' || publisher)
+    ) STORED,
     created_at TIMESTAMP NOT NULL,
     updated_at TIMESTAMP NOT NULL
 );
@@ -34,12 +41,29 @@ CREATE TABLE seats (
     type VARCHAR(20) NOT NULL,
     status VARCHAR(20) NOT NULL DEFAULT 'AVAILABLE',
     current_member_id BIGINT,
+    status_changed_at TIMESTAMP,
+    hold_expires_at TIMESTAMP,
     remarks VARCHAR(1000),
     created_at TIMESTAMP NOT NULL,
     updated_at TIMESTAMP NOT NULL,
     FOREIGN KEY (current_member_id) REFERENCES members(id)
 );
 
+-- Seat sessions 테이블 (마감된 좌석 이용 내역, 요금은 마감 시점 요금표 기준)
+CREATE TABLE seat_sessions (
+    id BIGSERIAL PRIMARY KEY,
+    seat_id BIGINT NOT NULL,
+    member_id BIGINT,
+    seat_type VARCHAR(20) NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    ended_at TIMESTAMP NOT NULL,
+    hourly_rate DECIMAL(10, 2) NOT NULL,
+    charge DECIMAL(10, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (seat_id) REFERENCES seats(id),
+    FOREIGN KEY (member_id) REFERENCES members(id)
+);
+
 -- Rentals 테이블
 CREATE TABLE rentals (
     id BIGSERIAL PRIMARY KEY,
@@ -50,6 +74,39 @@ CREATE TABLE rentals (
     due_date_time TIMESTAMP NOT NULL,
     status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
     remarks VARCHAR(1000),
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (member_id) REFERENCES members(id),
+    FOREIGN KEY (book_id) REFERENCES books(id)
+);
+
+-- Rentals 보관 테이블 (반납 후 보관 기간이 지난 대여, RentalArchiveService 가 배치로 옮김)
+CREATE TABLE rentals_archive (
+    id BIGINT PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    rental_date_time TIMESTAMP NOT NULL,
+    return_date_time TIMESTAMP,
+    due_date_time TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    remarks VARCHAR(1000),
+    version BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (member_id) REFERENCES members(id),
+    FOREIGN KEY (book_id) REFERENCES books(id)
+);
+
+-- Reservations 테이블 (대여중 도서 예약 대기열, 도서별 대기 순서는 ReservationQueue 가 메모리에 들고 있음)
+CREATE TABLE reservations (
+    id BIGSERIAL PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'WAITING',
+    reserved_date_time TIMESTAMP NOT NULL,
+    held_until TIMESTAMP,
     created_at TIMESTAMP NOT NULL,
     updated_at TIMESTAMP NOT NULL,
     FOREIGN KEY (member_id) REFERENCES members(id),
@@ -91,10 +148,26 @@ CREATE INDEX idx_books_title ON books(title);
 CREATE INDEX idx_books_author ON books(author);
 CREATE INDEX idx_books_genre ON books(genre);
 CREATE INDEX idx_books_status ON books(status);
+CREATE INDEX idx_books_location ON books(location);
+CREATE INDEX idx_books_title_trgm ON books USING GIN (title gin_trgm_ops);
+CREATE INDEX idx_books_author_trgm ON books USING GIN (author gin_trgm_ops);
+CREATE INDEX idx_books_search_vector ON books USING GIN (search_vector);
+CREATE INDEX idx_books_updated_at ON books(updated_at);
+CREATE UNIQUE INDEX uq_members_email_lower ON members(lower(email));
+CREATE INDEX idx_members_updated_at ON members(updated_at);
 CREATE INDEX idx_rentals_member_id ON rentals(member_id);
 CREATE INDEX idx_rentals_book_id ON rentals(book_id);
-CREATE INDEX idx_rentals_status ON rentals(status);
+CREATE INDEX idx_rentals_status_due_date_time ON rentals(status, due_date_time) INCLUDE (id)
+    WHERE status IN ('ACTIVE', 'OVERDUE');
+CREATE INDEX idx_rentals_returned_at ON rentals(return_date_time) WHERE status = 'RETURNED';
+CREATE INDEX idx_rentals_archive_member_id ON rentals_archive(member_id, rental_date_time DESC);
+CREATE INDEX idx_rentals_archive_book_id ON rentals_archive(book_id);
+CREATE UNIQUE INDEX uq_reservations_open ON reservations(book_id, member_id) WHERE status IN ('WAITING', 'HELD');
+CREATE UNIQUE INDEX uq_reservations_held_book ON reservations(book_id) WHERE status = 'HELD';
+CREATE INDEX idx_reservations_member_id ON reservations(member_id);
 CREATE INDEX idx_seats_status ON seats(status);
+CREATE INDEX idx_seat_sessions_member_id ON seat_sessions(member_id);
+CREATE INDEX idx_seat_sessions_ended_at ON seat_sessions(ended_at);
 CREATE INDEX idx_orders_member_id ON orders(member_id);
 CREATE INDEX idx_orders_menu_id ON orders(menu_id);
 CREATE INDEX idx_orders_status ON orders(status);
@@ -128,17 +201,17 @@ INSERT INTO books (book_code, title, author, publisher, volume, genre, status, c
 ('MH-008-002', '귀멸의 칼날', '고토게 코요하루', '서울미디어코믹스', 2, '액션', 'AVAILABLE', 'GOOD', 'B-04', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- Seats 샘플 데이터
-INSERT INTO seats (seat_number, type, status, current_member_id, created_at, updated_at) VALUES
-('A-01', 'REGULAR', 'OCCUPIED', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-('A-02', 'REGULAR', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-('A-03', 'REGULAR', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-('A-04', 'REGULAR', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-('B-01', 'PREMIUM', 'OCCUPIED', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-('B-02', 'PREMIUM', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-('C-01', 'COUPLE', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-('C-02', 'COUPLE', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-('R-01', 'ROOM', 'OCCUPIED', 3, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-('R-02', 'ROOM', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO seats (seat_number, type, status, current_member_id, status_changed_at, created_at, updated_at) VALUES
+('A-01', 'REGULAR', 'OCCUPIED', 1, CURRENT_TIMESTAMP - INTERVAL '2 hours', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('A-02', 'REGULAR', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('A-03', 'REGULAR', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('A-04', 'REGULAR', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('B-01', 'PREMIUM', 'OCCUPIED', 2, CURRENT_TIMESTAMP - INTERVAL '90 minutes', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('B-02', 'PREMIUM', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('C-01', 'COUPLE', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('C-02', 'COUPLE', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('R-01', 'ROOM', 'OCCUPIED', 3, CURRENT_TIMESTAMP - INTERVAL '40 minutes', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('R-02', 'ROOM', 'AVAILABLE', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- Rentals 샘플 데이터
 INSERT INTO rentals (member_id, book_id, rental_date_time, return_date_time, due_date_time, status, created_at, updated_at) VALUES
@@ -180,6 +253,7 @@ SELECT
     COUNT(*) as total_books,
     COUNT(CASE WHEN status = 'AVAILABLE' THEN 1 END) as available_count,
     COUNT(CASE WHEN status = 'RENTED' THEN 1 END) as rented_count,
+    COUNT(CASE WHEN status = 'RESERVED' THEN 1 END) as reserved_count,
     COUNT(CASE WHEN status = 'LOST' THEN 1 END) as lost_count,
     COUNT(CASE WHEN status = 'DAMAGED' THEN 1 END) as damaged_count
 FROM books;
@@ -198,6 +272,7 @@ SELECT
     r.due_date_time,
     r.status,
     CASE
+        WHEN r.status = 'OVERDUE' THEN true
         WHEN r.status = 'ACTIVE' AND r.due_date_time < CURRENT_TIMESTAMP THEN true
         ELSE false
     END as is_overdue
@@ -221,6 +296,8 @@ LEFT JOIN members m ON s.current_member_id = m.id;
 COMMENT ON TABLE members IS '회원 정보';
 COMMENT ON TABLE books IS '만화책 정보';
 COMMENT ON TABLE seats IS '좌석 정보';
+COMMENT ON TABLE seat_sessions IS '좌석 이용 내역';
 COMMENT ON TABLE rentals IS '대여 정보';
+COMMENT ON TABLE rentals_archive IS '대여 이력 보관 (반납 후 보관 기간이 지난 대여)';
 COMMENT ON TABLE menus IS '메뉴 정보';
 COMMENT ON TABLE orders IS '주문 정보';
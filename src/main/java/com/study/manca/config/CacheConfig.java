@@ -0,0 +1,19 @@
+package com.study.manca.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 캐시 설정
+ * 캐시 프록시를 트랜잭션 프록시보다 바깥에 두어
+ * 캐시 적중 시 트랜잭션(커넥션 획득)을 건너뛰고, 무효화는 커밋 이후에 일어나도록 한다.
+ * 캐시 크기/TTL 은 application.properties 의 spring.cache.caffeine.spec 으로 조정한다.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String BOOKS = "books";
+    public static final String MEMBERS = "members";
+}
@@ -0,0 +1,19 @@
+package com.study.manca.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 시계 설정
+ * 현재 시각이 필요한 곳은 LocalDateTime.now(clock) 으로 읽어 테스트에서 시계를 바꿔 끼울 수 있게 한다.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
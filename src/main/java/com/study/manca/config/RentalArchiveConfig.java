@@ -0,0 +1,13 @@
+package com.study.manca.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 대여 이력 보관 설정
+ * 보관 기간과 이동 단위는 application.properties 의 manca.rentals.archive.* 로 조정한다.
+ */
+@Configuration
+@EnableConfigurationProperties(RentalArchiveProperties.class)
+public class RentalArchiveConfig {
+}
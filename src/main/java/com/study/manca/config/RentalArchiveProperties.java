@@ -0,0 +1,23 @@
+package com.study.manca.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 대여 이력 보관 설정 (manca.rentals.archive.*)
+ * 반납 후 retainReturned 가 지난 대여를 batchSize 건씩, 한 주기에 최대 maxBatchesPerRun 번 rentals_archive 로 옮긴다.
+ */
+@ConfigurationProperties(prefix = "manca.rentals.archive")
+public record RentalArchiveProperties(Duration retainReturned, Integer batchSize, Integer maxBatchesPerRun) {
+
+    public RentalArchiveProperties {
+        retainReturned = retainReturned == null ? Duration.ofDays(30) : retainReturned;
+        batchSize = batchSize == null ? 1_000 : batchSize;
+        maxBatchesPerRun = maxBatchesPerRun == null ? 50 : maxBatchesPerRun;
+        if (retainReturned.isNegative() || batchSize <= 0 || maxBatchesPerRun <= 0) {
+            throw new IllegalStateException("Invalid rental archive settings: retainReturned=" + retainReturned
+                    + ", batchSize=" + batchSize + ", maxBatchesPerRun=" + maxBatchesPerRun);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.study.manca.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 도서 예약 설정
+ * 보관 기간은 application.properties 의 manca.reservations.* 로 조정한다.
+ */
+@Configuration
+@EnableConfigurationProperties(ReservationProperties.class)
+public class ReservationConfig {
+}
@@ -0,0 +1,20 @@
+package com.study.manca.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 도서 예약 설정 (manca.reservations.*)
+ * 반납된 도서를 다음 대기자에게 holdFor 동안 보관하고, 그 안에 대여하지 않으면 보관을 만료시켜 다음 대기자에게 넘긴다.
+ */
+@ConfigurationProperties(prefix = "manca.reservations")
+public record ReservationProperties(Duration holdFor) {
+
+    public ReservationProperties {
+        holdFor = holdFor == null ? Duration.ofDays(2) : holdFor;
+        if (holdFor.isNegative() || holdFor.isZero()) {
+            throw new IllegalStateException("Invalid reservation settings: holdFor=" + holdFor);
+        }
+    }
+}
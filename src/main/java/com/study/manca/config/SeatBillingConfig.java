@@ -0,0 +1,13 @@
+package com.study.manca.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 좌석 이용요금 설정
+ * 시간당 요금은 application.properties 의 manca.seats.hourly-rates.* 로 조정한다.
+ */
+@Configuration
+@EnableConfigurationProperties(SeatRateProperties.class)
+public class SeatBillingConfig {
+}
@@ -0,0 +1,45 @@
+package com.study.manca.config;
+
+import com.study.manca.entity.Seat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 좌석타입별 시간당 요금 (manca.seats.hourly-rates.REGULAR=2000 ...)
+ * 이용요금은 초 단위로 비례 계산하고 원 단위에서 올림한다.
+ */
+@ConfigurationProperties(prefix = "manca.seats")
+public record SeatRateProperties(Map<Seat.SeatType, BigDecimal> hourlyRates) {
+
+    private static final BigDecimal SECONDS_PER_HOUR = BigDecimal.valueOf(3600);
+
+    public SeatRateProperties {
+        Map<Seat.SeatType, BigDecimal> rates = new EnumMap<>(Seat.SeatType.class);
+        if (hourlyRates != null) {
+            rates.putAll(hourlyRates);
+        }
+        for (Seat.SeatType type : Seat.SeatType.values()) {
+            if (rates.get(type) == null) {
+                throw new IllegalStateException("Hourly rate is not configured for seat type: " + type);
+            }
+        }
+        hourlyRates = Collections.unmodifiableMap(rates);
+    }
+
+    public BigDecimal hourlyRate(Seat.SeatType type) {
+        return hourlyRates.get(type);
+    }
+
+    public BigDecimal charge(Seat.SeatType type, LocalDateTime startedAt, LocalDateTime endedAt) {
+        long seconds = Math.max(0, Duration.between(startedAt, endedAt).getSeconds());
+        return hourlyRate(type).multiply(BigDecimal.valueOf(seconds))
+                .divide(SECONDS_PER_HOUR, 0, RoundingMode.CEILING);
+    }
+}
@@ -0,0 +1,41 @@
+package com.study.manca.controller;
+
+import com.study.manca.dto.AutocompleteResponse;
+import com.study.manca.service.AutocompleteIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Autocomplete", description = "자동완성 API")
+@RestController
+@RequestMapping("/api/autocomplete")
+@RequiredArgsConstructor
+public class AutocompleteController {
+
+    private final AutocompleteIndex autocompleteIndex;
+
+    @Operation(summary = "제목/작가/회원이름 자동완성",
+            description = "입력 중인 한글(예: 원ㅍ, 원핏)이나 초성(예: ㅇㅍㅅ)으로 시작하는 후보를 많이 쓰이는 순으로 k 개 조회합니다. 띄어쓰기 뒤 단어로도 찾을 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 k (1~20)")
+    })
+    @GetMapping
+    public ResponseEntity<List<AutocompleteResponse>> autocomplete(
+            @Parameter(description = "입력 문자열", required = true) @RequestParam String q,
+            @Parameter(description = "후보 종류 (생략 시 전체)") @RequestParam(required = false) AutocompleteIndex.Field field,
+            @Parameter(description = "후보 개수 (1~20)") @RequestParam(defaultValue = "10") int k) {
+        List<AutocompleteResponse> suggestions = autocompleteIndex.suggest(q, field, k);
+        return ResponseEntity.ok(suggestions);
+    }
+}
@@ -1,19 +1,45 @@
 package com.study.manca.controller;
 
+import com.study.manca.dto.BookBulkResponse;
+import com.study.manca.dto.BookFacetsResponse;
 import com.study.manca.dto.BookRequest;
 import com.study.manca.dto.BookResponse;
+import com.study.manca.dto.BookScrollResponse;
+import com.study.manca.dto.BookSearchResponse;
+import com.study.manca.dto.BookStatusChangeRequest;
 import com.study.manca.dto.BookUpdateRequest;
+import com.study.manca.dto.MultiGetResponse;
+import com.study.manca.dto.ResourceVersion;
+import com.study.manca.dto.SeriesAvailabilityResponse;
+import com.study.manca.dto.ShelfAuditRequest;
+import com.study.manca.dto.ShelfAuditResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.manca.entity.Book;
+import com.study.manca.service.BookBulkService;
+import com.study.manca.service.BookFacetService;
 import com.study.manca.service.BookService;
+import com.study.manca.service.SeriesAvailabilityIndex;
+import com.study.manca.service.ShelfAuditService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Tag(name = "Book", description = "Book API")
 @RestController
@@ -22,26 +48,141 @@ import java.util.List;
 public class BookController {
 
     private final BookService bookService;
+    private final BookBulkService bookBulkService;
+    private final SeriesAvailabilityIndex seriesAvailabilityIndex;
+    private final BookFacetService bookFacetService;
+    private final ShelfAuditService shelfAuditService;
+    private final ObjectMapper objectMapper;
 
     // 설계
-    @Operation(summary = "전체 책 조회")
-    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @Operation(summary = "전체 책 조회", description = "If-None-Match / If-Modified-Since 가 현재 버전과 같으면 304 를 반환합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음")
+    })
     @GetMapping
-    public ResponseEntity<List<BookResponse>> getAllBooks() {
+    public ResponseEntity<List<BookResponse>> getAllBooks(WebRequest webRequest) {
+        ResourceVersion version = bookService.findListVersion();
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         List<BookResponse> books = bookService.findAll();
+        return ResponseEntity.ok()
+                .eTag(version.getETag())
+                .lastModified(version.getLastModified())
+                .body(books);
+    }
+
+    @Operation(summary = "책 다건 조회", description = "ids 로 지정한 도서들을 한 번에 조회합니다. 결과는 요청 순서를 따르고, 없는 ID 는 missingIds 로 반환합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "ID 개수가 범위를 벗어남 (1~100)")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<BookResponse>> getBooksByIds(
+            @Parameter(description = "도서 ID 목록 (예: 1,2,3)", required = true) @RequestParam List<Long> ids) {
+        MultiGetResponse<BookResponse> books = bookService.findAllByIds(ids);
         return ResponseEntity.ok(books);
     }
 
+    @Operation(summary = "책 목록 키셋 페이지 조회", description = "lastId 이후의 도서를 id 순으로 size 만큼 조회합니다. 응답의 nextCursor 를 다음 요청의 lastId 로 사용합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 페이지 크기")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<BookScrollResponse> scrollBooks(
+            @Parameter(description = "마지막으로 받은 도서 ID (첫 페이지는 생략)") @RequestParam(required = false) Long lastId,
+            @Parameter(description = "페이지 크기 (1~1000)") @RequestParam(defaultValue = "100") int size) {
+        BookScrollResponse page = bookService.scroll(lastId, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(summary = "책 검색", description = "제목/작가의 부분 문자열이나 제목/작가/출판사의 단어로 검색합니다. 2자 검색어는 단어 앞부분 일치로만 찾습니다. 일치도 순으로 정렬하며, 응답의 nextCursor 를 다음 요청의 cursor 로 사용합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "검색어가 너무 짧거나 잘못된 페이지 크기/커서")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<BookSearchResponse> searchBooks(
+            @Parameter(description = "검색어 (2자 이상)", required = true) @RequestParam String q,
+            @Parameter(description = "대여상태") @RequestParam(required = false) Book.BookStatus status,
+            @Parameter(description = "장르") @RequestParam(required = false) String genre,
+            @Parameter(description = "책 상태") @RequestParam(required = false) Book.BookCondition condition,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~1000)") @RequestParam(defaultValue = "20") int size) {
+        BookSearchResponse result = bookService.search(q, status, genre, condition, cursor, size);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "전체 책 스트리밍 조회", description = "전체 도서를 NDJSON(한 줄에 한 권)으로 읽는 즉시 내려보냅니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamBooks() {
+        return ndjson(bookService::streamAll);
+    }
+
+    @Operation(summary = "서가별 책 스트리밍 조회", description = "서가위치(예: A-01)에 있는 도서를 NDJSON 으로 내려보냅니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping(value = "/locations/{location}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamBooksByLocation(
+            @Parameter(description = "서가위치", required = true) @PathVariable String location) {
+        return ndjson(consumer -> bookService.streamByLocation(location, consumer));
+    }
+
+    @Operation(summary = "서가 점검", description = "서가에서 스캔한 도서코드와 책 상태를 한 번에 반영하고, 스캔되지 않은 도서 목록을 반환합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "점검 반영 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @PostMapping("/locations/{location}/audit")
+    public ResponseEntity<ShelfAuditResponse> auditShelf(
+            @Parameter(description = "서가위치", required = true) @PathVariable String location,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "스캔한 도서 목록")
+            @RequestBody ShelfAuditRequest request) {
+        ShelfAuditResponse result = shelfAuditService.audit(location, request);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "도서 분류별 집계 조회", description = "대여상태/장르/책상태/서가위치/출판사별 도서 수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/facets")
+    public ResponseEntity<BookFacetsResponse> getBookFacets() {
+        BookFacetsResponse facets = bookFacetService.getFacets();
+        return ResponseEntity.ok(facets);
+    }
+
+    @Operation(summary = "시리즈 대여가능 권 조회", description = "시리즈 코드(예: 001) 또는 제목(예: 원피스)으로 지금 대여 가능한 권을 구간 형태로 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "시리즈를 찾을 수 없음")
+    })
+    @GetMapping("/series/{series}/availability")
+    public ResponseEntity<SeriesAvailabilityResponse> getSeriesAvailability(
+            @Parameter(description = "시리즈 코드 또는 제목", required = true) @PathVariable String series) {
+        SeriesAvailabilityResponse availability = seriesAvailabilityIndex.find(series);
+        return ResponseEntity.ok(availability);
+    }
+
     @Operation(summary = "회원 상세 조회", description = "ID로 특정 회원의 상세 정보를 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음"),
         @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음")
     })
     @GetMapping("/{id}")
     public ResponseEntity<BookResponse> getBookById(
-            @Parameter(description = "회원 ID", required = true) @PathVariable Long id) {
+            @Parameter(description = "회원 ID", required = true) @PathVariable Long id,
+            WebRequest webRequest) {
+        ResourceVersion version = bookService.findVersion(id);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         BookResponse book = bookService.findById(id);
-        return ResponseEntity.ok(book);
+        return ResponseEntity.ok()
+                .eTag(version.getETag())
+                .lastModified(version.getLastModified())
+                .body(book);
     }
 
     //thread
@@ -58,7 +199,33 @@ public class BookController {
         return ResponseEntity.ok().build();
     }
 
-    @Operation(summary = "도서 정보 수정")
+    @Operation(summary = "도서 일괄 등록", description = "여러 권의 도서를 한 번에 등록하고 행별 결과를 반환합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "처리 완료 (행별 결과 포함)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+    })
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BookBulkResponse> createBooks(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "도서 등록 정보 목록")
+            @RequestBody List<BookRequest> requests) {
+        BookBulkResponse result = bookBulkService.importBooks(requests);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "도서 CSV 일괄 등록", description = "헤더가 포함된 CSV 파일(bookCode,title,author,publisher,volume,genre,status,condition,location,remarks)로 도서를 일괄 등록합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "처리 완료 (행별 결과 포함)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 CSV"),
+    })
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BookBulkResponse> createBooksFromCsv(
+            @Parameter(description = "CSV 파일 (UTF-8)", required = true) @RequestPart("file") MultipartFile file) throws IOException {
+        BookBulkResponse result = bookBulkService.importCsv(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8));
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "도서 정보 수정", description = "보관중(RESERVED)으로 바꾸거나 보관중인 도서의 상태를 바꿀 수 없습니다. 보관은 예약으로만 바뀝니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "수정 성공"),
             @ApiResponse(responseCode = "404", description = "도서를 찾을 수 없음")
@@ -72,5 +239,34 @@ public class BookController {
         return ResponseEntity.ok(updatedBook);
     }
 
+    @Operation(summary = "도서 대여상태 전이", description = "현재 상태가 from 일 때만 to 로 변경합니다. 다른 요청이 먼저 바꿨다면 실패합니다. 보관중(RESERVED)은 from/to 로 쓸 수 없습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "변경 성공"),
+            @ApiResponse(responseCode = "404", description = "도서를 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "현재 상태가 from 이 아님")
+    })
+    @PostMapping("/{id}/status")
+    public ResponseEntity<Void> changeBookStatus(
+            @PathVariable Long id,
+            @RequestBody BookStatusChangeRequest request) {
+        bookService.changeStatus(id, request);
+        return ResponseEntity.ok().build();
+    }
+
     //TODO: DELETE method
+
+    // 한 줄에 한 권씩 JSON 으로 써서 읽는 즉시 내려보낸다
+    private ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<BookResponse>> producer) {
+        StreamingResponseBody body = out -> producer.accept(book -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(book));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 }
@@ -2,6 +2,8 @@ package com.study.manca.controller;
 
 import com.study.manca.dto.MemberResponse;
 import com.study.manca.dto.MemberRequest;
+import com.study.manca.dto.MultiGetResponse;
+import com.study.manca.dto.ResourceVersion;
 import com.study.manca.service.MemberService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,24 +26,55 @@ public class MemberController {
 
     private final MemberService memberService;
 
-    @Operation(summary = "전체 회원 조회", description = "등록된 모든 회원 목록을 조회합니다.")
-    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @Operation(summary = "전체 회원 조회", description = "등록된 모든 회원 목록을 조회합니다. If-None-Match / If-Modified-Since 가 현재 버전과 같으면 304 를 반환합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음")
+    })
     @GetMapping
-    public ResponseEntity<List<MemberResponse>> getAllMembers() {
+    public ResponseEntity<List<MemberResponse>> getAllMembers(WebRequest webRequest) {
+        ResourceVersion version = memberService.findListVersion();
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         List<MemberResponse> members = memberService.findAll();
+        return ResponseEntity.ok()
+                .eTag(version.getETag())
+                .lastModified(version.getLastModified())
+                .body(members);
+    }
+
+    @Operation(summary = "회원 다건 조회", description = "ids 로 지정한 회원들을 한 번에 조회합니다. 결과는 요청 순서를 따르고, 없는 ID 는 missingIds 로 반환합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "ID 개수가 범위를 벗어남 (1~100)")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<MemberResponse>> getMembersByIds(
+            @Parameter(description = "회원 ID 목록 (예: 1,2,3)", required = true) @RequestParam List<Long> ids) {
+        MultiGetResponse<MemberResponse> members = memberService.findAllByIds(ids);
         return ResponseEntity.ok(members);
     }
 
     @Operation(summary = "회원 상세 조회", description = "ID로 특정 회원의 상세 정보를 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음"),
         @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음")
     })
     @GetMapping("/{id}")
     public ResponseEntity<MemberResponse> getMemberById(
-            @Parameter(description = "회원 ID", required = true) @PathVariable Long id) {
+            @Parameter(description = "회원 ID", required = true) @PathVariable Long id,
+            WebRequest webRequest) {
+        ResourceVersion version = memberService.findVersion(id);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         MemberResponse member = memberService.findById(id);
-        return ResponseEntity.ok(member);
+        return ResponseEntity.ok()
+                .eTag(version.getETag())
+                .lastModified(version.getLastModified())
+                .body(member);
     }
 
     @Operation(summary = "회원 등록", description = "새로운 회원을 등록합니다.")
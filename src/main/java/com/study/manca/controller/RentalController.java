@@ -0,0 +1,156 @@
+package com.study.manca.controller;
+
+import com.study.manca.dto.PopularTitleResponse;
+import com.study.manca.dto.RentalBatchCheckoutRequest;
+import com.study.manca.dto.RentalBatchResponse;
+import com.study.manca.dto.RentalBatchReturnRequest;
+import com.study.manca.dto.RentalRequest;
+import com.study.manca.dto.RentalResponse;
+import com.study.manca.dto.RentalScrollResponse;
+import com.study.manca.entity.Rental;
+import com.study.manca.service.PopularTitlesIndex;
+import com.study.manca.service.RentalArchiveService;
+import com.study.manca.service.RentalBatchService;
+import com.study.manca.service.RentalService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Rental", description = "대여 관리 API")
+@RestController
+@RequestMapping("/api/rentals")
+@RequiredArgsConstructor
+public class RentalController {
+
+    private final RentalService rentalService;
+    private final RentalBatchService rentalBatchService;
+    private final RentalArchiveService rentalArchiveService;
+    private final PopularTitlesIndex popularTitlesIndex;
+
+    @Operation(summary = "전체 대여 조회", description = "대여 내역을 회원명/도서명과 함께 ID 순으로 페이지 단위 조회합니다. 응답의 nextCursor 를 다음 요청의 lastId 로 넘기면 이어서 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "페이지 크기 범위 초과")
+    })
+    @GetMapping
+    public ResponseEntity<RentalScrollResponse> getAllRentals(
+            @Parameter(description = "마지막으로 받은 대여 ID (첫 페이지는 생략)") @RequestParam(required = false) Long lastId,
+            @Parameter(description = "페이지 크기 (1~1000)") @RequestParam(defaultValue = "100") int size) {
+        RentalScrollResponse page = rentalService.scroll(lastId, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(summary = "회원별 대여 조회", description = "특정 회원의 대여중/연체 및 최근 반납 내역을 최근 대여 순으로 조회합니다. 보관 기간이 지난 반납 내역은 이력 조회를 사용합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/member/{memberId}")
+    public ResponseEntity<List<RentalResponse>> getRentalsByMemberId(
+            @Parameter(description = "회원 ID", required = true) @PathVariable Long memberId) {
+        List<RentalResponse> rentals = rentalService.findByMemberId(memberId);
+        return ResponseEntity.ok(rentals);
+    }
+
+    @Operation(summary = "회원별 전체 대여 이력 조회", description = "보관된 대여를 포함해 특정 회원의 모든 대여 내역을 최근 대여 순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/member/{memberId}/history")
+    public ResponseEntity<List<RentalResponse>> getRentalHistoryByMemberId(
+            @Parameter(description = "회원 ID", required = true) @PathVariable Long memberId) {
+        List<RentalResponse> rentals = rentalArchiveService.findHistoryByMemberId(memberId);
+        return ResponseEntity.ok(rentals);
+    }
+
+    @Operation(summary = "상태별 대여 조회", description = "대여상태(ACTIVE, RETURNED, OVERDUE)별 대여 내역을 반납예정일시가 이른 순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/status/{status}")
+    public ResponseEntity<List<RentalResponse>> getRentalsByStatus(
+            @Parameter(description = "대여상태", required = true) @PathVariable Rental.RentalStatus status) {
+        List<RentalResponse> rentals = rentalService.findByStatus(status);
+        return ResponseEntity.ok(rentals);
+    }
+
+    @Operation(summary = "인기 시리즈 순위", description = "최근 7일(1시간 단위) 대여 수가 많은 시리즈를 순위대로 조회합니다. 대여 즉시 반영됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "개수 범위 초과")
+    })
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularTitleResponse>> getPopularTitles(
+            @Parameter(description = "순위 개수 (1~100)") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(popularTitlesIndex.top(limit));
+    }
+
+    @Operation(summary = "대여 상세 조회", description = "ID로 특정 대여 내역을 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "대여 내역을 찾을 수 없음")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<RentalResponse> getRentalById(
+            @Parameter(description = "대여 ID", required = true) @PathVariable Long id) {
+        RentalResponse rental = rentalService.findById(id);
+        return ResponseEntity.ok(rental);
+    }
+
+    @Operation(summary = "대여 등록", description = "회원에게 도서를 대여합니다. 대여 가능한 도서만 대여할 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "대여 성공"),
+        @ApiResponse(responseCode = "404", description = "회원 또는 도서를 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "대여 가능한 도서가 아님")
+    })
+    @PostMapping
+    public ResponseEntity<RentalResponse> createRental(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "대여 등록 정보")
+            @RequestBody RentalRequest request) {
+        RentalResponse rental = rentalService.create(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(rental);
+    }
+
+    @Operation(summary = "반납", description = "대여한 도서를 반납 처리합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "반납 성공"),
+        @ApiResponse(responseCode = "404", description = "대여 내역을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "이미 반납된 대여")
+    })
+    @PostMapping("/{id}/return")
+    public ResponseEntity<RentalResponse> returnBook(
+            @Parameter(description = "대여 ID", required = true) @PathVariable Long id) {
+        RentalResponse rental = rentalService.returnBook(id);
+        return ResponseEntity.ok(rental);
+    }
+
+    @Operation(summary = "일괄 대여", description = "한 회원에게 여러 도서를 한 번에 대여합니다. ALL_OR_NOTHING(기본)은 하나라도 대여할 수 없으면 아무것도 대여하지 않고, PER_ITEM 은 가능한 도서만 대여합니다. 결과는 도서별로 돌려줍니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "한 권 이상 대여됨"),
+        @ApiResponse(responseCode = "400", description = "도서코드 누락 또는 개수 초과"),
+        @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "대여된 도서 없음 (도서별 사유 포함)")
+    })
+    @PostMapping("/batch/checkout")
+    public ResponseEntity<RentalBatchResponse> checkoutBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "회원과 대여할 도서코드 목록")
+            @RequestBody RentalBatchCheckoutRequest request) {
+        RentalBatchResponse result = rentalBatchService.checkout(request);
+        return ResponseEntity.status(result.getSucceeded() > 0 ? HttpStatus.CREATED : HttpStatus.CONFLICT).body(result);
+    }
+
+    @Operation(summary = "일괄 반납", description = "스캔한 도서코드 묶음을 한 번에 반납합니다. ALL_OR_NOTHING(기본)은 하나라도 반납할 수 없으면 아무것도 반납하지 않고, PER_ITEM 은 가능한 도서만 반납합니다. 결과는 도서별로 돌려줍니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "한 권 이상 반납됨"),
+        @ApiResponse(responseCode = "400", description = "도서코드 누락 또는 개수 초과"),
+        @ApiResponse(responseCode = "409", description = "반납된 도서 없음 (도서별 사유 포함)")
+    })
+    @PostMapping("/batch/return")
+    public ResponseEntity<RentalBatchResponse> returnBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "반납할 도서코드 목록")
+            @RequestBody RentalBatchReturnRequest request) {
+        RentalBatchResponse result = rentalBatchService.returnBooks(request);
+        return ResponseEntity.status(result.getSucceeded() > 0 ? HttpStatus.OK : HttpStatus.CONFLICT).body(result);
+    }
+}
@@ -0,0 +1,62 @@
+package com.study.manca.controller;
+
+import com.study.manca.dto.ReservationRequest;
+import com.study.manca.dto.ReservationResponse;
+import com.study.manca.service.ReservationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Reservation", description = "도서 예약 API")
+@RestController
+@RequestMapping("/api/reservations")
+@RequiredArgsConstructor
+public class ReservationController {
+
+    private final ReservationService reservationService;
+
+    @Operation(summary = "도서별 예약 현황", description = "특정 도서의 보관중인 예약과 대기 예약을 대기 순서대로 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "도서를 찾을 수 없음")
+    })
+    @GetMapping("/book/{bookId}")
+    public ResponseEntity<List<ReservationResponse>> getReservationsByBookId(
+            @Parameter(description = "도서 ID", required = true) @PathVariable Long bookId) {
+        return ResponseEntity.ok(reservationService.findByBookId(bookId));
+    }
+
+    @Operation(summary = "도서 예약", description = "대여중인 도서(또는 시리즈 권의 도서코드)에 예약을 겁니다. 반납되면 예약 순서대로 한 명에게 보관되며, 보관 기한 안에 그 회원만 대여할 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "예약 성공"),
+        @ApiResponse(responseCode = "404", description = "회원 또는 도서를 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "대여 가능한 도서이거나 이미 예약함")
+    })
+    @PostMapping
+    public ResponseEntity<ReservationResponse> createReservation(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "예약 정보")
+            @RequestBody ReservationRequest request) {
+        ReservationResponse reservation = reservationService.reserve(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
+    }
+
+    @Operation(summary = "예약 취소", description = "대기/보관중인 예약을 취소합니다. 보관중이던 예약이면 다음 대기자에게 넘어갑니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "취소 성공"),
+        @ApiResponse(responseCode = "404", description = "예약을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "이미 끝난 예약")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ReservationResponse> cancelReservation(
+            @Parameter(description = "예약 ID", required = true) @PathVariable Long id) {
+        return ResponseEntity.ok(reservationService.cancel(id));
+    }
+}
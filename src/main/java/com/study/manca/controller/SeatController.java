@@ -0,0 +1,136 @@
+package com.study.manca.controller;
+
+import com.study.manca.dto.SeatAllocateRequest;
+import com.study.manca.dto.SeatAssignRequest;
+import com.study.manca.dto.SeatHoldRequest;
+import com.study.manca.dto.SeatMeterResponse;
+import com.study.manca.dto.SeatResponse;
+import com.study.manca.service.SeatEventBroadcaster;
+import com.study.manca.service.SeatService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@Tag(name = "Seat", description = "좌석 관리 API")
+@RestController
+@RequestMapping("/api/seats")
+@RequiredArgsConstructor
+public class SeatController {
+
+    private final SeatService seatService;
+    private final SeatEventBroadcaster seatEventBroadcaster;
+
+    @Operation(summary = "전체 좌석 현황", description = "모든 좌석의 현재 상태를 좌석번호 순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping
+    public ResponseEntity<List<SeatResponse>> getAllSeats() {
+        List<SeatResponse> seats = seatService.findAll();
+        return ResponseEntity.ok(seats);
+    }
+
+    @Operation(summary = "좌석 현황 스트림", description = "SSE 로 처음에 전체 좌석(snapshot)을 보내고, 이후에는 바뀐 좌석(seat)만 보냅니다. 너무 느린 클라이언트는 연결이 끊기며 다시 연결하면 새 스냅샷부터 받습니다.")
+    @ApiResponse(responseCode = "200", description = "구독 성공")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeats() {
+        return seatEventBroadcaster.subscribe();
+    }
+
+    @Operation(summary = "이용요금 현황", description = "사용중인 모든 좌석의 이용 시작 시각과 현재까지의 이용요금을 조회합니다. DB 를 읽지 않고 메모리의 좌석 상태로 계산합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/meters")
+    public ResponseEntity<List<SeatMeterResponse>> getMeters() {
+        List<SeatMeterResponse> meters = seatService.findMeters();
+        return ResponseEntity.ok(meters);
+    }
+
+    @Operation(summary = "좌석 상세 조회", description = "좌석번호로 좌석의 현재 상태를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "좌석을 찾을 수 없음")
+    })
+    @GetMapping("/{seatNumber}")
+    public ResponseEntity<SeatResponse> getSeat(
+            @Parameter(description = "좌석번호", required = true) @PathVariable String seatNumber) {
+        SeatResponse seat = seatService.findBySeatNumber(seatNumber);
+        return ResponseEntity.ok(seat);
+    }
+
+    @Operation(summary = "좌석 이용요금 조회", description = "사용중인 좌석의 이용 시작 시각과 현재까지의 이용요금을 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "좌석을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "사용중인 좌석이 아님")
+    })
+    @GetMapping("/{seatNumber}/meter")
+    public ResponseEntity<SeatMeterResponse> getMeter(
+            @Parameter(description = "좌석번호", required = true) @PathVariable String seatNumber) {
+        SeatMeterResponse meter = seatService.findMeter(seatNumber);
+        return ResponseEntity.ok(meter);
+    }
+
+    @Operation(summary = "좌석 배정", description = "사용 가능한 좌석, 또는 같은 회원이 예약해 둔 좌석을 회원에게 배정합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "배정 성공"),
+        @ApiResponse(responseCode = "404", description = "좌석 또는 회원을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "사용 가능한 좌석이 아님")
+    })
+    @PostMapping("/{seatNumber}/assign")
+    public ResponseEntity<SeatResponse> assignSeat(
+            @Parameter(description = "좌석번호", required = true) @PathVariable String seatNumber,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "배정할 회원")
+            @RequestBody SeatAssignRequest request) {
+        SeatResponse seat = seatService.assign(seatNumber, request.getMemberId());
+        return ResponseEntity.ok(seat);
+    }
+
+    @Operation(summary = "빈 좌석 자동 배정", description = "요청한 좌석타입에서 원하는 구역(좌석번호 앞자리) 순서대로, 번호가 가장 앞선 빈 좌석을 배정합니다. 원하는 구역이 모두 차 있으면 다른 구역에서 배정합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "배정 성공"),
+        @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "배정 가능한 좌석이 없음")
+    })
+    @PostMapping("/allocate")
+    public ResponseEntity<SeatResponse> allocateSeat(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "좌석타입/구역/회원")
+            @RequestBody SeatAllocateRequest request) {
+        SeatResponse seat = seatService.allocate(request);
+        return ResponseEntity.ok(seat);
+    }
+
+    @Operation(summary = "좌석 예약", description = "사용 가능한 좌석을 정해진 시간(분) 동안 회원에게 잡아 둡니다. 그 안에 같은 회원이 배정받으면 사용중이 되고, 지나면 자동으로 해제됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "예약 성공"),
+        @ApiResponse(responseCode = "400", description = "예약 시간이 허용 범위를 벗어남"),
+        @ApiResponse(responseCode = "404", description = "좌석 또는 회원을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "사용 가능한 좌석이 아님")
+    })
+    @PostMapping("/{seatNumber}/hold")
+    public ResponseEntity<SeatResponse> holdSeat(
+            @Parameter(description = "좌석번호", required = true) @PathVariable String seatNumber,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "예약할 회원과 유지 시간")
+            @RequestBody SeatHoldRequest request) {
+        SeatResponse seat = seatService.hold(seatNumber, request);
+        return ResponseEntity.ok(seat);
+    }
+
+    @Operation(summary = "좌석 해제", description = "좌석을 비우고 사용 가능 상태로 되돌립니다. 예약중인 좌석이면 예약을 취소합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "해제 성공"),
+        @ApiResponse(responseCode = "404", description = "좌석을 찾을 수 없음")
+    })
+    @PostMapping("/{seatNumber}/release")
+    public ResponseEntity<SeatResponse> releaseSeat(
+            @Parameter(description = "좌석번호", required = true) @PathVariable String seatNumber) {
+        SeatResponse seat = seatService.release(seatNumber);
+        return ResponseEntity.ok(seat);
+    }
+}
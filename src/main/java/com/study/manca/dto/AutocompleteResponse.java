@@ -0,0 +1,20 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "자동완성 후보")
+@Getter
+@Builder
+public class AutocompleteResponse {
+
+    @Schema(description = "후보 종류 (TITLE, AUTHOR, MEMBER)", example = "TITLE")
+    private String field;
+
+    @Schema(description = "후보 문자열", example = "원피스")
+    private String text;
+
+    @Schema(description = "같은 문자열을 가진 도서/회원 수 (순위 가중치)", example = "40")
+    private int count;
+}
@@ -0,0 +1,41 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "도서 일괄 등록 결과")
+@Getter
+@Builder
+public class BookBulkResponse {
+
+    private int total;  // 요청 행 수
+    private int created;  // 등록된 행 수
+    private int failed;  // 실패한 행 수 (중복/검증 실패)
+    private long elapsedMillis;  // 처리 시간
+    private double rowsPerSecond;  // 초당 등록 행 수
+    private List<RowResult> results;  // 행별 결과 (요청 순서)
+
+    public enum RowStatus {
+        CREATED,    // 등록됨
+        DUPLICATE,  // 도서코드 중복
+        INVALID     // 필수값 누락 등 검증 실패
+    }
+
+    @Getter
+    public static class RowResult {
+        private final int row;  // 요청 내 위치 (0부터)
+        private final String bookCode;
+        private final RowStatus status;
+        private final String message;
+
+        public RowResult(int row, String bookCode, RowStatus status, String message) {
+            this.row = row;
+            this.bookCode = bookCode;
+            this.status = status;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Schema(description = "도서 분류별 집계")
+@Getter
+@Builder
+public class BookFacetsResponse {
+
+    @Schema(description = "전체 도서 수", example = "15")
+    private long total;
+
+    @Schema(description = "대여상태별 도서 수")
+    private Map<String, Long> status;
+
+    @Schema(description = "장르별 도서 수")
+    private Map<String, Long> genre;
+
+    @Schema(description = "책 상태별 도서 수")
+    private Map<String, Long> condition;
+
+    @Schema(description = "서가위치별 도서 수 (위치 미지정은 UNSPECIFIED)")
+    private Map<String, Long> location;
+
+    @Schema(description = "출판사별 도서 수")
+    private Map<String, Long> publisher;
+}
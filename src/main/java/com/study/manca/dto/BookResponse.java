@@ -1,11 +1,14 @@
 package com.study.manca.dto;
 
 import com.study.manca.entity.Book;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class BookResponse {
 
     private Long id;
@@ -20,6 +23,16 @@ public class BookResponse {
     private String location;  // 서가위치 (예: A-01, B-03)
     private String remarks;  // 비고
 
+    /**
+     * JPQL 생성자 표현식용 (엔티티를 거치지 않고 컬럼 값으로 바로 생성)
+     */
+    public BookResponse(Long id, String bookCode, String title, String author, String publisher,
+                        Integer volume, String genre, Book.BookStatus status, Book.BookCondition condition,
+                        String location, String remarks) {
+        this(id, bookCode, title, author, publisher, volume, genre, status.name(), condition.name(),
+                location, remarks);
+    }
+
     public static BookResponse from(Book book) {
         return BookResponse.builder()
                 .id(book.getId())
@@ -0,0 +1,15 @@
+package com.study.manca.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BookSearchResponse {
+
+    private List<BookResponse> content;  // 검색 점수 순 도서 목록
+    private String nextCursor;  // 다음 페이지 요청 시 cursor 로 넘길 값 (마지막 페이지면 null)
+    private boolean hasNext;  // 다음 페이지 존재 여부
+}
@@ -0,0 +1,20 @@
+package com.study.manca.dto;
+
+import com.study.manca.entity.Book;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "도서 대여상태 전이 요청 (현재 상태가 from 일 때만 to 로 변경)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookStatusChangeRequest {
+
+    @Schema(description = "기대하는 현재 상태", example = "AVAILABLE")
+    private Book.BookStatus from;
+
+    @Schema(description = "변경할 상태", example = "DAMAGED")
+    private Book.BookStatus to;
+}
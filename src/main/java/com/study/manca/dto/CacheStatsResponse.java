@@ -0,0 +1,30 @@
+package com.study.manca.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "캐시 통계")
+@Getter
+@Builder
+public class CacheStatsResponse {
+
+    private String name;  // 캐시 이름
+    private long size;  // 현재 항목 수 (추정치)
+    private long hitCount;  // 적중 횟수
+    private long missCount;  // 미적중 횟수
+    private double hitRate;  // 적중률
+    private long evictionCount;  // 크기/TTL 로 밀려난 항목 수
+
+    public static CacheStatsResponse of(String name, long size, CacheStats stats) {
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(size)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
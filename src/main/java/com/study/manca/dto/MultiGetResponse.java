@@ -0,0 +1,43 @@
+package com.study.manca.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Getter
+@Builder
+public class MultiGetResponse<T> {
+
+    private List<T> content;  // 요청한 id 순서대로 정렬된 조회 결과 (중복 id 는 한 번만)
+    private List<Long> missingIds;  // 존재하지 않는 id 목록
+
+    // 한 번의 조회로 받은 결과를 요청 순서에 맞춰 다시 배치
+    public static <T> MultiGetResponse<T> of(Collection<Long> requestedIds, List<T> found, Function<T, Long> idOf) {
+        Map<Long, T> byId = new LinkedHashMap<>();
+        for (T item : found) {
+            byId.put(idOf.apply(item), item);
+        }
+
+        List<T> content = new ArrayList<>(byId.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(requestedIds)) {
+            T item = byId.get(id);
+            if (item != null) {
+                content.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return MultiGetResponse.<T>builder()
+                .content(content)
+                .missingIds(missingIds)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "인기 시리즈 순위 항목 (최근 7일 대여 수)")
+@Getter
+@AllArgsConstructor
+public class PopularTitleResponse {
+
+    private int rank;  // 순위 (1부터)
+    private String series;  // 시리즈 코드 (도서코드 형식이 아니면 null)
+    private String title;  // 제목
+    private int rentals;  // 기간 내 대여 수
+}
@@ -0,0 +1,30 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "일괄 대여 요청 (한 회원, 여러 도서)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalBatchCheckoutRequest {
+
+    @Schema(description = "회원 ID", example = "1")
+    private Long memberId;
+
+    @Schema(description = "대여할 도서코드 목록", example = "[\"MH-001-001\", \"MH-001-002\"]")
+    private List<String> bookCodes;
+
+    @Schema(description = "대여 일수 (생략 시 7일)", example = "7")
+    private Integer rentalDays;
+
+    @Schema(description = "비고 (모든 대여에 동일하게 기록)", example = "시리즈 대여")
+    private String remarks;
+
+    @Schema(description = "처리 방식 (생략 시 ALL_OR_NOTHING)", example = "ALL_OR_NOTHING")
+    private RentalBatchMode mode;
+}
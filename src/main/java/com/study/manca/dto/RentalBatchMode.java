@@ -0,0 +1,9 @@
+package com.study.manca.dto;
+
+/**
+ * 일괄 대여/반납 처리 방식
+ */
+public enum RentalBatchMode {
+    ALL_OR_NOTHING,  // 하나라도 처리할 수 없으면 아무것도 반영하지 않음
+    PER_ITEM         // 처리할 수 있는 도서만 반영하고 나머지는 도서별 사유로 돌려줌
+}
@@ -0,0 +1,51 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "일괄 대여/반납 결과")
+@Getter
+@Builder
+public class RentalBatchResponse {
+
+    private RentalBatchMode mode;  // 처리 방식
+    private int requested;  // 요청한 도서코드 수
+    private int succeeded;  // 반영된 도서 수
+    private int failed;  // 처리할 수 없던 도서 수 (중복 스캔 제외)
+    private boolean applied;  // 반영 여부 (ALL_OR_NOTHING 에서 실패가 있으면 false)
+    private List<ItemResult> results;  // 도서별 결과 (요청 순서)
+
+    public enum ItemStatus {
+        RENTED,         // 대여됨
+        RETURNED,       // 반납됨
+        NOT_FOUND,      // 등록되지 않은 도서코드
+        NOT_AVAILABLE,  // 대여 가능한 상태가 아님
+        NOT_RENTED,     // 대여중인 내역이 없음
+        DUPLICATE,      // 같은 요청에 이미 있는 도서코드 (무시)
+        SKIPPED         // 처리할 수 있었지만 다른 도서의 실패로 반영하지 않음 (ALL_OR_NOTHING)
+    }
+
+    @Getter
+    public static class ItemResult {
+        private final String bookCode;
+        private final ItemStatus status;
+        private final Long bookId;
+        private final Long rentalId;
+        private final LocalDateTime dueDateTime;  // 반납예정일시 (대여됨일 때)
+        private final String message;
+
+        public ItemResult(String bookCode, ItemStatus status, Long bookId, Long rentalId,
+                          LocalDateTime dueDateTime, String message) {
+            this.bookCode = bookCode;
+            this.status = status;
+            this.bookId = bookId;
+            this.rentalId = rentalId;
+            this.dueDateTime = dueDateTime;
+            this.message = message;
+        }
+    }
+}
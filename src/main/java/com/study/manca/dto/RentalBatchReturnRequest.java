@@ -0,0 +1,21 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "일괄 반납 요청 (스캔한 도서코드 묶음)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalBatchReturnRequest {
+
+    @Schema(description = "반납할 도서코드 목록", example = "[\"MH-001-003\", \"MH-002-002\"]")
+    private List<String> bookCodes;
+
+    @Schema(description = "처리 방식 (생략 시 ALL_OR_NOTHING)", example = "PER_ITEM")
+    private RentalBatchMode mode;
+}
@@ -0,0 +1,25 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "대여 등록 요청")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalRequest {
+
+    @Schema(description = "회원 ID", example = "1")
+    private Long memberId;
+
+    @Schema(description = "도서 ID", example = "1")
+    private Long bookId;
+
+    @Schema(description = "대여 일수 (생략 시 7일)", example = "7")
+    private Integer rentalDays;
+
+    @Schema(description = "비고", example = "주의하여 반납")
+    private String remarks;
+}
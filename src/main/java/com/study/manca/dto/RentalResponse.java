@@ -0,0 +1,53 @@
+package com.study.manca.dto;
+
+import com.study.manca.entity.Rental;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RentalResponse {
+
+    private Long id;
+    private Long memberId;  // 대여고객
+    private String memberName;
+    private Long bookId;  // 대여도서
+    private String bookCode;
+    private String bookTitle;
+    private LocalDateTime rentalDateTime;  // 대여일시
+    private LocalDateTime returnDateTime;  // 반납일시
+    private LocalDateTime dueDateTime;  // 반납예정일시
+    private String status;  // 대여상태
+    private String remarks;  // 비고
+
+    /**
+     * JPQL 생성자 표현식용 (대여/회원/도서를 한 번의 조인으로 읽어 회원/도서 엔티티를 따로 불러오지 않음)
+     */
+    public RentalResponse(Long id, Long memberId, String memberName, Long bookId, String bookCode, String bookTitle,
+                          LocalDateTime rentalDateTime, LocalDateTime returnDateTime, LocalDateTime dueDateTime,
+                          Rental.RentalStatus status, String remarks) {
+        this(id, memberId, memberName, bookId, bookCode, bookTitle, rentalDateTime, returnDateTime, dueDateTime,
+                status.name(), remarks);
+    }
+
+    public static RentalResponse from(Rental rental) {
+        return RentalResponse.builder()
+                .id(rental.getId())
+                .memberId(rental.getMember().getId())
+                .memberName(rental.getMember().getName())
+                .bookId(rental.getBook().getId())
+                .bookCode(rental.getBook().getBookCode())
+                .bookTitle(rental.getBook().getTitle())
+                .rentalDateTime(rental.getRentalDateTime())
+                .returnDateTime(rental.getReturnDateTime())
+                .dueDateTime(rental.getDueDateTime())
+                .status(rental.getStatus().name())
+                .remarks(rental.getRemarks())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.study.manca.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class RentalScrollResponse {
+
+    private List<RentalResponse> content;  // 현재 페이지 대여 목록
+    private Long nextCursor;  // 다음 페이지 요청 시 lastId 로 넘길 값 (마지막 페이지면 null)
+    private boolean hasNext;  // 다음 페이지 존재 여부
+
+    public static RentalScrollResponse of(List<RentalResponse> content, boolean hasNext) {
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+        return RentalScrollResponse.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "도서 예약 요청 (도서 ID 또는 시리즈 권의 도서코드 중 하나)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationRequest {
+
+    @Schema(description = "회원 ID", example = "1")
+    private Long memberId;
+
+    @Schema(description = "도서 ID", example = "3")
+    private Long bookId;
+
+    @Schema(description = "도서코드 (시리즈-권, 도서 ID 가 없을 때 사용)", example = "MH-001-003")
+    private String bookCode;
+}
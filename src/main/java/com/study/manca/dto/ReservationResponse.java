@@ -0,0 +1,20 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "도서 예약 정보")
+@Getter
+@Builder
+public class ReservationResponse {
+
+    private Long id;
+    private Long memberId;
+    private Long bookId;
+    private String status;  // WAITING(대기중), HELD(보관중), CANCELLED(취소)
+    private int position;  // 대기 순번 (1부터, 보관중/취소는 0)
+    private LocalDateTime heldUntil;  // 보관 기한 (보관중일 때)
+}
@@ -0,0 +1,38 @@
+package com.study.manca.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 판단에 쓰는 리소스 버전
+ * 엔티티나 응답 본문을 만들지 않고 updated_at 만으로 계산한다.
+ */
+@Getter
+public class ResourceVersion {
+
+    private final String eTag;
+    private final long lastModified;  // epoch millis
+
+    private ResourceVersion(String eTag, long lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    // 단건: 리소스 ID + 수정일시
+    public static ResourceVersion of(String resource, Long id, LocalDateTime updatedAt) {
+        long millis = toMillis(updatedAt);
+        return new ResourceVersion("\"" + resource + "-" + id + "-" + millis + "\"", millis);
+    }
+
+    // 목록: 최종 수정일시 + 행 수 (삭제도 행 수 변화로 감지)
+    public static ResourceVersion ofCollection(String resource, LocalDateTime lastModified, long total) {
+        long millis = toMillis(lastModified);
+        return new ResourceVersion("\"" + resource + "-" + total + "-" + millis + "\"", millis);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,25 @@
+package com.study.manca.dto;
+
+import com.study.manca.entity.Seat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "빈 좌석 자동 배정 요청")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAllocateRequest {
+
+    @Schema(description = "회원 ID", example = "1")
+    private Long memberId;
+
+    @Schema(description = "좌석타입", example = "PREMIUM")
+    private Seat.SeatType type;
+
+    @Schema(description = "원하는 구역 순서 (좌석번호 앞자리, 생략 가능)", example = "[\"B\", \"A\"]")
+    private List<String> zones;
+}
@@ -0,0 +1,16 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "좌석 배정 요청")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAssignRequest {
+
+    @Schema(description = "회원 ID", example = "1")
+    private Long memberId;
+}
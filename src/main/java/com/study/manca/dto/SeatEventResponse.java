@@ -0,0 +1,34 @@
+package com.study.manca.dto;
+
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatState;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "좌석 현황 스트림 항목 (스냅샷/변경분 공통)")
+@Getter
+@Builder
+public class SeatEventResponse {
+
+    @Schema(description = "좌석번호", example = "A-01")
+    private String seatNumber;
+
+    @Schema(description = "좌석타입", example = "REGULAR")
+    private Seat.SeatType type;
+
+    @Schema(description = "좌석상태", example = "OCCUPIED")
+    private Seat.SeatStatus status;
+
+    @Schema(description = "상태 버전 (같은 좌석에서 더 작은 버전은 무시)", example = "3")
+    private long version;
+
+    public static SeatEventResponse from(SeatState state) {
+        return SeatEventResponse.builder()
+                .seatNumber(state.seatNumber())
+                .type(state.type())
+                .status(state.status())
+                .version(state.version())
+                .build();
+    }
+}
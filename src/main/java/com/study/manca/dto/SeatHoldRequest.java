@@ -0,0 +1,19 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "좌석 예약 요청")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatHoldRequest {
+
+    @Schema(description = "회원 ID", example = "1")
+    private Long memberId;
+
+    @Schema(description = "예약 유지 시간(분, 생략 시 15분, 최대 60분)", example = "15")
+    private Integer minutes;
+}
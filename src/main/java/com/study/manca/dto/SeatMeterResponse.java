@@ -0,0 +1,39 @@
+package com.study.manca.dto;
+
+import com.study.manca.entity.Seat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "좌석 이용요금 (진행 중인 이용)")
+@Getter
+@Builder
+public class SeatMeterResponse {
+
+    @Schema(description = "좌석번호", example = "B-01")
+    private String seatNumber;
+
+    @Schema(description = "좌석타입", example = "PREMIUM")
+    private Seat.SeatType type;
+
+    @Schema(description = "사용중인 회원 ID", example = "2")
+    private Long memberId;
+
+    @Schema(description = "이용 시작 시각")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "계산 기준 시각")
+    private LocalDateTime measuredAt;
+
+    @Schema(description = "이용 시간(분, 내림)", example = "95")
+    private long elapsedMinutes;
+
+    @Schema(description = "시간당 요금", example = "3000")
+    private BigDecimal hourlyRate;
+
+    @Schema(description = "현재까지 이용요금 (원 단위 올림)", example = "4750")
+    private BigDecimal charge;
+}
@@ -0,0 +1,48 @@
+package com.study.manca.dto;
+
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatState;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "좌석 현황")
+@Getter
+@Builder
+public class SeatResponse {
+
+    @Schema(description = "좌석 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "좌석번호", example = "A-01")
+    private String seatNumber;
+
+    @Schema(description = "좌석타입", example = "REGULAR")
+    private Seat.SeatType type;
+
+    @Schema(description = "좌석상태", example = "OCCUPIED")
+    private Seat.SeatStatus status;
+
+    @Schema(description = "사용중인 회원 ID", example = "1")
+    private Long memberId;
+
+    @Schema(description = "예약 만료 시각 (예약중일 때만)")
+    private LocalDateTime holdExpiresAt;
+
+    @Schema(description = "상태 버전 (바뀔 때마다 증가)", example = "3")
+    private long version;
+
+    public static SeatResponse from(SeatState state) {
+        return SeatResponse.builder()
+                .id(state.id())
+                .seatNumber(state.seatNumber())
+                .type(state.type())
+                .status(state.status())
+                .memberId(state.memberId())
+                .holdExpiresAt(state.holdExpiresAt())
+                .version(state.version())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "시리즈 권별 대여가능 현황")
+@Getter
+@Builder
+public class SeriesAvailabilityResponse {
+
+    @Schema(description = "시리즈 코드 (도서코드 MH-<시리즈>-<권> 의 가운데)", example = "001")
+    private String series;
+
+    @Schema(description = "제목", example = "원피스")
+    private String title;
+
+    @Schema(description = "보유 권수", example = "40")
+    private int ownedVolumes;
+
+    @Schema(description = "대여가능 권수", example = "35")
+    private int availableCount;
+
+    @Schema(description = "대여가능 권 구간", example = "1-12, 15, 18-40")
+    private String availableVolumes;
+}
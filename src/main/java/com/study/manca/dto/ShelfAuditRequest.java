@@ -0,0 +1,35 @@
+package com.study.manca.dto;
+
+import com.study.manca.entity.Book;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "서가 점검 요청 (스캔한 도서 목록)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShelfAuditRequest {
+
+    @Schema(description = "스캔한 도서 목록")
+    private List<ScannedBook> scans;
+
+    @Schema(description = "스캔되지 않은 대여가능 도서를 분실(LOST)로 처리할지 여부", example = "false")
+    private boolean markMissingAsLost;
+
+    @Schema(description = "스캔한 도서")
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScannedBook {
+
+        @Schema(description = "도서코드", example = "MH-001-001")
+        private String bookCode;
+
+        @Schema(description = "확인한 책 상태 (생략 시 기존 값 유지)", example = "FAIR")
+        private Book.BookCondition condition;
+    }
+}
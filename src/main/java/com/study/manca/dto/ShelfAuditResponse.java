@@ -0,0 +1,19 @@
+package com.study.manca.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "서가 점검 결과")
+@Getter
+@Builder
+public class ShelfAuditResponse {
+
+    private String location;  // 점검한 서가위치
+    private int scanned;  // 스캔한 도서 수 (중복 제외)
+    private int updated;  // 상태/위치가 반영된 도서 수
+    private List<String> unknownBookCodes;  // 등록되지 않은 도서코드
+    private List<BookResponse> missing;  // 서가에 있어야 하지만 스캔되지 않은 도서
+}
@@ -1,5 +1,6 @@
 package com.study.manca.entity;
 
+import com.study.manca.event.BookFacets;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -9,6 +10,7 @@ import lombok.*;
  */
 @Entity
 @Table(name = "books")
+@EntityListeners(BookEntityListener.class)
 @Getter
 @Setter
 @Builder
@@ -54,9 +56,24 @@ public class Book extends BaseEntity {
     @Column(length = 1000)
     private String remarks;  // 비고
 
+    @Version
+    private Long version;  // 낙관적 락 버전 (동시 상태 변경 감지)
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private BookFacets loadedFacets;  // 마지막으로 DB 와 동기화된 분류 값 (변경 이벤트의 이전 값)
+
+    /**
+     * 현재 분류 값을 DB 와 동기화된 값으로 기록 (조회/저장 직후 엔티티 리스너에서 호출)
+     */
+    void rememberLoadedFacets() {
+        this.loadedFacets = BookFacets.of(this);
+    }
+
     public enum BookStatus {
         AVAILABLE,  // 대여가능
         RENTED,     // 대여중
+        RESERVED,   // 예약 보관중 (보관 대상 회원만 대여 가능)
         LOST,       // 분실
         DAMAGED     // 훼손
     }
@@ -0,0 +1,43 @@
+package com.study.manca.entity;
+
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.BookChangedEvent.ChangeType;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 도서 엔티티 리스너
+ * 대여/반납/상태수정 등 어떤 경로로 도서가 바뀌어도 BookChangedEvent 를 발행한다.
+ * (Hibernate 가 SpringBeanContainer 를 통해 생성하므로 생성자 주입이 가능하다)
+ */
+@RequiredArgsConstructor
+public class BookEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoaded(Book book) {
+        book.rememberLoadedFacets();
+    }
+
+    @PostPersist
+    public void onCreated(Book book) {
+        eventPublisher.publishEvent(BookChangedEvent.of(ChangeType.CREATED, book));
+        book.rememberLoadedFacets();
+    }
+
+    @PostUpdate
+    public void onUpdated(Book book) {
+        eventPublisher.publishEvent(BookChangedEvent.of(ChangeType.UPDATED, book));
+        book.rememberLoadedFacets();
+    }
+
+    @PostRemove
+    public void onRemoved(Book book) {
+        eventPublisher.publishEvent(BookChangedEvent.of(ChangeType.DELETED, book));
+    }
+}
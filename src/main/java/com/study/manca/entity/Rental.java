@@ -47,6 +47,9 @@ public class Rental extends BaseEntity {
     @Column(length = 1000)
     private String remarks;  // 비고
 
+    @Version
+    private Long version;  // 낙관적 락 버전
+
     public enum RentalStatus {
         ACTIVE,     // 대여중
         RETURNED,   // 반납완료
@@ -55,8 +58,12 @@ public class Rental extends BaseEntity {
 
     /**
      * 반납 처리
+     * 도서 상태 변경은 Book 의 버전으로 검증되므로 동시에 반납/대여가 겹치면 커밋 시 충돌로 감지된다.
      */
     public void returnBook() {
+        if (this.status == RentalStatus.RETURNED) {
+            throw new IllegalStateException("이미 반납된 대여입니다.");
+        }
         this.returnDateTime = LocalDateTime.now();
         this.status = RentalStatus.RETURNED;
         this.book.setStatus(Book.BookStatus.AVAILABLE);
@@ -64,8 +71,12 @@ public class Rental extends BaseEntity {
 
     /**
      * 연체 여부 확인
+     * 저장된 상태는 RentalOverdueScheduler 가 주기마다 OVERDUE 로 바꾸므로, 그 사이에는 반납예정일시로 판단한다.
      */
     public boolean isOverdue() {
+        if (status == RentalStatus.OVERDUE) {
+            return true;
+        }
         if (status == RentalStatus.RETURNED) {
             return false;
         }
@@ -77,6 +88,9 @@ public class Rental extends BaseEntity {
      */
     @PrePersist
     public void onRental() {
+        if (this.book.getStatus() != Book.BookStatus.AVAILABLE) {
+            throw new IllegalStateException("대여 가능한 도서가 아닙니다.");
+        }
         this.book.setStatus(Book.BookStatus.RENTED);
     }
 }
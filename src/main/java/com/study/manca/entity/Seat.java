@@ -3,6 +3,9 @@ package com.study.manca.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+import java.util.Objects;
+
 /**
  * 좌석 엔티티
  * 만화카페 좌석 관리
@@ -36,6 +39,10 @@ public class Seat extends BaseEntity {
     @JoinColumn(name = "current_member_id")
     private Member currentMember;  // 현재 사용중인 고객
 
+    private LocalDateTime statusChangedAt;  // 현재 상태가 된 시각 (사용중이면 이용 시작 시각)
+
+    private LocalDateTime holdExpiresAt;  // 예약 만료 시각 (예약중일 때만)
+
     @Column(length = 1000)
     private String remarks;  // 비고
 
@@ -49,6 +56,7 @@ public class Seat extends BaseEntity {
     public enum SeatStatus {
         AVAILABLE,      // 사용가능
         OCCUPIED,       // 사용중
+        HELD,           // 예약중 (만료되면 사용가능으로)
         MAINTENANCE     // 정비중
     }
 
@@ -56,11 +64,26 @@ public class Seat extends BaseEntity {
      * 좌석 배정
      */
     public void assignToMember(Member member) {
-        if (this.status != SeatStatus.AVAILABLE) {
+        boolean heldByMember = this.status == SeatStatus.HELD && this.currentMember != null && member != null
+                && Objects.equals(this.currentMember.getId(), member.getId());
+        if (this.status != SeatStatus.AVAILABLE && !heldByMember) {
             throw new IllegalStateException("사용 가능한 좌석이 아닙니다.");
         }
         this.currentMember = member;
         this.status = SeatStatus.OCCUPIED;
+        this.holdExpiresAt = null;
+    }
+
+    /**
+     * 좌석 예약 (expiresAt 까지 오지 않으면 해제)
+     */
+    public void hold(Member member, LocalDateTime expiresAt) {
+        if (this.status != SeatStatus.AVAILABLE) {
+            throw new IllegalStateException("사용 가능한 좌석이 아닙니다.");
+        }
+        this.currentMember = member;
+        this.status = SeatStatus.HELD;
+        this.holdExpiresAt = expiresAt;
     }
 
     /**
@@ -69,5 +92,6 @@ public class Seat extends BaseEntity {
     public void release() {
         this.currentMember = null;
         this.status = SeatStatus.AVAILABLE;
+        this.holdExpiresAt = null;
     }
 }
@@ -0,0 +1,52 @@
+package com.study.manca.event;
+
+import com.study.manca.entity.Book;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 도서 변경 이벤트
+ * 도서가 등록/수정/삭제되면 발행되며, 메모리 인덱스들이 커밋 이후에 받아서 갱신한다.
+ */
+@Getter
+@Builder
+public class BookChangedEvent {
+
+    private final ChangeType type;
+    private final Long bookId;
+    private final String bookCode;
+    private final String title;
+    private final String author;
+    private final String publisher;
+    private final String genre;
+    private final Book.BookStatus status;
+    private final Book.BookCondition condition;
+    private final String location;
+    private final BookFacets previousFacets;  // 수정/삭제 전 분류 값 (등록 시 null)
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public BookFacets getFacets() {
+        return new BookFacets(status, genre, condition, location, publisher);
+    }
+
+    public static BookChangedEvent of(ChangeType type, Book book) {
+        return BookChangedEvent.builder()
+                .type(type)
+                .bookId(book.getId())
+                .bookCode(book.getBookCode())
+                .title(book.getTitle())
+                .author(book.getAuthor())
+                .publisher(book.getPublisher())
+                .genre(book.getGenre())
+                .status(book.getStatus())
+                .condition(book.getCondition())
+                .location(book.getLocation())
+                .previousFacets(book.getLoadedFacets())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.study.manca.event;
+
+import com.study.manca.entity.Book;
+
+/**
+ * 도서의 분류 항목 값 묶음 (상태/장르/책상태/서가위치/출판사)
+ * 변경 전후 값을 비교해 분류별 집계를 증감할 때 사용한다.
+ */
+public record BookFacets(Book.BookStatus status,
+                         String genre,
+                         Book.BookCondition condition,
+                         String location,
+                         String publisher) {
+
+    public static BookFacets of(Book book) {
+        return new BookFacets(book.getStatus(), book.getGenre(), book.getCondition(),
+                book.getLocation(), book.getPublisher());
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.manca.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 변경 이벤트
+ * 회원이 등록/수정/삭제되면 MemberService 가 발행하고, 메모리 인덱스들이 커밋 이후에 받아서 갱신한다.
+ */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class MemberChangedEvent {
+
+    private final ChangeType type;
+    private final Long memberId;
+    private final String name;  // 삭제 시 null
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,27 @@
+package com.study.manca.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 변경 이벤트
+ * 대여/반납/연체 전환 시 발행되며, 메모리 인덱스들이 커밋 이후에 받아서 갱신한다.
+ */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class RentalChangedEvent {
+
+    private final ChangeType type;
+    private final Long rentalId;
+    private final Long memberId;
+    private final Long bookId;
+    private final LocalDateTime dueDateTime;  // 반납예정일시
+
+    public enum ChangeType {
+        RENTED,
+        RETURNED,
+        OVERDUE
+    }
+}
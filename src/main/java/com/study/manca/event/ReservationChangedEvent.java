@@ -0,0 +1,29 @@
+package com.study.manca.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 변경 이벤트
+ * 예약 등록/보관/대여/취소/보관 만료 시 ReservationService 가 발행하고, 예약 대기열이 커밋 이후에 받아서 갱신한다.
+ */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class ReservationChangedEvent {
+
+    private final ChangeType type;
+    private final Long reservationId;
+    private final Long memberId;
+    private final Long bookId;
+    private final LocalDateTime heldUntil;  // 보관 기한 (보관 시에만)
+
+    public enum ChangeType {
+        WAITING,    // 대기 등록
+        HELD,       // 반납된 도서를 보관
+        FULFILLED,  // 보관된 도서를 대여
+        CANCELLED,  // 취소
+        EXPIRED     // 보관 기한 만료
+    }
+}
@@ -0,0 +1,16 @@
+package com.study.manca.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좌석 변경 이벤트
+ * SeatRegistry 에서 compare-and-set 에 성공할 때마다 발행된다 (트랜잭션과 무관하게 즉시).
+ */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class SeatChangedEvent {
+
+    private final SeatState previous;
+    private final SeatState current;
+}
@@ -0,0 +1,59 @@
+package com.study.manca.event;
+
+import com.study.manca.entity.Seat;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 좌석 한 개의 현재 상태 (불변)
+ * SeatRegistry 가 좌석마다 AtomicReference 로 들고 있으며, 변경은 새 값으로 compare-and-set 한다.
+ * since 는 지금 상태가 된 시각(사용중이면 이용 시작 시각), holdExpiresAt 은 예약중일 때만 있는 만료 시각,
+ * version 은 변경될 때마다 1씩 증가한다.
+ */
+public record SeatState(Long id,
+                        String seatNumber,
+                        Seat.SeatType type,
+                        Seat.SeatStatus status,
+                        Long memberId,
+                        LocalDateTime since,
+                        LocalDateTime holdExpiresAt,
+                        long version) {
+
+    // JPQL 생성자 표현식용 (DB 에서 복구할 때는 version 0 부터 시작)
+    public SeatState(Long id, String seatNumber, Seat.SeatType type, Seat.SeatStatus status, Long memberId,
+                     LocalDateTime since, LocalDateTime holdExpiresAt) {
+        this(id, seatNumber, type, status, memberId, since, holdExpiresAt, 0L);
+    }
+
+    /**
+     * 좌석 배정 (Seat.assignToMember 와 같은 규칙)
+     */
+    public SeatState assignTo(Long memberId, LocalDateTime at) {
+        if (status != Seat.SeatStatus.AVAILABLE && !isHeldBy(memberId)) {
+            throw new IllegalStateException("사용 가능한 좌석이 아닙니다.");
+        }
+        return new SeatState(id, seatNumber, type, Seat.SeatStatus.OCCUPIED, memberId, at, null, version + 1);
+    }
+
+    /**
+     * 좌석 예약 (Seat.hold 와 같은 규칙)
+     */
+    public SeatState hold(Long memberId, LocalDateTime at, LocalDateTime expiresAt) {
+        if (status != Seat.SeatStatus.AVAILABLE) {
+            throw new IllegalStateException("사용 가능한 좌석이 아닙니다.");
+        }
+        return new SeatState(id, seatNumber, type, Seat.SeatStatus.HELD, memberId, at, expiresAt, version + 1);
+    }
+
+    /**
+     * 좌석 해제 (Seat.release 와 같은 규칙)
+     */
+    public SeatState release(LocalDateTime at) {
+        return new SeatState(id, seatNumber, type, Seat.SeatStatus.AVAILABLE, null, at, null, version + 1);
+    }
+
+    public boolean isHeldBy(Long memberId) {
+        return status == Seat.SeatStatus.HELD && Objects.equals(this.memberId, memberId);
+    }
+}
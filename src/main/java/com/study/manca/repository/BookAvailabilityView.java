@@ -0,0 +1,15 @@
+package com.study.manca.repository;
+
+import com.study.manca.entity.Book;
+
+/**
+ * 시리즈 대여가능 인덱스 적재용 프로젝션
+ */
+public interface BookAvailabilityView {
+
+    String getBookCode();
+
+    String getTitle();
+
+    Book.BookStatus getStatus();
+}
@@ -0,0 +1,25 @@
+package com.study.manca.repository;
+
+/**
+ * 조건부 UPDATE ... RETURNING 결과 프로젝션 (변경 이벤트 발행용)
+ */
+public interface BookChangeView {
+
+    Long getId();
+
+    String getBookCode();
+
+    String getTitle();
+
+    String getAuthor();
+
+    String getPublisher();
+
+    String getGenre();
+
+    String getStatus();
+
+    String getCondition();
+
+    String getLocation();
+}
@@ -1,9 +1,168 @@
 package com.study.manca.repository;
 
+import com.study.manca.dto.BookResponse;
 import com.study.manca.entity.Book;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
 
     boolean existsByBookCode(String bookCode);
+
+    Optional<Book> findByBookCode(String bookCode);
+
+    // 상태 전이 CAS: 현재 상태가 fromStatus 인 경우에만 바꾸고 바뀐 행을 돌려준다 (아니면 빈 결과)
+    @Query(value = """
+            UPDATE books
+               SET status = :toStatus, version = version + 1, updated_at = CURRENT_TIMESTAMP
+             WHERE id = :id AND status = :fromStatus
+            RETURNING id, book_code AS "bookCode", title, author, publisher, genre, status, condition, location
+            """, nativeQuery = true)
+    Optional<BookChangeView> compareAndSetStatus(@Param("id") Long id,
+                                                 @Param("fromStatus") String fromStatus,
+                                                 @Param("toStatus") String toStatus);
+
+    // 주어진 도서코드 중 이미 등록된 코드만 한 번에 조회
+    @Query("select b.bookCode from Book b where b.bookCode in :bookCodes")
+    List<String> findExistingBookCodes(@Param("bookCodes") Collection<String> bookCodes);
+
+    // 조회 전용 프로젝션 (엔티티 생성/영속성 컨텍스트 관리 없이 응답 DTO 로 바로 조회)
+    String RESPONSE_SELECT = "select new com.study.manca.dto.BookResponse(b.id, b.bookCode, b.title, b.author, "
+            + "b.publisher, b.volume, b.genre, b.status, b.condition, b.location, b.remarks) from Book b ";
+
+    @Query(RESPONSE_SELECT + "order by b.id")
+    List<BookResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + "where b.id = :id")
+    Optional<BookResponse> findResponseById(@Param("id") Long id);
+
+    // 다건 조회 (POS/키오스크용, 한 번의 IN 쿼리)
+    @Query(RESPONSE_SELECT + "where b.id in :ids")
+    List<BookResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 키셋 페이지네이션: 마지막으로 받은 id 이후의 도서를 id 순으로 조회
+    @Query(RESPONSE_SELECT + "where b.id > :lastId order by b.id")
+    List<BookResponse> findResponsesAfter(@Param("lastId") Long lastId, Limit limit);
+
+    // 전체 도서 스트리밍 조회 (커서 기반, 트랜잭션 안에서만 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(RESPONSE_SELECT + "order by b.id")
+    Stream<BookResponse> streamAllResponses();
+
+    // 서가위치별 도서 스트리밍 조회 (서가 점검용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(RESPONSE_SELECT + "where b.location = :location order by b.bookCode")
+    Stream<BookResponse> streamResponsesByLocation(@Param("location") String location);
+
+    /**
+     * 카탈로그 검색: 제목/작가 부분 문자열(pg_trgm GIN) 또는 단어(search_vector GIN) 일치.
+     * 점수 내림차순, 같은 점수는 id 오름차순으로 정렬하고 (lastScore, lastId) 이후부터 limit 건을 읽는다.
+     */
+    String SEARCH_SQL = """
+            SELECT matched.*
+              FROM (SELECT b.id, b.book_code AS "bookCode", b.title, b.author, b.publisher, b.volume, b.genre,
+                           b.status, b.condition, b.location, b.remarks,
+                           CAST(GREATEST(word_similarity(:query, b.title),
+                                         word_similarity(:query, b.author),
+                                         ts_rank(b.search_vector, plainto_tsquery('simple', :query))) AS real) AS score
+                      FROM books b
+                     WHERE (b.title ILIKE :pattern OR b.author ILIKE :pattern
+                            OR b.search_vector @@ plainto_tsquery('simple', :query))
+                       AND (CAST(:status AS varchar) IS NULL OR b.status = :status)
+                       AND (CAST(:genre AS varchar) IS NULL OR b.genre = :genre)
+                       AND (CAST(:condition AS varchar) IS NULL OR b.condition = :condition)) matched
+             WHERE CAST(:lastScore AS real) IS NULL
+                OR matched.score < CAST(:lastScore AS real)
+                OR (matched.score = CAST(:lastScore AS real) AND matched.id > :lastId)
+             ORDER BY matched.score DESC, matched.id
+             LIMIT :limit
+            """;
+
+    @Query(value = SEARCH_SQL, nativeQuery = true)
+    List<BookSearchView> search(@Param("query") String query,
+                                @Param("pattern") String pattern,
+                                @Param("status") String status,
+                                @Param("genre") String genre,
+                                @Param("condition") String condition,
+                                @Param("lastScore") Float lastScore,
+                                @Param("lastId") Long lastId,
+                                @Param("limit") int limit);
+
+    /**
+     * 짧은 검색어(트라이그램이 나오지 않는 3글자 미만) 검색: 단어 앞부분 일치(search_vector GIN)만 사용한다.
+     * prefixQuery 는 단어별 접두 tsquery (예: '마법':*), 정렬/키셋 조건은 SEARCH_SQL 과 같다.
+     */
+    String PREFIX_SEARCH_SQL = """
+            SELECT matched.*
+              FROM (SELECT b.id, b.book_code AS "bookCode", b.title, b.author, b.publisher, b.volume, b.genre,
+                           b.status, b.condition, b.location, b.remarks,
+                           CAST(GREATEST(word_similarity(:query, b.title),
+                                         word_similarity(:query, b.author),
+                                         ts_rank(b.search_vector, to_tsquery('simple', :prefixQuery))) AS real) AS score
+                      FROM books b
+                     WHERE b.search_vector @@ to_tsquery('simple', :prefixQuery)
+                       AND (CAST(:status AS varchar) IS NULL OR b.status = :status)
+                       AND (CAST(:genre AS varchar) IS NULL OR b.genre = :genre)
+                       AND (CAST(:condition AS varchar) IS NULL OR b.condition = :condition)) matched
+             WHERE CAST(:lastScore AS real) IS NULL
+                OR matched.score < CAST(:lastScore AS real)
+                OR (matched.score = CAST(:lastScore AS real) AND matched.id > :lastId)
+             ORDER BY matched.score DESC, matched.id
+             LIMIT :limit
+            """;
+
+    @Query(value = PREFIX_SEARCH_SQL, nativeQuery = true)
+    List<BookSearchView> searchByWordPrefix(@Param("query") String query,
+                                            @Param("prefixQuery") String prefixQuery,
+                                            @Param("status") String status,
+                                            @Param("genre") String genre,
+                                            @Param("condition") String condition,
+                                            @Param("lastScore") Float lastScore,
+                                            @Param("lastId") Long lastId,
+                                            @Param("limit") int limit);
+
+    // 시리즈 대여가능 인덱스 적재용 (도서코드/제목/상태만 조회)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select b.bookCode as bookCode, b.title as title, b.status as status from Book b")
+    Stream<BookAvailabilityView> streamAvailability();
+
+    // 자동완성 인덱스 적재용 (id/제목/작가만 조회)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select b.id as id, b.title as title, b.author as author from Book b")
+    Stream<BookTermsView> streamTerms();
+
+    // 분류별 도서 수를 한 번의 스캔으로 집계 (분류 집계 초기 적재/보정용)
+    @Query(value = """
+            SELECT CASE
+                       WHEN GROUPING(status) = 0 THEN 'status'
+                       WHEN GROUPING(genre) = 0 THEN 'genre'
+                       WHEN GROUPING(condition) = 0 THEN 'condition'
+                       WHEN GROUPING(location) = 0 THEN 'location'
+                       ELSE 'publisher'
+                   END AS facet,
+                   COALESCE(status, genre, condition, location, publisher) AS value,
+                   COUNT(*) AS total
+            FROM books
+            GROUP BY GROUPING SETS ((status), (genre), (condition), (location), (publisher))
+            """, nativeQuery = true)
+    List<FacetCountView> countFacets();
+
+    // 조건부 GET 용 단건 수정일시
+    @Query("select b.updatedAt from Book b where b.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    // 조건부 GET 용 목록 버전 (최종 수정일시 + 행 수)
+    @Query("select max(b.updatedAt) as lastModified, count(b) as total from Book b")
+    TableVersionView findTableVersion();
 }
@@ -0,0 +1,31 @@
+package com.study.manca.repository;
+
+/**
+ * 도서 검색 결과 프로젝션 (검색 점수 포함)
+ */
+public interface BookSearchView {
+
+    Long getId();
+
+    String getBookCode();
+
+    String getTitle();
+
+    String getAuthor();
+
+    String getPublisher();
+
+    Integer getVolume();
+
+    String getGenre();
+
+    String getStatus();
+
+    String getCondition();
+
+    String getLocation();
+
+    String getRemarks();
+
+    Float getScore();
+}
@@ -0,0 +1,13 @@
+package com.study.manca.repository;
+
+/**
+ * 자동완성 인덱스 적재용 프로젝션
+ */
+public interface BookTermsView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getAuthor();
+}
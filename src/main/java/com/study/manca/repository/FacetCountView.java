@@ -0,0 +1,13 @@
+package com.study.manca.repository;
+
+/**
+ * 분류별 집계 결과 프로젝션 (facet: status/genre/condition/location/publisher)
+ */
+public interface FacetCountView {
+
+    String getFacet();
+
+    String getValue();
+
+    Long getTotal();
+}
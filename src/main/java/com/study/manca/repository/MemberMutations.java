@@ -0,0 +1,20 @@
+package com.study.manca.repository;
+
+import com.study.manca.dto.MemberResponse;
+
+import java.util.Optional;
+
+/**
+ * 회원 변경 빠른 경로 (엔티티를 읽지 않고 한 번의 SQL 로 변경 후 결과를 돌려받음)
+ * 대상 회원이 없으면 빈 결과/false 를 반환한다.
+ */
+public interface MemberMutations {
+
+    // 이름/이메일/전화번호 전체 변경
+    Optional<MemberResponse> updateReturning(Long id, String name, String email, String phone);
+
+    // null 이 아닌 컬럼만 변경
+    Optional<MemberResponse> patchReturning(Long id, String name, String email, String phone);
+
+    boolean deleteReturning(Long id);
+}
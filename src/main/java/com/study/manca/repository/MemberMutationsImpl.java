@@ -0,0 +1,65 @@
+package com.study.manca.repository;
+
+import com.study.manca.dto.MemberResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+class MemberMutationsImpl implements MemberMutations {
+
+    private static final String RETURNING = " RETURNING id, name, email, phone, created_at, updated_at";
+
+    private static final RowMapper<MemberResponse> RESPONSE_MAPPER = (rs, rowNum) -> new MemberResponse(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("email"),
+            rs.getString("phone"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<MemberResponse> updateReturning(Long id, String name, String email, String phone) {
+        List<MemberResponse> rows = jdbcTemplate.query(
+                "UPDATE members SET name = ?, email = ?, phone = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?"
+                        + RETURNING,
+                RESPONSE_MAPPER, name, email, phone, id);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public Optional<MemberResponse> patchReturning(Long id, String name, String email, String phone) {
+        StringBuilder sql = new StringBuilder("UPDATE members SET ");
+        List<Object> args = new ArrayList<>(4);
+        if (name != null) {
+            sql.append("name = ?, ");
+            args.add(name);
+        }
+        if (email != null) {
+            sql.append("email = ?, ");
+            args.add(email);
+        }
+        if (phone != null) {
+            sql.append("phone = ?, ");
+            args.add(phone);
+        }
+        sql.append("updated_at = CURRENT_TIMESTAMP WHERE id = ?").append(RETURNING);
+        args.add(id);
+
+        List<MemberResponse> rows = jdbcTemplate.query(sql.toString(), RESPONSE_MAPPER, args.toArray());
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public boolean deleteReturning(Long id) {
+        List<Long> deleted = jdbcTemplate.queryForList("DELETE FROM members WHERE id = ? RETURNING id", Long.class, id);
+        return !deleted.isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package com.study.manca.repository;
+
+/**
+ * 자동완성 인덱스 적재용 프로젝션
+ */
+public interface MemberNameView {
+
+    Long getId();
+
+    String getName();
+}
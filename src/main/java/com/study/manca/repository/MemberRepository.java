@@ -1,15 +1,58 @@
 package com.study.manca.repository;
 
+import com.study.manca.dto.MemberResponse;
 import com.study.manca.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberMutations {
 
     // 이메일로 사용자 조회
     Optional<Member> findByEmail(String email);
 
-    // 이메일 중복 확인
-    boolean existsByEmail(String email);
+    // 이메일 중복 확인 (대소문자 무시, members(lower(email)) 유니크 인덱스 사용)
+    @Query("select count(m) > 0 from Member m where lower(m.email) = lower(:email)")
+    boolean existsByEmail(@Param("email") String email);
+
+    // 이메일 블룸 필터 적재용 (소문자로 정규화된 이메일만 조회)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select lower(m.email) from Member m where m.email is not null")
+    Stream<String> streamNormalizedEmails();
+
+    // 자동완성 인덱스 적재용 (id/이름만 조회)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select m.id as id, m.name as name from Member m")
+    Stream<MemberNameView> streamNames();
+
+    // 조회 전용 프로젝션 (엔티티 생성/영속성 컨텍스트 관리 없이 응답 DTO 로 바로 조회)
+    String RESPONSE_SELECT = "select new com.study.manca.dto.MemberResponse(m.id, m.name, m.email, m.phone, "
+            + "m.createdAt, m.updatedAt) from Member m ";
+
+    @Query(RESPONSE_SELECT + "order by m.id")
+    List<MemberResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + "where m.id = :id")
+    Optional<MemberResponse> findResponseById(@Param("id") Long id);
+
+    // 다건 조회 (POS/키오스크용, 한 번의 IN 쿼리)
+    @Query(RESPONSE_SELECT + "where m.id in :ids")
+    List<MemberResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 조건부 GET 용 단건 수정일시
+    @Query("select m.updatedAt from Member m where m.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    // 조건부 GET 용 목록 버전 (최종 수정일시 + 행 수)
+    @Query("select max(m.updatedAt) as lastModified, count(m) as total from Member m")
+    TableVersionView findTableVersion();
 }
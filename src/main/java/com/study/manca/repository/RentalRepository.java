@@ -0,0 +1,35 @@
+package com.study.manca.repository;
+
+import com.study.manca.dto.RentalResponse;
+import com.study.manca.entity.Rental;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RentalRepository extends JpaRepository<Rental, Long> {
+
+    // 단건 조회/반납용: 회원/도서를 같은 쿼리에서 함께 읽는다 (LAZY 연관을 응답 변환 시 따로 불러오지 않음)
+    @EntityGraph(attributePaths = {"member", "book"})
+    Optional<Rental> findWithMemberAndBookById(Long id);
+
+    // 목록 조회 전용 프로젝션 (대여 N건에 회원/도서 쿼리가 N번씩 붙지 않도록 한 번의 조인으로 응답 DTO 생성)
+    String RESPONSE_SELECT = "select new com.study.manca.dto.RentalResponse(r.id, m.id, m.name, b.id, b.bookCode, "
+            + "b.title, r.rentalDateTime, r.returnDateTime, r.dueDateTime, r.status, r.remarks) "
+            + "from Rental r join r.member m join r.book b ";
+
+    // 키셋 페이지네이션: 마지막으로 받은 id 이후의 대여를 id 순으로 조회
+    @Query(RESPONSE_SELECT + "where r.id > :lastId order by r.id")
+    List<RentalResponse> findResponsesAfter(@Param("lastId") Long lastId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "where m.id = :memberId order by r.rentalDateTime desc, r.id desc")
+    List<RentalResponse> findResponsesByMemberId(@Param("memberId") Long memberId);
+
+    // 반납예정일시가 이른 순 (대여중/연체는 idx_rentals_status_due_date_time 순서 그대로, 반납분은 보관 전 최근분만 남아 있음)
+    @Query(RESPONSE_SELECT + "where r.status = :status order by r.dueDateTime, r.id")
+    List<RentalResponse> findResponsesByStatus(@Param("status") Rental.RentalStatus status);
+}
@@ -0,0 +1,18 @@
+package com.study.manca.repository;
+
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface SeatRepository extends JpaRepository<Seat, Long> {
+
+    // 좌석 레지스트리 복구용 (엔티티/회원을 읽지 않고 상태만 조회)
+    // 상태 변경 시각이 없던 좌석은 마지막 수정 시각으로 대신한다
+    @Query("select new com.study.manca.event.SeatState(s.id, s.seatNumber, s.type, s.status, m.id, "
+            + "coalesce(s.statusChangedAt, s.updatedAt), s.holdExpiresAt) "
+            + "from Seat s left join s.currentMember m order by s.seatNumber")
+    List<SeatState> findAllStates();
+}
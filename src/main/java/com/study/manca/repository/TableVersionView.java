@@ -0,0 +1,13 @@
+package com.study.manca.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조건부 조회용 테이블 버전 (최종 수정일시 + 행 수)
+ */
+public interface TableVersionView {
+
+    LocalDateTime getLastModified();
+
+    long getTotal();
+}
@@ -0,0 +1,171 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.AutocompleteResponse;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.MemberChangedEvent;
+import com.study.manca.repository.BookRepository;
+import com.study.manca.repository.BookTermsView;
+import com.study.manca.repository.MemberNameView;
+import com.study.manca.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 제목/작가/회원이름 자동완성 인덱스
+ * 한글은 자모 단위로 분해해서 입력 중인 음절(원ㅍ, 원핏)이나 초성(ㅇㅍㅅ)으로도 찾을 수 있다.
+ * 기동 시 한 번 적재하고, 이후에는 BookChangedEvent / MemberChangedEvent 로 커밋 직후 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteIndex {
+
+    public enum Field {
+        TITLE,
+        AUTHOR,
+        MEMBER
+    }
+
+    private final BookRepository bookRepository;
+    private final MemberRepository memberRepository;
+
+    private final Map<Field, SuggestionIndex> indexes = newIndexes();
+    // 수정/삭제 시 이전 값을 빼기 위해 id 별로 색인한 값을 기억한다 (쓰기는 this 락 안에서만)
+    private final Map<Long, BookTerms> booksById = new HashMap<>();
+    private final Map<Long, String> memberNamesById = new HashMap<>();
+
+    private record BookTerms(String title, String author) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.currentTimeMillis();
+        try (Stream<BookTermsView> rows = bookRepository.streamTerms()) {
+            rows.forEach(row -> putBook(row.getId(), row.getTitle(), row.getAuthor()));
+        }
+        try (Stream<MemberNameView> rows = memberRepository.streamNames()) {
+            rows.forEach(row -> putMember(row.getId(), row.getName()));
+        }
+        log.info("Autocomplete index loaded: titles={}, authors={}, members={}, elapsed={}ms",
+                indexes.get(Field.TITLE).size(), indexes.get(Field.AUTHOR).size(),
+                indexes.get(Field.MEMBER).size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getBookId() == null) {
+            return;
+        }
+        if (event.getType() == BookChangedEvent.ChangeType.DELETED) {
+            removeBook(event.getBookId());
+        } else {
+            putBook(event.getBookId(), event.getTitle(), event.getAuthor());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.getType() == MemberChangedEvent.ChangeType.DELETED) {
+            removeMember(event.getMemberId());
+        } else {
+            putMember(event.getMemberId(), event.getName());
+        }
+    }
+
+    // 가중치(같은 문자열 수) 순 상위 k 개, field 가 null 이면 세 필드를 합쳐서 순위를 매긴다
+    public List<AutocompleteResponse> suggest(String query, Field field, int k) {
+        if (k < 1 || k > SuggestionIndex.MAX_K) {
+            throw new IllegalArgumentException("k must be between 1 and " + SuggestionIndex.MAX_K + ": " + k);
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        Collection<Field> fields = field == null ? indexes.keySet() : Set.of(field);
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (Field f : fields) {
+            for (SuggestionIndex.Suggestion suggestion : indexes.get(f).top(query, k)) {
+                candidates.add(new Candidate(f, suggestion));
+            }
+        }
+        if (fields.size() > 1) {
+            candidates.sort((a, b) -> SuggestionIndex.RANKING.compare(a.suggestion(), b.suggestion()));
+        }
+        return candidates.stream()
+                .limit(k)
+                .map(c -> AutocompleteResponse.builder()
+                        .field(c.field().name())
+                        .text(c.suggestion().getText())
+                        .count(c.suggestion().getWeight())
+                        .build())
+                .toList();
+    }
+
+    private record Candidate(Field field, SuggestionIndex.Suggestion suggestion) {
+    }
+
+    private synchronized void putBook(Long id, String title, String author) {
+        BookTerms previous = booksById.put(id, new BookTerms(title, author));
+        if (previous == null || !Objects.equals(previous.title(), title)) {
+            if (previous != null) {
+                indexes.get(Field.TITLE).decrement(previous.title());
+            }
+            indexes.get(Field.TITLE).increment(title);
+        }
+        if (previous == null || !Objects.equals(previous.author(), author)) {
+            if (previous != null) {
+                indexes.get(Field.AUTHOR).decrement(previous.author());
+            }
+            indexes.get(Field.AUTHOR).increment(author);
+        }
+    }
+
+    private synchronized void removeBook(Long id) {
+        BookTerms previous = booksById.remove(id);
+        if (previous != null) {
+            indexes.get(Field.TITLE).decrement(previous.title());
+            indexes.get(Field.AUTHOR).decrement(previous.author());
+        }
+    }
+
+    private synchronized void putMember(Long id, String name) {
+        String previous = memberNamesById.put(id, name);
+        if (previous == null || !previous.equals(name)) {
+            if (previous != null) {
+                indexes.get(Field.MEMBER).decrement(previous);
+            }
+            indexes.get(Field.MEMBER).increment(name);
+        }
+    }
+
+    private synchronized void removeMember(Long id) {
+        String previous = memberNamesById.remove(id);
+        if (previous != null) {
+            indexes.get(Field.MEMBER).decrement(previous);
+        }
+    }
+
+    private static Map<Field, SuggestionIndex> newIndexes() {
+        Map<Field, SuggestionIndex> map = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            map.put(field, new SuggestionIndex());
+        }
+        return map;
+    }
+}
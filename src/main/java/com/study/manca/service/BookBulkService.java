@@ -0,0 +1,205 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.BookBulkResponse;
+import com.study.manca.dto.BookBulkResponse.RowResult;
+import com.study.manca.dto.BookBulkResponse.RowStatus;
+import com.study.manca.dto.BookRequest;
+import com.study.manca.entity.Book;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 도서 일괄 등록
+ * 도서코드 중복은 한 번의 IN 조회로 확인하고, INSERT 는 BATCH_SIZE 건씩 배열 파라미터(unnest) 한 문장으로 실행한다.
+ * (IDENTITY 전략이라 Hibernate 배치 INSERT 가 동작하지 않으므로 JdbcTemplate 을 직접 사용)
+ * 실제로 들어간 행은 RETURNING 으로 돌려받아 판단한다 (동시 등록으로 ON CONFLICT 에 걸린 행은 돌아오지 않음).
+ * 새 행만 추가하므로 단건 조회 캐시(books)에서 무효화할 항목은 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookBulkService {
+
+    static final int BATCH_SIZE = 500;
+    static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO books (book_code, title, author, publisher, volume, genre, status, condition,
+                               location, remarks, created_at, updated_at)
+            SELECT r.book_code, r.title, r.author, r.publisher, r.volume, r.genre, r.status, r.condition,
+                   r.location, r.remarks, ?, ?
+              FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::int[], ?::varchar[],
+                          ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[])
+                   AS r(book_code, title, author, publisher, volume, genre, status, condition, location, remarks)
+            ON CONFLICT (book_code) DO NOTHING
+            RETURNING id, book_code
+            """;
+
+    private final BookRepository bookRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public BookBulkResponse importCsv(Reader csv) {
+        try {
+            return importBooks(BookCsvParser.parse(csv));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read CSV: " + e.getMessage(), e);
+        }
+    }
+
+    @Transactional
+    public BookBulkResponse importBooks(List<BookRequest> requests) {
+        long start = System.nanoTime();
+        RowResult[] results = new RowResult[requests.size()];
+
+        // 1. 필수값 검증 + 요청 내부 중복 제거
+        Set<String> seen = new HashSet<>();
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BookRequest request = requests.get(i);
+            String invalid = validate(request);
+            if (invalid != null) {
+                results[i] = new RowResult(i, request.getBookCode(), RowStatus.INVALID, invalid);
+            } else if (!seen.add(request.getBookCode())) {
+                results[i] = new RowResult(i, request.getBookCode(), RowStatus.DUPLICATE, "Duplicated in request");
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // 2. 이미 등록된 도서코드를 집합 조회
+        Set<String> existing = findExisting(new ArrayList<>(seen));
+        List<BookRequest> toInsert = new ArrayList<>(candidates.size());
+        List<Integer> insertRows = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            BookRequest request = requests.get(i);
+            if (existing.contains(request.getBookCode())) {
+                results[i] = new RowResult(i, request.getBookCode(), RowStatus.DUPLICATE, "BookCode already exists");
+            } else {
+                toInsert.add(request);
+                insertRows.add(i);
+            }
+        }
+
+        // 3. 배치 INSERT (RETURNING 에 돌아온 도서코드만 등록된 것으로 본다)
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<String, Long> createdIds = new HashMap<>();
+        for (int from = 0; from < toInsert.size(); from += BATCH_SIZE) {
+            insert(toInsert.subList(from, Math.min(from + BATCH_SIZE, toInsert.size())), now, createdIds);
+        }
+
+        int created = 0;
+        for (int k = 0; k < toInsert.size(); k++) {
+            int row = insertRows.get(k);
+            String bookCode = toInsert.get(k).getBookCode();
+            if (createdIds.containsKey(bookCode)) {
+                results[row] = new RowResult(row, bookCode, RowStatus.CREATED, null);
+                eventPublisher.publishEvent(createdEvent(createdIds.get(bookCode), toInsert.get(k)));
+                created++;
+            } else {
+                results[row] = new RowResult(row, bookCode, RowStatus.DUPLICATE, "BookCode already exists");
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : created * 1_000_000_000.0 / elapsedNanos;
+        log.info("Bulk book import: total={}, created={}, elapsed={}ms, rows/sec={}",
+                requests.size(), created, elapsedNanos / 1_000_000, String.format("%.1f", rowsPerSecond));
+
+        return BookBulkResponse.builder()
+                .total(requests.size())
+                .created(created)
+                .failed(requests.size() - created)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .rowsPerSecond(rowsPerSecond)
+                .results(List.of(results))
+                .build();
+    }
+
+    private void insert(List<BookRequest> books, Timestamp now, Map<String, Long> createdIds) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_SQL);
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            ps.setArray(3, con.createArrayOf("varchar", column(books, BookRequest::getBookCode)));
+            ps.setArray(4, con.createArrayOf("varchar", column(books, BookRequest::getTitle)));
+            ps.setArray(5, con.createArrayOf("varchar", column(books, BookRequest::getAuthor)));
+            ps.setArray(6, con.createArrayOf("varchar", column(books, BookRequest::getPublisher)));
+            ps.setArray(7, con.createArrayOf("integer", column(books, BookRequest::getVolume)));
+            ps.setArray(8, con.createArrayOf("varchar", column(books, BookRequest::getGenre)));
+            ps.setArray(9, con.createArrayOf("varchar", column(books, book ->
+                    (book.getStatus() == null ? Book.BookStatus.AVAILABLE : book.getStatus()).name())));
+            ps.setArray(10, con.createArrayOf("varchar", column(books, book ->
+                    (book.getCondition() == null ? Book.BookCondition.GOOD : book.getCondition()).name())));
+            ps.setArray(11, con.createArrayOf("varchar", column(books, BookRequest::getLocation)));
+            ps.setArray(12, con.createArrayOf("varchar", column(books, BookRequest::getRemarks)));
+            return ps;
+        }, (ResultSet rs) -> {
+            createdIds.put(rs.getString("book_code"), rs.getLong("id"));
+        });
+    }
+
+    private static Object[] column(List<BookRequest> books, Function<BookRequest, Object> getter) {
+        return books.stream().map(getter).toArray();
+    }
+
+    private Set<String> findExisting(List<String> bookCodes) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < bookCodes.size(); from += LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + LOOKUP_CHUNK_SIZE, bookCodes.size());
+            existing.addAll(bookRepository.findExistingBookCodes(bookCodes.subList(from, to)));
+        }
+        return existing;
+    }
+
+    // JDBC 로 넣은 행은 엔티티 리스너를 거치지 않으므로 직접 발행
+    private BookChangedEvent createdEvent(Long bookId, BookRequest book) {
+        return BookChangedEvent.builder()
+                .type(BookChangedEvent.ChangeType.CREATED)
+                .bookId(bookId)
+                .bookCode(book.getBookCode())
+                .title(book.getTitle())
+                .author(book.getAuthor())
+                .publisher(book.getPublisher())
+                .genre(book.getGenre())
+                .status(book.getStatus() == null ? Book.BookStatus.AVAILABLE : book.getStatus())
+                .condition(book.getCondition() == null ? Book.BookCondition.GOOD : book.getCondition())
+                .location(book.getLocation())
+                .build();
+    }
+
+    private String validate(BookRequest request) {
+        if (request.getBookCode() == null || request.getBookCode().isBlank()) {
+            return "bookCode is required";
+        }
+        if (request.getTitle() == null || request.getAuthor() == null
+                || request.getPublisher() == null || request.getGenre() == null) {
+            return "title, author, publisher and genre are required";
+        }
+        if (request.getVolume() == null) {
+            return "volume is required";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.study.manca.service;
+
+import com.study.manca.config.CacheConfig;
+import com.study.manca.event.BookChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도서 단건 조회 캐시 무효화
+ * @CacheEvict 를 달 수 없는 일괄/조건부 UPDATE 경로도 BookChangedEvent 를 발행하므로
+ * 커밋 이후 바뀐 도서 ID 만 정확히 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getBookId() == null) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(CacheConfig.BOOKS);
+        if (cache != null) {
+            cache.evict(event.getBookId());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.study.manca.service;
+
+/**
+ * 도서코드(MH-<시리즈>-<권>) 분해 결과
+ */
+record BookCodeParts(String series, int volume) {
+
+    // 형식이 맞지 않으면 null
+    static BookCodeParts parse(String bookCode) {
+        if (bookCode == null) {
+            return null;
+        }
+        int first = bookCode.indexOf('-');
+        int last = bookCode.lastIndexOf('-');
+        if (first < 0 || last <= first + 1 || last == bookCode.length() - 1) {
+            return null;
+        }
+        try {
+            int volume = Integer.parseInt(bookCode.substring(last + 1));
+            return volume < 0 ? null : new BookCodeParts(bookCode.substring(first + 1, last), volume);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.BookRequest;
+import com.study.manca.entity.Book;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 도서 일괄 등록용 CSV 파서
+ * 첫 줄은 헤더이며 컬럼 순서는 아래와 같다. 따옴표로 감싼 필드 안의 쉼표를 허용한다.
+ * bookCode,title,author,publisher,volume,genre,status,condition,location,remarks
+ */
+class BookCsvParser {
+
+    private static final int COLUMNS = 10;
+
+    private BookCsvParser() {
+    }
+
+    static List<BookRequest> parse(Reader source) throws IOException {
+        List<BookRequest> rows = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(source);
+        String line = reader.readLine();  // 헤더
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            rows.add(toRequest(split(line), lineNumber));
+        }
+        return rows;
+    }
+
+    private static BookRequest toRequest(List<String> f, int lineNumber) {
+        if (f.size() < 6 || f.size() > COLUMNS) {
+            throw new IllegalArgumentException("Invalid column count at line " + lineNumber + ": " + f.size());
+        }
+        try {
+            return new BookRequest(
+                    f.get(0),
+                    f.get(1),
+                    f.get(2),
+                    f.get(3),
+                    f.get(4) == null ? null : Integer.valueOf(f.get(4)),
+                    f.get(5),
+                    column(f, 6) == null ? null : Book.BookStatus.valueOf(column(f, 6)),
+                    column(f, 7) == null ? null : Book.BookCondition.valueOf(column(f, 7)),
+                    column(f, 8),
+                    column(f, 9));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value at line " + lineNumber + ": " + e.getMessage());
+        }
+    }
+
+    private static String column(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index) : null;
+    }
+
+    // 빈 필드는 null 로 취급
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(COLUMNS);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(emptyToNull(current));
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(emptyToNull(current));
+        return fields;
+    }
+
+    private static String emptyToNull(StringBuilder value) {
+        String trimmed = value.toString().trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,166 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.BookFacetsResponse;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.BookFacets;
+import com.study.manca.repository.BookRepository;
+import com.study.manca.repository.FacetCountView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 도서 분류별 집계 (book_stats 뷰 대체)
+ * 기동 시 한 번 집계해서 적재하고, 이후에는 BookChangedEvent 로 원자적 카운터를 증감한다.
+ * 이벤트 유실 등으로 생긴 차이는 주기적으로 DB 집계와 비교해 보정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookFacetService {
+
+    static final String UNSPECIFIED = "UNSPECIFIED";
+
+    private final BookRepository bookRepository;
+
+    private final Map<Facet, ConcurrentMap<String, AtomicLong>> counters = newCounters();
+    private final AtomicLong total = new AtomicLong();
+
+    enum Facet {
+        STATUS(f -> f.status() == null ? null : f.status().name()),
+        GENRE(BookFacets::genre),
+        CONDITION(f -> f.condition() == null ? null : f.condition().name()),
+        LOCATION(BookFacets::location),
+        PUBLISHER(BookFacets::publisher);
+
+        private final Function<BookFacets, String> extractor;
+
+        Facet(Function<BookFacets, String> extractor) {
+            this.extractor = extractor;
+        }
+
+        String extract(BookFacets facets) {
+            String value = extractor.apply(facets);
+            return value == null ? UNSPECIFIED : value;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        BookFacets previous = event.getPreviousFacets();
+        switch (event.getType()) {
+            case CREATED -> {
+                add(event.getFacets(), 1);
+                total.incrementAndGet();
+            }
+            case UPDATED -> {
+                if (previous != null && !previous.equals(event.getFacets())) {
+                    add(previous, -1);
+                    add(event.getFacets(), 1);
+                }
+            }
+            case DELETED -> {
+                add(previous != null ? previous : event.getFacets(), -1);
+                total.decrementAndGet();
+            }
+        }
+    }
+
+    public BookFacetsResponse getFacets() {
+        return BookFacetsResponse.builder()
+                .total(total.get())
+                .status(snapshot(Facet.STATUS))
+                .genre(snapshot(Facet.GENRE))
+                .condition(snapshot(Facet.CONDITION))
+                .location(snapshot(Facet.LOCATION))
+                .publisher(snapshot(Facet.PUBLISHER))
+                .build();
+    }
+
+    /**
+     * DB 집계와 메모리 카운터를 비교해 차이가 있으면 DB 값으로 맞춘다.
+     * 집계 도중 반영된 변경은 다음 보정 때 다시 맞춰진다.
+     */
+    @Scheduled(fixedDelayString = "${manca.book-facets.reconcile-interval:PT10M}",
+            initialDelayString = "${manca.book-facets.reconcile-interval:PT10M}")
+    public void reconcile() {
+        Map<Facet, Map<String, Long>> actual = new EnumMap<>(Facet.class);
+        for (Facet facet : Facet.values()) {
+            actual.put(facet, new HashMap<>());
+        }
+        for (FacetCountView row : bookRepository.countFacets()) {
+            Facet facet = Facet.valueOf(row.getFacet().toUpperCase());
+            actual.get(facet).put(row.getValue() == null ? UNSPECIFIED : row.getValue(), row.getTotal());
+        }
+
+        int drift = 0;
+        for (Facet facet : Facet.values()) {
+            ConcurrentMap<String, AtomicLong> current = counters.get(facet);
+            Map<String, Long> expected = actual.get(facet);
+            for (Map.Entry<String, Long> entry : expected.entrySet()) {
+                AtomicLong counter = current.computeIfAbsent(entry.getKey(), k -> new AtomicLong());
+                if (counter.getAndSet(entry.getValue()) != entry.getValue()) {
+                    drift++;
+                }
+            }
+            for (Map.Entry<String, AtomicLong> entry : current.entrySet()) {
+                if (!expected.containsKey(entry.getKey()) && entry.getValue().getAndSet(0) != 0) {
+                    drift++;
+                }
+            }
+        }
+        long expectedTotal = actual.get(Facet.STATUS).values().stream().mapToLong(Long::longValue).sum();
+        if (total.getAndSet(expectedTotal) != expectedTotal) {
+            drift++;
+        }
+
+        if (drift > 0) {
+            log.info("Book facet counters reconciled: corrected={}", drift);
+        }
+    }
+
+    private void add(BookFacets facets, long delta) {
+        for (Facet facet : Facet.values()) {
+            counters.get(facet)
+                    .computeIfAbsent(facet.extract(facets), k -> new AtomicLong())
+                    .addAndGet(delta);
+        }
+    }
+
+    private Map<String, Long> snapshot(Facet facet) {
+        Map<String, Long> result = new TreeMap<>();
+        counters.get(facet).forEach((value, count) -> {
+            long c = count.get();
+            if (c > 0) {
+                result.put(value, c);
+            }
+        });
+        return result;
+    }
+
+    private static Map<Facet, ConcurrentMap<String, AtomicLong>> newCounters() {
+        Map<Facet, ConcurrentMap<String, AtomicLong>> map = new EnumMap<>(Facet.class);
+        for (Facet facet : Facet.values()) {
+            map.put(facet, new ConcurrentHashMap<>());
+        }
+        return map;
+    }
+}
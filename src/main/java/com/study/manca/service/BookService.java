@@ -1,39 +1,147 @@
 package com.study.manca.service;
 
+import com.study.manca.config.CacheConfig;
 import com.study.manca.dto.BookRequest;
 import com.study.manca.dto.BookResponse;
+import com.study.manca.dto.BookScrollResponse;
+import com.study.manca.dto.BookSearchResponse;
+import com.study.manca.dto.BookStatusChangeRequest;
 import com.study.manca.dto.BookUpdateRequest;
 import com.study.manca.dto.MemberRequest;
+import com.study.manca.dto.MultiGetResponse;
+import com.study.manca.dto.ResourceVersion;
 import com.study.manca.entity.Book;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.BookFacets;
+import com.study.manca.repository.BookChangeView;
 import com.study.manca.repository.BookRepository;
+import com.study.manca.repository.BookSearchView;
+import com.study.manca.repository.TableVersionView;
+import com.study.manca.support.RetryOnOptimisticLock;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BookService {
 
+    public static final int MAX_SCROLL_SIZE = 1000;
+    public static final int MAX_MULTI_GET_SIZE = 100;
+    public static final int MIN_SEARCH_QUERY_LENGTH = 2;
+    // 3글자 미만 부분 문자열에서는 트라이그램이 나오지 않아 GIN 인덱스를 전부 읽게 되므로, 그보다 짧으면 단어 앞부분 일치로만 찾는다
+    public static final int MIN_SUBSTRING_QUERY_LENGTH = 3;
+
     private final BookRepository bookRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 전체 사용자 조회 (GET)
     public List<BookResponse> findAll() {
-        return bookRepository.findAll().stream()
-                .map(BookResponse::from)
-                .collect(Collectors.toList());
+        return bookRepository.findAllResponses();
+    }
+
+    // 키셋 페이지 조회 (GET) - lastId 이후의 도서를 size 만큼
+    public BookScrollResponse scroll(Long lastId, int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SCROLL_SIZE + ": " + size);
+        }
+        long cursor = lastId == null ? 0L : lastId;
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<BookResponse> rows = bookRepository.findResponsesAfter(cursor, Limit.of(size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<BookResponse> content = hasNext ? rows.subList(0, size) : rows;
+        return BookScrollResponse.of(content, hasNext);
+    }
+
+    // 검색 (GET) - 제목/작가 부분 문자열 또는 단어 일치 (2글자는 단어 앞부분 일치), 점수 순 키셋 페이지
+    public BookSearchResponse search(String query, Book.BookStatus status, String genre,
+                                     Book.BookCondition condition, String cursor, int size) {
+        String trimmed = query == null ? "" : query.trim();
+        if (trimmed.length() < MIN_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("query must be at least " + MIN_SEARCH_QUERY_LENGTH + " characters: " + query);
+        }
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SCROLL_SIZE + ": " + size);
+        }
+        SearchCursor after = SearchCursor.decode(cursor);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        String statusName = status == null ? null : status.name();
+        String conditionName = condition == null ? null : condition.name();
+        Float lastScore = after == null ? null : after.score();
+        Long lastId = after == null ? null : after.id();
+        List<BookSearchView> rows = trimmed.length() < MIN_SUBSTRING_QUERY_LENGTH
+                ? bookRepository.searchByWordPrefix(trimmed, prefixQuery(trimmed), statusName, genre, conditionName,
+                        lastScore, lastId, size + 1)
+                : bookRepository.search(trimmed, "%" + escapeLike(trimmed) + "%", statusName, genre, conditionName,
+                        lastScore, lastId, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<BookSearchView> page = hasNext ? rows.subList(0, size) : rows;
+        BookSearchView last = hasNext ? page.get(page.size() - 1) : null;
+        return BookSearchResponse.builder()
+                .content(page.stream().map(BookService::toResponse).toList())
+                .nextCursor(last == null ? null : new SearchCursor(last.getScore(), last.getId()).encode())
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 다건 조회 (GET) - 요청 순서 유지, 없는 id 는 missingIds 로 보고
+    public MultiGetResponse<BookResponse> findAllByIds(List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_MULTI_GET_SIZE) {
+            throw new IllegalArgumentException("ids must contain between 1 and " + MAX_MULTI_GET_SIZE + " ids: " + ids.size());
+        }
+        List<BookResponse> found = bookRepository.findResponsesByIdIn(ids);
+        return MultiGetResponse.of(ids, found, BookResponse::getId);
+    }
+
+    // 전체 도서 스트리밍 조회 (GET) - DTO 프로젝션을 커서로 한 건씩 넘겨 메모리 사용량 고정
+    public void streamAll(Consumer<BookResponse> consumer) {
+        try (Stream<BookResponse> books = bookRepository.streamAllResponses()) {
+            books.forEach(consumer);
+        }
+    }
+
+    // 서가위치별 도서 스트리밍 조회 (GET)
+    public void streamByLocation(String location, Consumer<BookResponse> consumer) {
+        try (Stream<BookResponse> books = bookRepository.streamResponsesByLocation(location)) {
+            books.forEach(consumer);
+        }
+    }
+
+    // 목록 조건부 조회용 버전 (엔티티를 읽지 않음)
+    public ResourceVersion findListVersion() {
+        TableVersionView version = bookRepository.findTableVersion();
+        return ResourceVersion.ofCollection("books", version.getLastModified(), version.getTotal());
+    }
+
+    // 단건 조건부 조회용 버전 (엔티티를 읽지 않음)
+    public ResourceVersion findVersion(Long id) {
+        return bookRepository.findUpdatedAtById(id)
+                .map(updatedAt -> ResourceVersion.of("book", id, updatedAt))
+                .orElseThrow(() -> new IllegalArgumentException("Book not found with id: " + id));
     }
 
     // 특정 사용자 조회 (GET)
+    @Cacheable(cacheNames = CacheConfig.BOOKS, key = "#id")
     public BookResponse findById(Long id) {
-        Book book = bookRepository.findById(id)
-                                    .orElseThrow(()
-                                    -> new IllegalArgumentException("Book not found with id: " + id));
-
-        return BookResponse.from(book);
+        return bookRepository.findResponseById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Book not found with id: " + id));
     }
 
     // 사용자 생성 (POST)
@@ -48,12 +156,17 @@ public class BookService {
         bookRepository.save(book);
     }
 
+    @RetryOnOptimisticLock
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#id")
     public BookResponse updateBookStatus(Long id, BookUpdateRequest request) {
         Book book = bookRepository.findById(id)
                                     .orElseThrow(() -> new IllegalArgumentException("Book not found with id: " + id));
 
         //TODO: validate request.bookcode equals to book.getBookCode()
+        if (book.getStatus() != request.getStatus()) {
+            rejectReserved(id, book.getStatus(), request.getStatus());
+        }
         book.setVolume(request.getVolume());
         book.setStatus(request.getStatus());
         book.setCondition(request.getCondition());
@@ -63,5 +176,98 @@ public class BookService {
         return BookResponse.from(book);
     }
 
+    // 대여상태 전이 (POST) - 엔티티를 읽지 않고 조건부 UPDATE 한 번으로 처리
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#id")
+    public void changeStatus(Long id, BookStatusChangeRequest request) {
+        if (request.getFrom() == null || request.getTo() == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        rejectReserved(id, request.getFrom(), request.getTo());
+        BookChangeView changed = bookRepository
+                .compareAndSetStatus(id, request.getFrom().name(), request.getTo().name())
+                .orElseThrow(() -> {
+                    if (!bookRepository.existsById(id)) {
+                        return new IllegalArgumentException("Book not found with id: " + id);
+                    }
+                    return new IllegalStateException("Book " + id + " is not " + request.getFrom());
+                });
+
+        // 엔티티 리스너를 거치지 않으므로 변경 이벤트를 직접 발행
+        Book.BookCondition condition = Book.BookCondition.valueOf(changed.getCondition());
+        eventPublisher.publishEvent(BookChangedEvent.builder()
+                .type(BookChangedEvent.ChangeType.UPDATED)
+                .bookId(changed.getId())
+                .bookCode(changed.getBookCode())
+                .title(changed.getTitle())
+                .author(changed.getAuthor())
+                .publisher(changed.getPublisher())
+                .genre(changed.getGenre())
+                .status(request.getTo())
+                .condition(condition)
+                .location(changed.getLocation())
+                .previousFacets(new BookFacets(request.getFrom(), changed.getGenre(), condition,
+                        changed.getLocation(), changed.getPublisher()))
+                .build());
+    }
+
     //TODO: DELETE
+
+    // 보관(RESERVED)은 보관중인 예약과 함께 움직여야 하므로 예약 대여/취소/만료(ReservationService)로만 들고 난다
+    private static void rejectReserved(Long id, Book.BookStatus from, Book.BookStatus to) {
+        if (from == Book.BookStatus.RESERVED || to == Book.BookStatus.RESERVED) {
+            throw new IllegalStateException("Book " + id + " status " + from + " -> " + to
+                    + " must go through reservations");
+        }
+    }
+
+    private static BookResponse toResponse(BookSearchView row) {
+        return BookResponse.builder()
+                .id(row.getId())
+                .bookCode(row.getBookCode())
+                .title(row.getTitle())
+                .author(row.getAuthor())
+                .publisher(row.getPublisher())
+                .volume(row.getVolume())
+                .genre(row.getGenre())
+                .status(row.getStatus())
+                .condition(row.getCondition())
+                .location(row.getLocation())
+                .remarks(row.getRemarks())
+                .build();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // 단어별 앞부분 일치 tsquery (예: "마법 소년" → '마법':* & '소년':*), 따옴표로 감싸 특수문자는 글자로 취급
+    private static String prefixQuery(String query) {
+        return Arrays.stream(query.split("\\s+"))
+                .map(word -> "'" + word.replace("\\", "\\\\").replace("'", "''") + "':*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    // 검색 키셋 커서: 마지막 행의 (점수, id) 를 불투명한 문자열로 주고받는다
+    private record SearchCursor(float score, long id) {
+
+        String encode() {
+            String raw = Float.toString(score) + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SearchCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf(':');
+                return new SearchCursor(Float.parseFloat(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+            }
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package com.study.manca.service;
+
+import com.study.manca.repository.MemberRepository;
+import com.study.manca.support.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 회원 이메일 블룸 필터
+ * 가입 시 "처음 보는 이메일" 이면 DB 를 조회하지 않고 바로 통과시키기 위한 용도.
+ * 기동 시 전체 이메일로 적재하고, 생성/수정 시 새 이메일을 추가한다.
+ * 삭제/변경으로 남은 비트는 오탐만 늘리므로 주기적으로 새로 만들어 교체한다.
+ * 필터가 놓친 중복은 members(lower(email)) 유니크 인덱스가 막는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberEmailFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MIN_CAPACITY = 10_000;
+
+    private final MemberRepository memberRepository;
+
+    private volatile BloomFilter filter = BloomFilter.create(MIN_CAPACITY, FALSE_POSITIVE_RATE);
+    private volatile BloomFilter building;
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${manca.member-email-filter.rebuild-interval:PT1H}",
+            initialDelayString = "${manca.member-email-filter.rebuild-interval:PT1H}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        // 이후 가입을 위한 여유를 두고 크기를 잡는다. 적재 중 추가되는 이메일은 양쪽에 넣는다
+        long capacity = Math.max(MIN_CAPACITY, memberRepository.count() * 2);
+        BloomFilter next = BloomFilter.create(capacity, FALSE_POSITIVE_RATE);
+        building = next;
+        try (Stream<String> emails = memberRepository.streamNormalizedEmails()) {
+            emails.forEach(next::put);
+            filter = next;
+            loaded = true;
+        } finally {
+            building = null;
+        }
+        log.info("Member email filter rebuilt: capacity={}, elapsed={}ms",
+                capacity, System.currentTimeMillis() - start);
+    }
+
+    // false 면 확실히 없는 이메일 (적재 전에는 항상 true)
+    public boolean mightExist(String email) {
+        return !loaded || filter.mightContain(normalize(email));
+    }
+
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        String normalized = normalize(email);
+        filter.put(normalized);
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(normalized);
+        }
+    }
+
+    static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,88 +1,162 @@
 package com.study.manca.service;
 
+import com.study.manca.config.CacheConfig;
 import com.study.manca.dto.MemberResponse;
 import com.study.manca.dto.MemberRequest;
+import com.study.manca.dto.MultiGetResponse;
+import com.study.manca.dto.ResourceVersion;
 import com.study.manca.entity.Member;
+import com.study.manca.event.MemberChangedEvent;
 import com.study.manca.repository.MemberRepository;
+import com.study.manca.repository.TableVersionView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MemberService {
 
+    public static final int MAX_MULTI_GET_SIZE = 100;
+
+    private static final String EMAIL_CONSTRAINT = "uq_members_email_lower";
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final MemberRepository memberRepository;
+    private final MemberEmailFilter memberEmailFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 전체 사용자 조회 (GET)
     public List<MemberResponse> findAll() {
-        return memberRepository.findAll().stream()
-                .map(MemberResponse::from)
-                .collect(Collectors.toList());
+        return memberRepository.findAllResponses();
+    }
+
+    // 다건 조회 (GET) - 요청 순서 유지, 없는 id 는 missingIds 로 보고
+    public MultiGetResponse<MemberResponse> findAllByIds(List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_MULTI_GET_SIZE) {
+            throw new IllegalArgumentException("ids must contain between 1 and " + MAX_MULTI_GET_SIZE + " ids: " + ids.size());
+        }
+        List<MemberResponse> found = memberRepository.findResponsesByIdIn(ids);
+        return MultiGetResponse.of(ids, found, MemberResponse::getId);
+    }
+
+    // 목록 조건부 조회용 버전 (엔티티를 읽지 않음)
+    public ResourceVersion findListVersion() {
+        TableVersionView version = memberRepository.findTableVersion();
+        return ResourceVersion.ofCollection("members", version.getLastModified(), version.getTotal());
+    }
+
+    // 단건 조건부 조회용 버전 (엔티티를 읽지 않음)
+    public ResourceVersion findVersion(Long id) {
+        return memberRepository.findUpdatedAtById(id)
+                .map(updatedAt -> ResourceVersion.of("member", id, updatedAt))
+                .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + id));
     }
 
     // 특정 사용자 조회 (GET)
+    @Cacheable(cacheNames = CacheConfig.MEMBERS, key = "#id")
     public MemberResponse findById(Long id) {
-        Member member = memberRepository.findById(id)
+        return memberRepository.findResponseById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + id));
-        return MemberResponse.from(member);
     }
 
     // 사용자 생성 (POST)
     @Transactional
     public MemberResponse create(MemberRequest request) {
-        // 이메일 중복 확인
-        if (memberRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists: " + request.getEmail());
-        }
+        // 이메일 중복 확인 (블룸 필터가 처음 보는 이메일이라고 하면 DB 조회 생략)
+        checkEmailAvailable(request.getEmail());
 
         Member member = request.toEntity();
-        Member savedUser = memberRepository.save(member);
+        Member savedUser = saveAndFlush(member);
+        eventPublisher.publishEvent(MemberChangedEvent.of(
+                MemberChangedEvent.ChangeType.CREATED, savedUser.getId(), savedUser.getName()));
         return MemberResponse.from(savedUser);
     }
 
-    // 사용자 전체 수정 (PUT)
+    // 사용자 전체 수정 (PUT) - UPDATE ... RETURNING 한 번으로 변경과 조회를 함께 처리
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#id")
     public MemberResponse update(Long id, MemberRequest request) {
-        Member member = memberRepository.findById(id)
+        MemberResponse updated = withEmailConstraint(request.getEmail(),
+                () -> memberRepository.updateReturning(id, request.getName(), request.getEmail(), request.getPhone()))
                 .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + id));
-
-        member.setName(request.getName());
-        member.setEmail(request.getEmail());
-        member.setPhone(request.getPhone());
-
-        return MemberResponse.from(member);
+        memberEmailFilter.add(updated.getEmail());
+        publishUpdated(updated);
+        return updated;
     }
 
-    // 사용자 부분 수정 (PATCH)
+    // 사용자 부분 수정 (PATCH) - 요청에 있는 컬럼만 SET 하는 UPDATE ... RETURNING
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#id")
     public MemberResponse updatePartial(Long id, MemberRequest request) {
-        Member member = memberRepository.findById(id)
+        if (request.getName() == null && request.getEmail() == null && request.getPhone() == null) {
+            return findById(id);
+        }
+        MemberResponse updated = withEmailConstraint(request.getEmail(),
+                () -> memberRepository.patchReturning(id, request.getName(), request.getEmail(), request.getPhone()))
                 .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + id));
+        memberEmailFilter.add(updated.getEmail());
+        publishUpdated(updated);
+        return updated;
+    }
 
-        if (request.getName() != null) {
-            member.setName(request.getName());
-        }
-        if (request.getEmail() != null) {
-            member.setEmail(request.getEmail());
+    // 사용자 삭제 (DELETE) - DELETE ... RETURNING 으로 존재 확인과 삭제를 한 번에
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#id")
+    public void delete(Long id) {
+        if (!memberRepository.deleteReturning(id)) {
+            throw new IllegalArgumentException("Member not found with id: " + id);
         }
-        if (request.getPhone() != null) {
-            member.setPhone(request.getPhone());
+        eventPublisher.publishEvent(MemberChangedEvent.of(MemberChangedEvent.ChangeType.DELETED, id, null));
+    }
+
+    private void publishUpdated(MemberResponse member) {
+        eventPublisher.publishEvent(MemberChangedEvent.of(
+                MemberChangedEvent.ChangeType.UPDATED, member.getId(), member.getName()));
+    }
+
+    private void checkEmailAvailable(String email) {
+        if (email != null && memberEmailFilter.mightExist(email) && memberRepository.existsByEmail(email)) {
+            throw new IllegalArgumentException("Email already exists: " + email);
         }
+    }
 
-        return MemberResponse.from(member);
+    // 확인과 저장 사이에 같은 이메일이 먼저 들어온 경우 유니크 인덱스 위반을 중복 오류로 바꾼다
+    private Member saveAndFlush(Member member) {
+        Member saved = withEmailConstraint(member.getEmail(), () -> memberRepository.saveAndFlush(member));
+        memberEmailFilter.add(saved.getEmail());
+        return saved;
     }
 
-    // 사용자 삭제 (DELETE)
-    @Transactional
-    public void delete(Long id) {
-        if (!memberRepository.existsById(id)) {
-            throw new IllegalArgumentException("Member not found with id: " + id);
+    // 이메일 변경은 사전 조회 없이 유니크 인덱스(lower(email))에 맡긴다
+    // 이름/전화 길이, NOT NULL 같은 다른 제약 위반이나 이메일을 바꾸지 않는 요청(PATCH)의 위반은 그대로 던진다
+    private <T> T withEmailConstraint(String email, Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException e) {
+            if (email != null && isEmailDuplicate(e)) {
+                throw new IllegalArgumentException("Email already exists: " + email, e);
+            }
+            throw e;
+        }
+    }
+
+    // JDBC 경로는 DuplicateKeyException, JPA 경로는 DataIntegrityViolationException 으로 오므로 원인의 SQLState/제약 이름으로 가린다
+    private static boolean isEmailDuplicate(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return sqlException.getMessage() != null && sqlException.getMessage().contains(EMAIL_CONSTRAINT);
+            }
         }
-        memberRepository.deleteById(id);
+        return false;
     }
 }
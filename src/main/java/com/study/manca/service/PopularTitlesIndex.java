@@ -0,0 +1,288 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.PopularTitleResponse;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.RentalChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 실시간 인기 시리즈 순위 (최근 7일 대여 수)
+ * 시리즈마다 정수 ID 를 붙이고, 1시간 단위 버킷 168개(원형)에 시리즈별 대여 수를 int 배열로 센다.
+ * 대여 시 해당 시간 버킷과 합계를 1 늘리고 상위 MAX_LIMIT 목록을 O(MAX_LIMIT) 로 고친다 (대여는 늘기만 하므로 정확함).
+ * 시간이 지나 버킷이 밀려나면 그 버킷만큼 합계에서 빼고 상위 목록을 다시 계산한다.
+ * 조회는 불변 목록을 잘라 돌려주며(바뀐 뒤 첫 조회에서만 MAX_LIMIT 건으로 다시 만듦) 시리즈/대여 수와 관계없이 일정하다.
+ * 기동 시 rentals 를 시간/도서별로 집계해 다시 채운다 (보관 기간이 7일보다 길어 rentals_archive 는 보지 않음).
+ */
+@Slf4j
+@Service
+public class PopularTitlesIndex {
+
+    public static final int MAX_LIMIT = 100;
+
+    static final int WINDOW_HOURS = 7 * 24;
+
+    private static final String BOOKS_SQL = "SELECT id, book_code, title FROM books";
+
+    private static final String BOOK_SQL = "SELECT id, book_code, title FROM books WHERE id = ?";
+
+    private static final String RECENT_RENTALS_SQL = """
+            SELECT book_id, date_trunc('hour', rental_date_time) AS hour, COUNT(*) AS rentals
+              FROM rentals
+             WHERE rental_date_time >= ?
+             GROUP BY book_id, date_trunc('hour', rental_date_time)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    // 도서 ID → 시리즈 ID (대여 이벤트에는 도서 ID 만 있음)
+    private final ConcurrentMap<Long, Integer> seriesByBookId = new ConcurrentHashMap<>();
+
+    // 아래는 모두 this 로 보호
+    private final Map<String, Integer> seriesIds = new HashMap<>();
+    private final List<String> seriesCodes = new ArrayList<>();
+    private final List<String> seriesTitles = new ArrayList<>();
+    private int[][] buckets = new int[WINDOW_HOURS][16];  // [시간 % 168][시리즈 ID]
+    private int[] totals = new int[16];  // 시리즈별 기간 합계
+    private long currentHour;  // 가장 최근 버킷의 시각 (epoch 기준 시간 수)
+    private int[] top = new int[0];  // 합계 내림차순 상위 시리즈 ID
+
+    private volatile List<PopularTitleResponse> ranking = List.of();  // 바뀐 뒤 처음 조회할 때 다시 만든다 (null)
+
+    public PopularTitlesIndex(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.currentHour = hourOf(LocalDateTime.now(clock));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        jdbcTemplate.query(BOOKS_SQL, (ResultSet rs) -> {
+            register(rs.getLong("id"), rs.getString("book_code"), rs.getString("title"));
+        });
+        LocalDateTime now = LocalDateTime.now(clock);
+        long nowHour = hourOf(now);
+        Timestamp from = Timestamp.valueOf(LocalDateTime.ofEpochSecond((nowHour - WINDOW_HOURS + 1) * 3600, 0,
+                ZoneOffset.UTC));
+        List<long[]> counts = jdbcTemplate.query(RECENT_RENTALS_SQL, (rs, rowNum) -> new long[]{
+                rs.getLong("book_id"), hourOf(rs.getTimestamp("hour").toLocalDateTime()), rs.getLong("rentals")},
+                from);
+        // 도서 → 시리즈 변환은 (드물게 조회가 필요할 수 있으므로) 락 밖에서 먼저 한다
+        Integer[] series = counts.stream().map(row -> seriesOf(row[0])).toArray(Integer[]::new);
+        int loaded = 0;
+        synchronized (this) {
+            for (int[] bucket : buckets) {
+                Arrays.fill(bucket, 0);
+            }
+            Arrays.fill(totals, 0);
+            currentHour = nowHour;
+            for (int i = 0; i < series.length; i++) {
+                if (series[i] != null) {
+                    add(series[i], counts.get(i)[1], (int) counts.get(i)[2]);
+                    loaded += (int) counts.get(i)[2];
+                }
+            }
+            recomputeTop();
+        }
+        log.info("Popular titles index loaded: rentals={}, elapsed={}ms", loaded, System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getBookId() != null && event.getType() != BookChangedEvent.ChangeType.DELETED) {
+            register(event.getBookId(), event.getBookCode(), event.getTitle());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRentalChanged(RentalChangedEvent event) {
+        if (event.getType() != RentalChangedEvent.ChangeType.RENTED) {
+            return;
+        }
+        Integer series = seriesOf(event.getBookId());
+        if (series == null) {
+            return;
+        }
+        long hour = hourOf(LocalDateTime.now(clock));
+        synchronized (this) {
+            advanceTo(hour);
+            add(series, hour, 1);
+            raise(series);
+        }
+    }
+
+    // 대여가 없는 시간에도 밀려난 버킷이 순위에서 빠지도록 주기적으로 시간을 넘긴다
+    @Scheduled(fixedDelayString = "${manca.rentals.popular-rotate-interval:PT1M}")
+    public synchronized void rotate() {
+        advanceTo(hourOf(LocalDateTime.now(clock)));
+    }
+
+    public List<PopularTitleResponse> top(int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        List<PopularTitleResponse> current = ranking;
+        if (current == null) {
+            current = publish();
+        }
+        return current.size() <= limit ? current : current.subList(0, limit);
+    }
+
+    private Integer seriesOf(Long bookId) {
+        Integer series = seriesByBookId.get(bookId);
+        if (series == null) {
+            // 적재와 등록 이벤트 사이에 들어온 도서처럼 아직 모르는 도서는 처음 대여될 때 한 번 조회
+            jdbcTemplate.query(BOOK_SQL, (ResultSet rs) -> {
+                register(rs.getLong("id"), rs.getString("book_code"), rs.getString("title"));
+            }, bookId);
+            series = seriesByBookId.get(bookId);
+        }
+        return series;
+    }
+
+    // 도서코드로 시리즈를 나누고, 형식이 맞지 않는 도서는 제목을 시리즈로 본다
+    private void register(long bookId, String bookCode, String title) {
+        BookCodeParts parts = BookCodeParts.parse(bookCode);
+        String code = parts == null ? null : parts.series();
+        String key = code != null ? "S:" + code : "T:" + title;
+        int series;
+        synchronized (this) {
+            Integer id = seriesIds.get(key);
+            if (id == null) {
+                id = seriesCodes.size();
+                seriesIds.put(key, id);
+                seriesCodes.add(code);
+                seriesTitles.add(title);
+                ensureCapacity(id + 1);
+            } else if (title != null && !title.equals(seriesTitles.get(id))) {
+                seriesTitles.set(id, title);
+            }
+            series = id;
+        }
+        seriesByBookId.put(bookId, series);
+    }
+
+    private void ensureCapacity(int size) {
+        if (size <= totals.length) {
+            return;
+        }
+        int capacity = Math.max(size, totals.length * 2);
+        totals = Arrays.copyOf(totals, capacity);
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = Arrays.copyOf(buckets[i], capacity);
+        }
+    }
+
+    private void add(int series, long hour, int rentals) {
+        if (hour > currentHour || hour <= currentHour - WINDOW_HOURS) {
+            return;
+        }
+        buckets[Math.floorMod(hour, WINDOW_HOURS)][series] += rentals;
+        totals[series] += rentals;
+    }
+
+    // 새 시간으로 넘어가면서 창 밖으로 밀려난 버킷을 합계에서 뺀다 (최대 168칸)
+    private void advanceTo(long hour) {
+        if (hour <= currentHour) {
+            return;
+        }
+        long steps = Math.min(hour - currentHour, WINDOW_HOURS);
+        for (long h = hour - steps + 1; h <= hour; h++) {
+            int[] bucket = buckets[Math.floorMod(h, WINDOW_HOURS)];
+            for (int series = 0; series < seriesCodes.size(); series++) {
+                totals[series] -= bucket[series];
+            }
+            Arrays.fill(bucket, 0);
+        }
+        currentHour = hour;
+        recomputeTop();
+    }
+
+    /**
+     * 한 시리즈의 합계가 늘었을 때 상위 목록을 고친다.
+     * 목록에 있으면 앞으로 끌어올리고, 없으면 목록이 덜 찼거나 꼴찌보다 커졌을 때만 들어간다.
+     */
+    private void raise(int series) {
+        int position = -1;
+        for (int i = 0; i < top.length; i++) {
+            if (top[i] == series) {
+                position = i;
+                break;
+            }
+        }
+        if (position < 0) {
+            if (top.length < MAX_LIMIT) {
+                top = Arrays.copyOf(top, top.length + 1);
+            } else if (totals[series] <= totals[top[top.length - 1]]) {
+                return;
+            }
+            position = top.length - 1;
+            top[position] = series;
+        }
+        while (position > 0 && totals[top[position - 1]] < totals[series]) {
+            top[position] = top[position - 1];
+            position--;
+        }
+        top[position] = series;
+        ranking = null;
+    }
+
+    private void recomputeTop() {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(
+                (a, b) -> totals[a] != totals[b] ? Integer.compare(totals[a], totals[b]) : Integer.compare(b, a));
+        for (int series = 0; series < seriesCodes.size(); series++) {
+            if (totals[series] <= 0) {
+                continue;
+            }
+            heap.add(series);
+            if (heap.size() > MAX_LIMIT) {
+                heap.poll();
+            }
+        }
+        int[] recomputed = new int[heap.size()];
+        for (int i = recomputed.length - 1; i >= 0; i--) {
+            recomputed[i] = heap.poll();
+        }
+        top = recomputed;
+        ranking = null;
+    }
+
+    private synchronized List<PopularTitleResponse> publish() {
+        if (ranking != null) {
+            return ranking;
+        }
+        List<PopularTitleResponse> entries = new ArrayList<>(top.length);
+        for (int i = 0; i < top.length; i++) {
+            entries.add(new PopularTitleResponse(i + 1, seriesCodes.get(top[i]), seriesTitles.get(top[i]),
+                    totals[top[i]]));
+        }
+        List<PopularTitleResponse> published = List.copyOf(entries);
+        ranking = published;
+        return published;
+    }
+
+    private static long hourOf(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 3600L);
+    }
+}
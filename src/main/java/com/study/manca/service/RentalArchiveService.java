@@ -0,0 +1,113 @@
+package com.study.manca.service;
+
+import com.study.manca.config.RentalArchiveProperties;
+import com.study.manca.dto.RentalResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대여 이력 보관 (hot/cold 분리)
+ * rentals 에는 대여중/연체 대여와 최근 반납분만 남기고, 반납 후 보관 기간이 지난 대여는 rentals_archive 로 옮긴다.
+ * 한 번에 batchSize 건씩 DELETE ... RETURNING → INSERT 한 문장으로 옮기므로 배치마다 짧은 트랜잭션이며
+ * 행 잠금만 잡고(SKIP LOCKED 로 반납 처리와 겹친 행은 건너뜀) 테이블 잠금은 없다.
+ * 기존 rentals 의 누적분도 같은 경로로 주기마다 조금씩 옮겨진다.
+ * JPA 엔티티와 목록 조회는 rentals 만 보며, 회원별 전체 이력만 두 테이블을 합쳐 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RentalArchiveService {
+
+    private static final String RENTAL_COLUMNS =
+            "id, member_id, book_id, rental_date_time, return_date_time, due_date_time, status, remarks, version, "
+                    + "created_at, updated_at";
+
+    // idx_rentals_returned_at 로 오래된 반납분부터 찾는다
+    private static final String MOVE_BATCH_SQL = """
+            WITH moved AS (
+                DELETE FROM rentals
+                 WHERE id IN (SELECT id
+                                FROM rentals
+                               WHERE status = 'RETURNED' AND return_date_time < ?
+                               ORDER BY return_date_time
+                               LIMIT ?
+                                 FOR UPDATE SKIP LOCKED)
+                RETURNING %1$s
+            )
+            INSERT INTO rentals_archive (%1$s, archived_at)
+            SELECT %1$s, ? FROM moved
+            """.formatted(RENTAL_COLUMNS);
+
+    private static final String HISTORY_COLUMNS =
+            "id, member_id, book_id, rental_date_time, return_date_time, due_date_time, status, remarks";
+
+    private static final String MEMBER_HISTORY_SQL = """
+            SELECT h.id, h.member_id, m.name AS member_name, h.book_id, b.book_code, b.title AS book_title,
+                   h.rental_date_time, h.return_date_time, h.due_date_time, h.status, h.remarks
+              FROM (SELECT %1$s FROM rentals WHERE member_id = ?
+                    UNION ALL
+                    SELECT %1$s FROM rentals_archive WHERE member_id = ?) h
+              JOIN members m ON m.id = h.member_id
+              JOIN books b ON b.id = h.book_id
+             ORDER BY h.rental_date_time DESC, h.id DESC
+            """.formatted(HISTORY_COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RentalArchiveProperties properties;
+    private final Clock clock;
+
+    /**
+     * 보관 기간이 지난 반납분을 옮기고 옮긴 건수를 돌려준다.
+     * 한 주기에 maxBatchesPerRun 배치까지만 옮기고 나머지는 다음 주기로 넘긴다.
+     */
+    @Scheduled(fixedDelayString = "${manca.rentals.archive-interval:PT10M}")
+    public int archive() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Timestamp cutoff = Timestamp.valueOf(now.minus(properties.retainReturned()));
+        Timestamp archivedAt = Timestamp.valueOf(now);
+        int moved = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            int rows = jdbcTemplate.update(MOVE_BATCH_SQL, cutoff, properties.batchSize(), archivedAt);
+            moved += rows;
+            if (rows < properties.batchSize()) {
+                break;
+            }
+        }
+        if (moved > 0) {
+            log.info("Returned rentals archived: rentals={}, cutoff={}", moved, cutoff);
+        }
+        return moved;
+    }
+
+    // 회원별 전체 대여 이력 (보관분 포함, 최근 대여 순)
+    public List<RentalResponse> findHistoryByMemberId(Long memberId) {
+        return jdbcTemplate.query(MEMBER_HISTORY_SQL, (rs, rowNum) -> mapRental(rs), memberId, memberId);
+    }
+
+    private static RentalResponse mapRental(ResultSet rs) throws SQLException {
+        Timestamp returnDateTime = rs.getTimestamp("return_date_time");
+        return RentalResponse.builder()
+                .id(rs.getLong("id"))
+                .memberId(rs.getLong("member_id"))
+                .memberName(rs.getString("member_name"))
+                .bookId(rs.getLong("book_id"))
+                .bookCode(rs.getString("book_code"))
+                .bookTitle(rs.getString("book_title"))
+                .rentalDateTime(rs.getTimestamp("rental_date_time").toLocalDateTime())
+                .returnDateTime(returnDateTime == null ? null : returnDateTime.toLocalDateTime())
+                .dueDateTime(rs.getTimestamp("due_date_time").toLocalDateTime())
+                .status(rs.getString("status"))
+                .remarks(rs.getString("remarks"))
+                .build();
+    }
+}
@@ -0,0 +1,354 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.RentalBatchCheckoutRequest;
+import com.study.manca.dto.RentalBatchMode;
+import com.study.manca.dto.RentalBatchResponse;
+import com.study.manca.dto.RentalBatchResponse.ItemResult;
+import com.study.manca.dto.RentalBatchResponse.ItemStatus;
+import com.study.manca.dto.RentalBatchReturnRequest;
+import com.study.manca.entity.Book;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.BookFacets;
+import com.study.manca.event.RentalChangedEvent;
+import com.study.manca.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 일괄 대여/반납
+ * 한 요청을 한 트랜잭션으로 처리하며, 도서 수와 관계없이 SQL 문장 수가 일정하다.
+ * - 대상 도서를 도서코드 배열로 한 번에 잠그고(SELECT ... FOR UPDATE, id 순) 가능 여부를 집합으로 판단
+ * - 도서 상태는 UPDATE books ... WHERE id = ANY(?) 한 번, 대여 행은 unnest 로 다중 행 INSERT 한 번
+ * - 반납된 도서에 예약 대기자가 있으면 같은 트랜잭션에서 보관하고 RESERVED 로 둔다 (그런 도서마다 보관 UPDATE 한 번)
+ * 단건 대여/반납(Rental 엔티티)과 같은 도서를 두고 겹치면 도서 버전이 올라가 있으므로 엔티티 쪽이 충돌로 재시도한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RentalBatchService {
+
+    static final int MAX_BATCH_SIZE = 100;
+
+    private static final String BOOK_COLUMNS =
+            "id, book_code, title, author, publisher, genre, status, condition, location";
+
+    private static final String LOCK_BOOKS_SQL = """
+            SELECT id, book_code, status
+              FROM books
+             WHERE book_code = ANY (?::varchar[])
+             ORDER BY id
+               FOR UPDATE
+            """;
+
+    private static final String LOCK_RETURNS_SQL = """
+            SELECT b.id, b.book_code, b.status, r.id AS rental_id
+              FROM books b
+              LEFT JOIN rentals r ON r.book_id = b.id AND r.status IN ('ACTIVE', 'OVERDUE')
+             WHERE b.book_code = ANY (?::varchar[])
+             ORDER BY b.id
+               FOR UPDATE OF b
+            """;
+
+    private static final String CHECKOUT_BOOKS_SQL = """
+            UPDATE books
+               SET status = 'RENTED', version = version + 1, updated_at = ?
+             WHERE id = ANY (?::bigint[]) AND status = 'AVAILABLE'
+            RETURNING %s
+            """.formatted(BOOK_COLUMNS);
+
+    private static final String INSERT_RENTALS_SQL = """
+            INSERT INTO rentals (member_id, book_id, rental_date_time, due_date_time, status, remarks, version,
+                                 created_at, updated_at)
+            SELECT ?, t.book_id, ?, ?, 'ACTIVE', ?, 0, ?, ?
+              FROM unnest(?::bigint[]) AS t(book_id)
+            RETURNING id, book_id
+            """;
+
+    // 대여 행은 잠그지 않았으므로(FOR UPDATE OF b) 그 사이 단건 반납된 대여는 상태 조건으로 걸러낸다
+    private static final String RETURN_RENTALS_SQL = """
+            UPDATE rentals
+               SET status = 'RETURNED', return_date_time = ?, version = version + 1, updated_at = ?
+             WHERE id = ANY (?::bigint[]) AND status IN ('ACTIVE', 'OVERDUE')
+            RETURNING id, member_id, book_id, due_date_time
+            """;
+
+    // 같은 트랜잭션에서 먼저 보관(HELD)이 걸린 도서는 대여가능 대신 RESERVED 로 (uq_reservations_held_book)
+    private static final String RETURN_BOOKS_SQL = """
+            UPDATE books b
+               SET status = CASE WHEN EXISTS (SELECT 1 FROM reservations r
+                                               WHERE r.book_id = b.id AND r.status = 'HELD')
+                                 THEN 'RESERVED' ELSE 'AVAILABLE' END,
+                   version = version + 1, updated_at = ?
+             WHERE id = ANY (?::bigint[])
+            RETURNING %s
+            """.formatted(BOOK_COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MemberRepository memberRepository;
+    private final ReservationService reservationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private record LockedBook(Long id, String bookCode, Book.BookStatus status, List<Long> rentalIds) {
+    }
+
+    // 일괄 대여 (한 회원, 여러 도서)
+    @Transactional
+    public RentalBatchResponse checkout(RentalBatchCheckoutRequest request) {
+        List<String> codes = requireCodes(request.getBookCodes());
+        RentalBatchMode mode = modeOf(request.getMode());
+        if (request.getMemberId() == null || !memberRepository.existsById(request.getMemberId())) {
+            throw new IllegalArgumentException("Member not found with id: " + request.getMemberId());
+        }
+
+        Map<String, LockedBook> books = lock(LOCK_BOOKS_SQL, codes, false);
+        ItemResult[] results = new ItemResult[codes.size()];
+        List<Integer> accepted = classify(codes, books, results, book -> book.status() == Book.BookStatus.AVAILABLE
+                ? null
+                : new ItemResult(book.bookCode(), ItemStatus.NOT_AVAILABLE, book.id(), null, null,
+                        "Book is not available: " + book.status()));
+        if (!apply(mode, codes, books, accepted, results)) {
+            return response(mode, codes.size(), results, false);
+        }
+
+        // 1. 도서 상태 일괄 변경 (잠근 행이므로 모두 바뀌어야 한다)
+        List<LockedBook> targets = accepted.stream().map(i -> books.get(codes.get(i))).toList();
+        Long[] bookIds = targets.stream().map(LockedBook::id).toArray(Long[]::new);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int rentalDays = request.getRentalDays() == null ? RentalService.DEFAULT_RENTAL_DAYS : request.getRentalDays();
+        LocalDateTime due = now.toLocalDateTime().plusDays(rentalDays);
+        int updated = updateBooks(CHECKOUT_BOOKS_SQL, now, targets);
+        if (updated != bookIds.length) {
+            throw new IllegalStateException("Books changed during checkout: expected=" + bookIds.length
+                    + ", updated=" + updated);
+        }
+
+        // 2. 대여 행 다중 INSERT
+        Map<Long, Long> rentalIdByBookId = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_RENTALS_SQL);
+            ps.setLong(1, request.getMemberId());
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, Timestamp.valueOf(due));
+            ps.setObject(4, request.getRemarks(), Types.VARCHAR);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            ps.setArray(7, con.createArrayOf("bigint", bookIds));
+            return ps;
+        }, (ResultSet rs) -> {
+            rentalIdByBookId.put(rs.getLong("book_id"), rs.getLong("id"));
+        });
+
+        for (int i : accepted) {
+            Long bookId = books.get(codes.get(i)).id();
+            Long rentalId = rentalIdByBookId.get(bookId);
+            results[i] = new ItemResult(codes.get(i), ItemStatus.RENTED, bookId, rentalId, due, null);
+            eventPublisher.publishEvent(RentalChangedEvent.of(RentalChangedEvent.ChangeType.RENTED,
+                    rentalId, request.getMemberId(), bookId, due));
+        }
+        return response(mode, codes.size(), results, true);
+    }
+
+    // 일괄 반납 (스캔한 도서코드 묶음)
+    @Transactional
+    public RentalBatchResponse returnBooks(RentalBatchReturnRequest request) {
+        List<String> codes = requireCodes(request.getBookCodes());
+        RentalBatchMode mode = modeOf(request.getMode());
+
+        Map<String, LockedBook> books = lock(LOCK_RETURNS_SQL, codes, true);
+        ItemResult[] results = new ItemResult[codes.size()];
+        List<Integer> accepted = classify(codes, books, results, book -> book.rentalIds().isEmpty()
+                ? new ItemResult(book.bookCode(), ItemStatus.NOT_RENTED, book.id(), null, null,
+                        "No active rental for book: " + book.bookCode())
+                : null);
+        if (!apply(mode, codes, books, accepted, results)) {
+            return response(mode, codes.size(), results, false);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<LockedBook> targets = accepted.stream().map(i -> books.get(codes.get(i))).toList();
+        Long[] rentalIds = targets.stream().flatMap(book -> book.rentalIds().stream()).toArray(Long[]::new);
+
+        // 1. 대여 행 일괄 반납 처리
+        List<RentalChangedEvent> returned = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(RETURN_RENTALS_SQL);
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            ps.setArray(3, con.createArrayOf("bigint", rentalIds));
+            return ps;
+        }, (rs, rowNum) -> RentalChangedEvent.of(RentalChangedEvent.ChangeType.RETURNED, rs.getLong("id"),
+                rs.getLong("member_id"), rs.getLong("book_id"), rs.getTimestamp("due_date_time").toLocalDateTime()));
+        if (returned.size() != rentalIds.length) {
+            throw new IllegalStateException("Rentals changed during return: expected=" + rentalIds.length
+                    + ", returned=" + returned.size());
+        }
+
+        // 2. 예약 대기자가 있는 도서는 다음 대기자에게 보관 (RentalService.returnBook 과 같이 같은 트랜잭션)
+        reservationService.holdForNext(targets.stream().map(LockedBook::id).toList());
+
+        // 3. 도서 상태 일괄 변경 (보관된 도서는 RESERVED, 나머지는 대여가능)
+        updateBooks(RETURN_BOOKS_SQL, now, targets);
+
+        for (int i : accepted) {
+            LockedBook book = books.get(codes.get(i));
+            results[i] = new ItemResult(codes.get(i), ItemStatus.RETURNED, book.id(), book.rentalIds().get(0), null, null);
+        }
+        returned.forEach(eventPublisher::publishEvent);
+        return response(mode, codes.size(), results, true);
+    }
+
+    // 도서코드 배열로 대상 도서를 id 순으로 잠근다 (여러 창구가 겹쳐도 같은 순서로 잠가 교착을 피함)
+    // withRentals 이면 도서마다 진행 중인 대여 ID 를 함께 모은다 (LOCK_RETURNS_SQL)
+    private Map<String, LockedBook> lock(String sql, List<String> codes, boolean withRentals) {
+        Map<String, LockedBook> books = new HashMap<>();
+        String[] distinct = new HashSet<>(codes).toArray(new String[0]);
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("varchar", distinct));
+            return ps;
+        }, (ResultSet rs) -> {
+            String bookCode = rs.getString("book_code");
+            LockedBook book = books.get(bookCode);
+            if (book == null) {
+                book = new LockedBook(rs.getLong("id"), bookCode,
+                        Book.BookStatus.valueOf(rs.getString("status")), new ArrayList<>());
+                books.put(bookCode, book);
+            }
+            if (withRentals) {
+                long rentalId = rs.getLong("rental_id");
+                if (!rs.wasNull()) {
+                    book.rentalIds().add(rentalId);
+                }
+            }
+        });
+        return books;
+    }
+
+    /**
+     * 요청 순서대로 중복/미등록/불가 사유를 채우고, 처리할 수 있는 요청 위치를 돌려준다.
+     */
+    private List<Integer> classify(List<String> codes, Map<String, LockedBook> books, ItemResult[] results,
+                                   Function<LockedBook, ItemResult> reject) {
+        Set<String> seen = new HashSet<>();
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < codes.size(); i++) {
+            String code = codes.get(i);
+            LockedBook book = books.get(code);
+            if (!seen.add(code)) {
+                results[i] = new ItemResult(code, ItemStatus.DUPLICATE, book == null ? null : book.id(), null, null,
+                        "Duplicated in request");
+            } else if (book == null) {
+                results[i] = new ItemResult(code, ItemStatus.NOT_FOUND, null, null, null,
+                        "Book not found with code: " + code);
+            } else if ((results[i] = reject.apply(book)) == null) {
+                accepted.add(i);
+            }
+        }
+        return accepted;
+    }
+
+    // 반영할지 결정: ALL_OR_NOTHING 에서 실패가 하나라도 있으면 처리 가능한 도서도 SKIPPED 로 돌려준다
+    private boolean apply(RentalBatchMode mode, List<String> codes, Map<String, LockedBook> books,
+                          List<Integer> accepted, ItemResult[] results) {
+        boolean anyFailed = accepted.size() + countStatus(results, ItemStatus.DUPLICATE) < results.length;
+        if (mode == RentalBatchMode.ALL_OR_NOTHING && anyFailed) {
+            for (int i : accepted) {
+                results[i] = new ItemResult(codes.get(i), ItemStatus.SKIPPED, books.get(codes.get(i)).id(), null, null,
+                        "Not applied because other books failed");
+            }
+            return false;
+        }
+        return !accepted.isEmpty();
+    }
+
+    /**
+     * 도서 상태를 한 번에 바꾸고 바뀐 도서마다 변경 이벤트를 발행한다 (JDBC 경로는 엔티티 리스너를 거치지 않음).
+     */
+    private int updateBooks(String sql, Timestamp now, List<LockedBook> targets) {
+        Long[] bookIds = targets.stream().map(LockedBook::id).toArray(Long[]::new);
+        Map<Long, Book.BookStatus> previous = new HashMap<>();
+        targets.forEach(book -> previous.put(book.id(), book.status()));
+        List<BookChangedEvent> events = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setTimestamp(1, now);
+            ps.setArray(2, con.createArrayOf("bigint", bookIds));
+            return ps;
+        }, (rs, rowNum) -> {
+            Book.BookCondition condition = Book.BookCondition.valueOf(rs.getString("condition"));
+            long id = rs.getLong("id");
+            return BookChangedEvent.builder()
+                    .type(BookChangedEvent.ChangeType.UPDATED)
+                    .bookId(id)
+                    .bookCode(rs.getString("book_code"))
+                    .title(rs.getString("title"))
+                    .author(rs.getString("author"))
+                    .publisher(rs.getString("publisher"))
+                    .genre(rs.getString("genre"))
+                    .status(Book.BookStatus.valueOf(rs.getString("status")))
+                    .condition(condition)
+                    .location(rs.getString("location"))
+                    .previousFacets(new BookFacets(previous.get(id), rs.getString("genre"), condition,
+                            rs.getString("location"), rs.getString("publisher")))
+                    .build();
+        });
+        events.forEach(eventPublisher::publishEvent);
+        return events.size();
+    }
+
+    private RentalBatchResponse response(RentalBatchMode mode, int requested, ItemResult[] results, boolean applied) {
+        int succeeded = applied
+                ? countStatus(results, ItemStatus.RENTED) + countStatus(results, ItemStatus.RETURNED)
+                : 0;
+        int failed = requested - succeeded - countStatus(results, ItemStatus.DUPLICATE)
+                - countStatus(results, ItemStatus.SKIPPED);
+        return RentalBatchResponse.builder()
+                .mode(mode)
+                .requested(requested)
+                .succeeded(succeeded)
+                .failed(failed)
+                .applied(applied)
+                .results(List.of(results))
+                .build();
+    }
+
+    private static int countStatus(ItemResult[] results, ItemStatus status) {
+        int count = 0;
+        for (ItemResult result : results) {
+            if (result != null && result.getStatus() == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<String> requireCodes(List<String> bookCodes) {
+        if (bookCodes == null || bookCodes.isEmpty()) {
+            throw new IllegalArgumentException("bookCodes is required");
+        }
+        if (bookCodes.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Too many books: " + bookCodes.size() + " (max " + MAX_BATCH_SIZE + ")");
+        }
+        if (bookCodes.stream().anyMatch(code -> code == null || code.isBlank())) {
+            throw new IllegalArgumentException("bookCode must not be blank");
+        }
+        return bookCodes;
+    }
+
+    private static RentalBatchMode modeOf(RentalBatchMode mode) {
+        return mode == null ? RentalBatchMode.ALL_OR_NOTHING : mode;
+    }
+}
@@ -0,0 +1,143 @@
+package com.study.manca.service;
+
+import com.study.manca.event.RentalChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 연체 전환
+ * 대여중(ACTIVE) 대여를 반납예정일시 순 최소 힙에 들고 있다가, 주기마다 기한이 지난 것만 꺼내
+ * UPDATE ... WHERE id = ANY(?) 한 번으로 OVERDUE 로 바꾼다 (rentals 를 훑거나 엔티티를 읽지 않음).
+ * 반납된 대여는 힙에서 바로 빼지 않고, UPDATE 의 status = 'ACTIVE' 조건으로 걸러낸다.
+ */
+@Slf4j
+@Service
+public class RentalOverdueScheduler {
+
+    static final int SWEEP_BATCH_SIZE = 1_000;
+
+    // idx_rentals_status_due_date_time 만으로 반납예정일시 순으로 읽힌다 (정렬된 입력이라 힙 적재도 O(1)씩)
+    private static final String LOAD_ACTIVE_SQL = """
+            SELECT id, due_date_time
+              FROM rentals
+             WHERE status = 'ACTIVE'
+             ORDER BY due_date_time
+            """;
+
+    private static final String MARK_OVERDUE_SQL = """
+            UPDATE rentals
+               SET status = 'OVERDUE', version = version + 1, updated_at = ?
+             WHERE id = ANY (?::bigint[]) AND status = 'ACTIVE' AND due_date_time < ?
+            RETURNING id, member_id, book_id, due_date_time
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    private final PriorityQueue<Due> heap = new PriorityQueue<>(
+            Comparator.comparing(Due::dueDateTime).thenComparingLong(Due::rentalId));
+
+    record Due(long rentalId, LocalDateTime dueDateTime) {
+    }
+
+    public RentalOverdueScheduler(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+    }
+
+    // 기동 시 대여중 목록으로 힙 재구성 (이미 기한이 지난 대여는 첫 주기에 전환)
+    @PostConstruct
+    public void load() {
+        List<Due> active = jdbcTemplate.query(LOAD_ACTIVE_SQL, (rs, rowNum) ->
+                new Due(rs.getLong("id"), rs.getTimestamp("due_date_time").toLocalDateTime()));
+        synchronized (this) {
+            heap.clear();
+            heap.addAll(active);
+        }
+        log.info("Active rentals loaded for overdue sweep: rentals={}", active.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRentalChanged(RentalChangedEvent event) {
+        if (event.getType() == RentalChangedEvent.ChangeType.RENTED) {
+            synchronized (this) {
+                heap.add(new Due(event.getRentalId(), event.getDueDateTime()));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${manca.rentals.overdue-sweep-interval:PT1M}")
+    public int sweep() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int overdue = 0;
+        List<Due> due;
+        while (!(due = pollDue(now)).isEmpty()) {
+            overdue += markOverdue(due, now);
+            if (due.size() < SWEEP_BATCH_SIZE) {
+                break;
+            }
+        }
+        if (overdue > 0) {
+            log.debug("Rentals marked overdue: rentals={}", overdue);
+        }
+        return overdue;
+    }
+
+    public synchronized int pendingCount() {
+        return heap.size();
+    }
+
+    // Rental.isOverdue 와 같이 반납예정일시가 지난(now > due) 대여만 꺼낸다
+    private synchronized List<Due> pollDue(LocalDateTime now) {
+        List<Due> due = new ArrayList<>();
+        while (due.size() < SWEEP_BATCH_SIZE && !heap.isEmpty() && heap.peek().dueDateTime().isBefore(now)) {
+            due.add(heap.poll());
+        }
+        return due;
+    }
+
+    private int markOverdue(List<Due> due, LocalDateTime now) {
+        Long[] rentalIds = due.stream().map(Due::rentalId).toArray(Long[]::new);
+        Timestamp at = Timestamp.valueOf(now);
+        List<RentalChangedEvent> events;
+        try {
+            events = jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(MARK_OVERDUE_SQL);
+                ps.setTimestamp(1, at);
+                ps.setArray(2, con.createArrayOf("bigint", rentalIds));
+                ps.setTimestamp(3, at);
+                return ps;
+            }, (rs, rowNum) -> RentalChangedEvent.of(
+                    RentalChangedEvent.ChangeType.OVERDUE,
+                    rs.getLong("id"),
+                    rs.getLong("member_id"),
+                    rs.getLong("book_id"),
+                    rs.getTimestamp("due_date_time").toLocalDateTime()));
+        } catch (DataAccessException e) {
+            // 다음 주기에 다시 시도하도록 되돌려 놓는다
+            synchronized (this) {
+                heap.addAll(due);
+            }
+            throw e;
+        }
+        events.forEach(eventPublisher::publishEvent);
+        return events.size();
+    }
+}
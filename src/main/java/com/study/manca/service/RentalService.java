@@ -0,0 +1,127 @@
+package com.study.manca.service;
+
+import com.study.manca.config.CacheConfig;
+import com.study.manca.dto.RentalRequest;
+import com.study.manca.dto.RentalResponse;
+import com.study.manca.dto.RentalScrollResponse;
+import com.study.manca.entity.Book;
+import com.study.manca.entity.Member;
+import com.study.manca.entity.Rental;
+import com.study.manca.event.RentalChangedEvent;
+import com.study.manca.repository.BookRepository;
+import com.study.manca.repository.MemberRepository;
+import com.study.manca.repository.RentalRepository;
+import com.study.manca.support.RetryOnOptimisticLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대여 처리
+ * 도서 상태 변경(대여/반납)은 Book 의 @Version 으로 검증된다.
+ * 두 창구가 같은 도서를 동시에 대여하면 늦게 커밋한 쪽이 충돌하고, 재시도 시 이미 대여중인 상태를 보고 실패한다.
+ * 예약 대기자가 있는 도서는 반납 시 바로 다음 대기자에게 보관되고(ReservationService), 그 회원만 대여할 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RentalService {
+
+    public static final int MAX_SCROLL_SIZE = 1000;
+    static final int DEFAULT_RENTAL_DAYS = 7;
+
+    private final RentalRepository rentalRepository;
+    private final MemberRepository memberRepository;
+    private final BookRepository bookRepository;
+    private final ReservationService reservationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 대여 키셋 페이지 조회 (GET) - lastId 이후의 대여를 size 만큼
+    public RentalScrollResponse scroll(Long lastId, int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SCROLL_SIZE + ": " + size);
+        }
+        long cursor = lastId == null ? 0L : lastId;
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<RentalResponse> rows = rentalRepository.findResponsesAfter(cursor, Limit.of(size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<RentalResponse> content = hasNext ? rows.subList(0, size) : rows;
+        return RentalScrollResponse.of(content, hasNext);
+    }
+
+    // 회원별 대여 조회 (GET, 최근 대여 순)
+    public List<RentalResponse> findByMemberId(Long memberId) {
+        return rentalRepository.findResponsesByMemberId(memberId);
+    }
+
+    // 상태별 대여 조회 (GET, 반납예정일시 순)
+    public List<RentalResponse> findByStatus(Rental.RentalStatus status) {
+        return rentalRepository.findResponsesByStatus(status);
+    }
+
+    // 대여 단건 조회 (GET)
+    public RentalResponse findById(Long id) {
+        Rental rental = rentalRepository.findWithMemberAndBookById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Rental not found with id: " + id));
+        return RentalResponse.from(rental);
+    }
+
+    // 대여 등록 (POST)
+    @RetryOnOptimisticLock
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#request.bookId")
+    public RentalResponse create(RentalRequest request) {
+        Member member = memberRepository.findById(request.getMemberId())
+                .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + request.getMemberId()));
+        Book book = bookRepository.findById(request.getBookId())
+                .orElseThrow(() -> new IllegalArgumentException("Book not found with id: " + request.getBookId()));
+        if (book.getStatus() == Book.BookStatus.RESERVED) {
+            // 예약 보관중인 도서는 보관 대상 회원만 대여할 수 있다 (예약을 대여완료로 바꾸고 대여가능으로 돌림)
+            reservationService.fulfill(book, member.getId());
+        } else if (book.getStatus() != Book.BookStatus.AVAILABLE) {
+            throw new IllegalStateException("Book is not available: " + book.getBookCode());
+        }
+
+        int rentalDays = request.getRentalDays() == null ? DEFAULT_RENTAL_DAYS : request.getRentalDays();
+        LocalDateTime now = LocalDateTime.now();
+        Rental rental = Rental.builder()
+                .member(member)
+                .book(book)
+                .rentalDateTime(now)
+                .dueDateTime(now.plusDays(rentalDays))
+                .remarks(request.getRemarks())
+                .build();
+
+        // @PrePersist(onRental) 에서 도서를 RENTED 로 변경 (커밋 시 Book 버전으로 동시 대여 감지)
+        Rental savedRental = rentalRepository.save(rental);
+        publish(RentalChangedEvent.ChangeType.RENTED, savedRental);
+        return RentalResponse.from(savedRental);
+    }
+
+    // 반납 (POST)
+    @RetryOnOptimisticLock
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#result.bookId")
+    public RentalResponse returnBook(Long id) {
+        Rental rental = rentalRepository.findWithMemberAndBookById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Rental not found with id: " + id));
+        rental.returnBook();
+        // 예약 대기자가 있으면 대여가능 대신 다음 대기자에게 보관한다 (같은 트랜잭션)
+        reservationService.holdForNext(rental.getBook());
+        publish(RentalChangedEvent.ChangeType.RETURNED, rental);
+        return RentalResponse.from(rental);
+    }
+
+    private void publish(RentalChangedEvent.ChangeType type, Rental rental) {
+        eventPublisher.publishEvent(RentalChangedEvent.of(type, rental.getId(), rental.getMember().getId(),
+                rental.getBook().getId(), rental.getDueDateTime()));
+    }
+}
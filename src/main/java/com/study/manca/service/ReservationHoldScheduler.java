@@ -0,0 +1,125 @@
+package com.study.manca.service;
+
+import com.study.manca.entity.Book;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.ReservationChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 예약 보관 처리
+ * 커밋된 예약 변경을 대기열(ReservationQueue)에 반영하고, 도서가 대여가능이 되면 다음 대기자에게 보관을 건다.
+ * 보관중인 예약은 보관 기한 순 최소 힙에 들고 있다가 주기마다 기한이 지난 것만 꺼내 만료시킨다 (reservations 를 훑지 않음).
+ * 그 사이 대여/취소된 보관은 힙에서 바로 빼지 않고, 만료 UPDATE 의 status 조건으로 걸러낸다.
+ */
+@Slf4j
+@Service
+public class ReservationHoldScheduler {
+
+    private static final String LOAD_HELD_SQL = "SELECT id, held_until FROM reservations WHERE status = 'HELD'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReservationQueue reservationQueue;
+    private final ReservationService reservationService;
+    private final Clock clock;
+
+    private final PriorityQueue<Due> heap = new PriorityQueue<>(
+            Comparator.comparing(Due::heldUntil).thenComparingLong(Due::reservationId));
+
+    record Due(long reservationId, LocalDateTime heldUntil) {
+    }
+
+    public ReservationHoldScheduler(JdbcTemplate jdbcTemplate, ReservationQueue reservationQueue,
+                                    ReservationService reservationService, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reservationQueue = reservationQueue;
+        this.reservationService = reservationService;
+        this.clock = clock;
+    }
+
+    // 기동 시 보관중인 예약으로 힙 재구성 (이미 기한이 지난 보관은 첫 주기에 만료)
+    @PostConstruct
+    public void load() {
+        List<Due> held = jdbcTemplate.query(LOAD_HELD_SQL, (rs, rowNum) ->
+                new Due(rs.getLong("id"), rs.getTimestamp("held_until").toLocalDateTime()));
+        synchronized (this) {
+            heap.clear();
+            heap.addAll(held);
+        }
+        log.info("Reservation holds loaded: holds={}", held.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        reservationQueue.apply(event);
+        if (event.getType() == ReservationChangedEvent.ChangeType.HELD) {
+            synchronized (this) {
+                heap.add(new Due(event.getReservationId(), event.getHeldUntil()));
+            }
+        } else if (event.getType() == ReservationChangedEvent.ChangeType.WAITING) {
+            // 예약 확인과 대기열 등록 사이에 반납된 도서도 놓치지 않도록 한 번 맞춰 본다
+            match(event.getBookId());
+        }
+    }
+
+    // 반납 외의 경로(상태 변경, 서가 점검 등)로 대여가능이 된 도서
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getStatus() == Book.BookStatus.AVAILABLE && event.getBookId() != null
+                && reservationQueue.hasWaiting(event.getBookId())) {
+            match(event.getBookId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${manca.reservations.hold-expiry-interval:PT1M}")
+    public int expireDue() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int expired = 0;
+        Due due;
+        while ((due = pollDue(now)) != null) {
+            try {
+                if (reservationService.expire(due.reservationId())) {
+                    expired++;
+                }
+            } catch (DataAccessException e) {
+                // 다음 주기에 다시 시도하도록 되돌려 놓는다
+                synchronized (this) {
+                    heap.add(due);
+                }
+                throw e;
+            }
+        }
+        if (expired > 0) {
+            log.info("Reservation holds expired: holds={}", expired);
+        }
+        return expired;
+    }
+
+    public synchronized int pendingCount() {
+        return heap.size();
+    }
+
+    private synchronized Due pollDue(LocalDateTime now) {
+        return !heap.isEmpty() && heap.peek().heldUntil().isBefore(now) ? heap.poll() : null;
+    }
+
+    // 커밋 이후라 실패해도 원래 트랜잭션에는 영향이 없고, 다음 반납/상태 변경 때 다시 맞춘다
+    private void match(Long bookId) {
+        try {
+            reservationService.match(bookId);
+        } catch (DataAccessException e) {
+            log.warn("Reservation match failed: bookId={}", bookId, e);
+        }
+    }
+}
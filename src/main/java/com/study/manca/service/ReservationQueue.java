@@ -0,0 +1,166 @@
+package com.study.manca.service;
+
+import com.study.manca.event.ReservationChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 도서별 예약 대기열 (메모리)
+ * 도서 ID → 예약 순 대기열(ArrayDeque) + 현재 보관중인 예약 하나를 들고 있어,
+ * 반납 시 다음 대기자는 맨 앞을 보는 것으로 O(1) 에 찾는다 (reservations 를 조회/정렬하지 않음).
+ * 커밋된 변경(ReservationChangedEvent)만 반영하며, 기동 시 대기/보관중 예약으로 다시 채운다.
+ * 그 사이 취소된 맨 앞 예약은 보관 UPDATE 의 status 조건에 걸러지고 discard 로 빠진다.
+ */
+@Slf4j
+@Service
+public class ReservationQueue {
+
+    // uq_reservations_open (대기/보관중 부분 인덱스) 범위만 읽는다
+    private static final String LOAD_SQL = """
+            SELECT id, member_id, book_id, status, held_until
+              FROM reservations
+             WHERE status IN ('WAITING', 'HELD')
+             ORDER BY id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentMap<Long, WaitList> waitLists = new ConcurrentHashMap<>();
+
+    public record Entry(long reservationId, long memberId, LocalDateTime heldUntil) {  // 대기중이면 heldUntil 은 null
+    }
+
+    public ReservationQueue(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void load() {
+        waitLists.clear();
+        int[] loaded = new int[1];
+        jdbcTemplate.query(LOAD_SQL, (ResultSet rs) -> {
+            Timestamp heldUntil = rs.getTimestamp("held_until");
+            Entry entry = new Entry(rs.getLong("id"), rs.getLong("member_id"),
+                    heldUntil == null ? null : heldUntil.toLocalDateTime());
+            WaitList waitList = waitLists.computeIfAbsent(rs.getLong("book_id"), id -> new WaitList());
+            if ("HELD".equals(rs.getString("status"))) {
+                waitList.hold(entry);
+            } else {
+                waitList.add(entry);
+            }
+            loaded[0]++;
+        });
+        log.info("Reservation queue loaded: reservations={}, books={}", loaded[0], waitLists.size());
+    }
+
+    // 커밋된 예약 변경 반영 (ReservationHoldScheduler 가 커밋 이후에 호출)
+    public void apply(ReservationChangedEvent event) {
+        long reservationId = event.getReservationId();
+        switch (event.getType()) {
+            case WAITING -> waitLists.computeIfAbsent(event.getBookId(), id -> new WaitList())
+                    .add(new Entry(reservationId, event.getMemberId(), null));
+            case HELD -> waitLists.computeIfAbsent(event.getBookId(), id -> new WaitList())
+                    .hold(new Entry(reservationId, event.getMemberId(), event.getHeldUntil()));
+            case FULFILLED, CANCELLED, EXPIRED -> waitLists.computeIfPresent(event.getBookId(), (id, waitList) -> {
+                waitList.release(reservationId);
+                return waitList.isEmpty() ? null : waitList;
+            });
+        }
+    }
+
+    // 다음 대기자 (맨 앞, O(1))
+    public Optional<Entry> peek(Long bookId) {
+        WaitList waitList = waitLists.get(bookId);
+        return waitList == null ? Optional.empty() : Optional.ofNullable(waitList.peek());
+    }
+
+    // DB 에서 이미 대기 상태가 아닌 예약을 대기열에서 뺀다
+    public void discard(Long bookId, long reservationId) {
+        waitLists.computeIfPresent(bookId, (id, waitList) -> {
+            waitList.remove(reservationId);
+            return waitList.isEmpty() ? null : waitList;
+        });
+    }
+
+    public boolean hasWaiting(Long bookId) {
+        WaitList waitList = waitLists.get(bookId);
+        return waitList != null && waitList.peek() != null;
+    }
+
+    public int waitingCount(Long bookId) {
+        WaitList waitList = waitLists.get(bookId);
+        return waitList == null ? 0 : waitList.waitingCount();
+    }
+
+    // 보관중인 예약(있으면 맨 앞) + 대기 순서대로
+    public List<Entry> snapshot(Long bookId) {
+        WaitList waitList = waitLists.get(bookId);
+        return waitList == null ? List.of() : waitList.snapshot();
+    }
+
+    private static final class WaitList {
+
+        private final ArrayDeque<Entry> waiting = new ArrayDeque<>();
+        private Entry held;
+
+        synchronized void add(Entry entry) {
+            waiting.addLast(entry);
+        }
+
+        synchronized Entry peek() {
+            return waiting.peekFirst();
+        }
+
+        // 보관/만료 대상은 맨 앞이라 O(1), 대기 중 취소만 대기열을 훑는다
+        synchronized void remove(long reservationId) {
+            Entry head = waiting.peekFirst();
+            if (head != null && head.reservationId() == reservationId) {
+                waiting.pollFirst();
+            } else {
+                waiting.removeIf(entry -> entry.reservationId() == reservationId);
+            }
+        }
+
+        synchronized void hold(Entry entry) {
+            remove(entry.reservationId());
+            held = entry;
+        }
+
+        synchronized void release(long reservationId) {
+            if (held != null && held.reservationId() == reservationId) {
+                held = null;
+            } else {
+                remove(reservationId);
+            }
+        }
+
+        synchronized boolean isEmpty() {
+            return held == null && waiting.isEmpty();
+        }
+
+        synchronized int waitingCount() {
+            return waiting.size();
+        }
+
+        synchronized List<Entry> snapshot() {
+            List<Entry> entries = new ArrayList<>(waiting.size() + 1);
+            if (held != null) {
+                entries.add(held);
+            }
+            entries.addAll(waiting);
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.study.manca.service;
+
+import com.study.manca.config.ReservationProperties;
+import com.study.manca.dto.ReservationRequest;
+import com.study.manca.dto.ReservationResponse;
+import com.study.manca.entity.Book;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.BookFacets;
+import com.study.manca.event.ReservationChangedEvent;
+import com.study.manca.repository.BookChangeView;
+import com.study.manca.repository.BookRepository;
+import com.study.manca.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 도서 예약 (대기열)
+ * 대여중/보관중인 도서에 예약하면 reservations 에 WAITING 으로 저장되고, 커밋 이후 도서별 대기열(ReservationQueue) 끝에 붙는다.
+ * 도서가 돌아오면 대기열 맨 앞 예약을 HELD 로, 도서를 RESERVED 로 바꿔 보관한다 (대기 건수와 관계없이 UPDATE 한 번).
+ *  - 단건/일괄 반납(RentalService.returnBook, RentalBatchService.returnBooks)은 반납 트랜잭션 안에서 보관하므로
+ *    대여가능 상태가 밖으로 보이지 않는다.
+ *  - 상태 변경/서가 점검처럼 다른 경로로 대여가능이 된 도서는 커밋 이후 match 가 조건부 UPDATE 로 보관한다.
+ * 보관된 도서는 보관 대상 회원만 대여할 수 있고, 보관 기한이 지나거나 취소되면 다음 대기자에게 넘어간다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReservationService {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reservations (member_id, book_id, status, reserved_date_time, created_at, updated_at)
+            VALUES (?, ?, 'WAITING', ?, ?, ?)
+            RETURNING id
+            """;
+
+    private static final String HOLD_SQL = """
+            UPDATE reservations
+               SET status = 'HELD', held_until = ?, updated_at = ?
+             WHERE id = ? AND status = 'WAITING'
+            """;
+
+    // uq_reservations_held_book 로 도서당 하나뿐인 보관 예약을 찾는다
+    private static final String FULFILL_SQL = """
+            UPDATE reservations
+               SET status = 'FULFILLED', updated_at = ?
+             WHERE book_id = ? AND member_id = ? AND status = 'HELD' AND held_until >= ?
+            RETURNING id
+            """;
+
+    private static final String EXPIRE_SQL = """
+            UPDATE reservations
+               SET status = 'EXPIRED', updated_at = ?
+             WHERE id = ? AND status = 'HELD' AND held_until < ?
+            RETURNING member_id, book_id
+            """;
+
+    private static final String LOCK_SQL = "SELECT member_id, book_id, status FROM reservations WHERE id = ? FOR UPDATE";
+
+    private static final String LOCK_BOOK_SQL = "SELECT status FROM books WHERE id = ? FOR UPDATE";
+
+    private static final String CANCEL_SQL = "UPDATE reservations SET status = 'CANCELLED', updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MemberRepository memberRepository;
+    private final BookRepository bookRepository;
+    private final ReservationQueue reservationQueue;
+    private final ReservationProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    private record Locked(long memberId, long bookId, String status) {
+    }
+
+    // 도서별 예약 현황 (GET) - 보관중인 예약, 대기 순서대로
+    public List<ReservationResponse> findByBookId(Long bookId) {
+        if (!bookRepository.existsById(bookId)) {
+            throw new IllegalArgumentException("Book not found with id: " + bookId);
+        }
+        List<ReservationQueue.Entry> entries = reservationQueue.snapshot(bookId);
+        List<ReservationResponse> reservations = new ArrayList<>(entries.size());
+        int position = 0;
+        for (ReservationQueue.Entry entry : entries) {
+            boolean held = entry.heldUntil() != null;
+            reservations.add(ReservationResponse.builder()
+                    .id(entry.reservationId())
+                    .memberId(entry.memberId())
+                    .bookId(bookId)
+                    .status(held ? "HELD" : "WAITING")
+                    .position(held ? 0 : ++position)
+                    .heldUntil(entry.heldUntil())
+                    .build());
+        }
+        return reservations;
+    }
+
+    // 예약 등록 (POST) - 대여중이거나 다른 회원에게 보관중인 도서만 예약할 수 있다
+    @Transactional
+    public ReservationResponse reserve(ReservationRequest request) {
+        if (request.getMemberId() == null) {
+            throw new IllegalArgumentException("memberId is required");
+        }
+        if (!memberRepository.existsById(request.getMemberId())) {
+            throw new IllegalArgumentException("Member not found with id: " + request.getMemberId());
+        }
+        Book book = findBook(request);
+        if (book.getStatus() == Book.BookStatus.AVAILABLE) {
+            throw new IllegalStateException("Book is available, rent it instead: " + book.getBookCode());
+        }
+        if (book.getStatus() != Book.BookStatus.RENTED && book.getStatus() != Book.BookStatus.RESERVED) {
+            throw new IllegalStateException("Book cannot be reserved: " + book.getBookCode() + " (" + book.getStatus() + ")");
+        }
+
+        Timestamp at = Timestamp.valueOf(LocalDateTime.now(clock));
+        Long id;
+        try {
+            id = jdbcTemplate.queryForObject(INSERT_SQL, Long.class, request.getMemberId(), book.getId(), at, at, at);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalStateException("Member " + request.getMemberId() + " already reserved book: "
+                    + book.getBookCode());
+        }
+        eventPublisher.publishEvent(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.WAITING, id,
+                request.getMemberId(), book.getId(), null));
+        return ReservationResponse.builder()
+                .id(id)
+                .memberId(request.getMemberId())
+                .bookId(book.getId())
+                .status("WAITING")
+                .position(reservationQueue.waitingCount(book.getId()) + 1)
+                .build();
+    }
+
+    // 예약 취소 (DELETE) - 보관중이던 예약이면 다음 대기자에게 넘기거나 도서를 대여가능으로 돌린다
+    @Transactional
+    public ReservationResponse cancel(Long id) {
+        Locked reservation = jdbcTemplate.query(LOCK_SQL, (rs, rowNum) ->
+                        new Locked(rs.getLong("member_id"), rs.getLong("book_id"), rs.getString("status")), id)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Reservation not found with id: " + id));
+        if (!"WAITING".equals(reservation.status()) && !"HELD".equals(reservation.status())) {
+            throw new IllegalStateException("Reservation is already " + reservation.status() + ": " + id);
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        jdbcTemplate.update(CANCEL_SQL, Timestamp.valueOf(now), id);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.CANCELLED, id,
+                reservation.memberId(), reservation.bookId(), null));
+        if ("HELD".equals(reservation.status())) {
+            passOn(reservation.bookId(), now);
+        }
+        return ReservationResponse.builder()
+                .id(id)
+                .memberId(reservation.memberId())
+                .bookId(reservation.bookId())
+                .status("CANCELLED")
+                .build();
+    }
+
+    /**
+     * 보관된 도서 대여 (RentalService.create 트랜잭션 안에서 호출)
+     * 보관 대상 회원이 기한 안에 대여할 때만 예약을 FULFILLED 로 바꾸고, 도서를 대여가능으로 돌려 대여를 이어가게 한다.
+     */
+    @Transactional
+    public void fulfill(Book book, Long memberId) {
+        Timestamp at = Timestamp.valueOf(LocalDateTime.now(clock));
+        List<Long> fulfilled = jdbcTemplate.queryForList(FULFILL_SQL, Long.class, at, book.getId(), memberId, at);
+        if (fulfilled.isEmpty()) {
+            throw new IllegalStateException("Book is reserved for another member: " + book.getBookCode());
+        }
+        book.setStatus(Book.BookStatus.AVAILABLE);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.FULFILLED,
+                fulfilled.get(0), memberId, book.getId(), null));
+    }
+
+    /**
+     * 반납된 도서를 다음 대기자에게 보관 (RentalService.returnBook 트랜잭션 안에서 호출)
+     * 대기자가 있으면 도서를 대여가능 대신 RESERVED 로 두므로 반납과 보관이 함께 커밋된다.
+     */
+    @Transactional
+    public void holdForNext(Book book) {
+        if (holdNext(book.getId(), LocalDateTime.now(clock))) {
+            book.setStatus(Book.BookStatus.RESERVED);
+        }
+    }
+
+    /**
+     * 일괄 반납된 도서 중 대기자가 있는 도서를 다음 대기자에게 보관 (RentalBatchService.returnBooks 트랜잭션 안에서 호출)
+     * 도서 상태는 호출한 쪽이 한 번의 UPDATE 로 바꾸므로 여기서는 예약만 보관으로 바꾸고 보관된 도서 수를 돌려준다.
+     */
+    @Transactional
+    public int holdForNext(List<Long> bookIds) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int held = 0;
+        for (Long bookId : bookIds) {
+            if (reservationQueue.hasWaiting(bookId) && holdNext(bookId, now)) {
+                held++;
+            }
+        }
+        return held;
+    }
+
+    /**
+     * 대여가능이 된 도서를 다음 대기자에게 보관 (상태 변경 등 커밋 이후 경로, 새 트랜잭션)
+     * AVAILABLE → RESERVED 조건부 UPDATE 로 그 사이 대여된 도서는 건너뛴다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean match(Long bookId) {
+        if (!reservationQueue.hasWaiting(bookId)) {
+            return false;
+        }
+        Optional<BookChangeView> changed = bookRepository.compareAndSetStatus(bookId,
+                Book.BookStatus.AVAILABLE.name(), Book.BookStatus.RESERVED.name());
+        if (changed.isEmpty()) {
+            return false;
+        }
+        if (!holdNext(bookId, LocalDateTime.now(clock))) {
+            // 대기열에 남아 있던 예약이 모두 이미 취소된 경우
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return false;
+        }
+        publishStatusChanged(changed.get(), Book.BookStatus.AVAILABLE);
+        return true;
+    }
+
+    // 보관 기한이 지난 예약 만료 (ReservationHoldScheduler 가 호출) - 그 사이 대여/취소된 보관이면 false
+    @Transactional
+    public boolean expire(long reservationId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Timestamp at = Timestamp.valueOf(now);
+        List<long[]> expired = jdbcTemplate.query(EXPIRE_SQL, (rs, rowNum) ->
+                new long[]{rs.getLong("member_id"), rs.getLong("book_id")}, at, reservationId, at);
+        if (expired.isEmpty()) {
+            return false;
+        }
+        long bookId = expired.get(0)[1];
+        eventPublisher.publishEvent(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.EXPIRED,
+                reservationId, expired.get(0)[0], bookId, null));
+        passOn(bookId, now);
+        return true;
+    }
+
+    private Book findBook(ReservationRequest request) {
+        if (request.getBookId() != null) {
+            return bookRepository.findById(request.getBookId())
+                    .orElseThrow(() -> new IllegalArgumentException("Book not found with id: " + request.getBookId()));
+        }
+        if (request.getBookCode() != null && !request.getBookCode().isBlank()) {
+            return bookRepository.findByBookCode(request.getBookCode())
+                    .orElseThrow(() -> new IllegalArgumentException("Book not found with code: " + request.getBookCode()));
+        }
+        throw new IllegalArgumentException("bookId or bookCode is required");
+    }
+
+    // 대기열 맨 앞 예약을 보관으로 바꾼다. 그 사이 취소된 예약은 대기열에서 빼고 다음 예약을 본다.
+    private boolean holdNext(Long bookId, LocalDateTime now) {
+        LocalDateTime heldUntil = now.plus(properties.holdFor());
+        Optional<ReservationQueue.Entry> next;
+        while ((next = reservationQueue.peek(bookId)).isPresent()) {
+            ReservationQueue.Entry entry = next.get();
+            if (jdbcTemplate.update(HOLD_SQL, Timestamp.valueOf(heldUntil), Timestamp.valueOf(now),
+                    entry.reservationId()) == 1) {
+                eventPublisher.publishEvent(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.HELD,
+                        entry.reservationId(), entry.memberId(), bookId, heldUntil));
+                return true;
+            }
+            reservationQueue.discard(bookId, entry.reservationId());
+        }
+        return false;
+    }
+
+    // 보관이 풀린 도서는 다음 대기자에게 넘기고(도서는 RESERVED 그대로), 대기자가 없으면 대여가능으로 돌린다
+    // 도서를 잠그고 보관중(RESERVED)일 때만 넘긴다. 다른 상태가 된 도서면 보관만 닫는다 (대여중/파손 도서에 보관이 걸리지 않도록)
+    private void passOn(Long bookId, LocalDateTime now) {
+        List<String> status = jdbcTemplate.queryForList(LOCK_BOOK_SQL, String.class, bookId);
+        if (status.isEmpty() || !Book.BookStatus.RESERVED.name().equals(status.get(0))) {
+            return;
+        }
+        if (holdNext(bookId, now)) {
+            return;
+        }
+        bookRepository.compareAndSetStatus(bookId, Book.BookStatus.RESERVED.name(), Book.BookStatus.AVAILABLE.name())
+                .ifPresent(changed -> publishStatusChanged(changed, Book.BookStatus.RESERVED));
+    }
+
+    // 엔티티 리스너를 거치지 않으므로 변경 이벤트를 직접 발행
+    private void publishStatusChanged(BookChangeView changed, Book.BookStatus from) {
+        Book.BookCondition condition = Book.BookCondition.valueOf(changed.getCondition());
+        eventPublisher.publishEvent(BookChangedEvent.builder()
+                .type(BookChangedEvent.ChangeType.UPDATED)
+                .bookId(changed.getId())
+                .bookCode(changed.getBookCode())
+                .title(changed.getTitle())
+                .author(changed.getAuthor())
+                .publisher(changed.getPublisher())
+                .genre(changed.getGenre())
+                .status(Book.BookStatus.valueOf(changed.getStatus()))
+                .condition(condition)
+                .location(changed.getLocation())
+                .previousFacets(new BookFacets(from, changed.getGenre(), condition, changed.getLocation(),
+                        changed.getPublisher()))
+                .build());
+    }
+}
@@ -0,0 +1,172 @@
+package com.study.manca.service;
+
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 빈 좌석 자동 배정
+ * 좌석타입 x 구역(좌석번호 앞자리, A-01 -> A)마다 빈 좌석 비트셋을 두고, 원하는 구역 순서대로 번호가 가장 앞선 빈 좌석을 고른다.
+ * 비트셋은 후보를 찾는 용도일 뿐이고, 실제 점유는 SeatRegistry 의 compare-and-set 으로 하므로 두 창구가 같은 좌석을 받을 수 없다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatAllocator {
+
+    private final SeatRegistry seatRegistry;
+
+    private final Map<Seat.SeatType, Map<String, FreeSeats>> freeSeats = new EnumMap<>(Seat.SeatType.class);
+    private final Map<String, FreeSeats> seatsByNumber = new HashMap<>();
+
+    @PostConstruct
+    public void load() {
+        Map<Seat.SeatType, Map<String, List<String>>> layout = new EnumMap<>(Seat.SeatType.class);
+        for (SeatState state : seatRegistry.snapshot()) {
+            layout.computeIfAbsent(state.type(), t -> new TreeMap<>())
+                    .computeIfAbsent(zoneOf(state.seatNumber()), z -> new ArrayList<>())
+                    .add(state.seatNumber());
+        }
+        layout.forEach((type, zones) -> {
+            Map<String, FreeSeats> byZone = new TreeMap<>();
+            zones.forEach((zone, seatNumbers) -> {
+                FreeSeats free = new FreeSeats(seatNumbers);
+                byZone.put(zone, free);
+                seatNumbers.forEach(seatNumber -> seatsByNumber.put(seatNumber, free));
+            });
+            freeSeats.put(type, byZone);
+        });
+        seatsByNumber.keySet().forEach(this::refresh);
+    }
+
+    @EventListener
+    public void onSeatChanged(SeatChangedEvent event) {
+        refresh(event.getCurrent().seatNumber());
+    }
+
+    /**
+     * 원하는 구역을 앞에서부터, 그 다음 나머지 구역에서 번호가 가장 앞선 빈 좌석을 배정한다.
+     */
+    public SeatState allocate(Seat.SeatType type, List<String> preferredZones, Long memberId) {
+        Map<String, FreeSeats> zones = freeSeats.getOrDefault(type, Map.of());
+        Collection<String> order = new LinkedHashSet<>();
+        if (preferredZones != null) {
+            preferredZones.stream().filter(zones::containsKey).forEach(order::add);
+        }
+        order.addAll(zones.keySet());
+
+        for (String zone : order) {
+            FreeSeats free = zones.get(zone);
+            for (int i = free.next(0); i >= 0; i = free.next(i + 1)) {
+                try {
+                    return seatRegistry.assign(free.seatNumbers[i], memberId);
+                } catch (IllegalStateException e) {
+                    // 다른 창구가 먼저 가져간 좌석 - 비트를 바로잡고 다음 후보로
+                    refresh(free.seatNumbers[i]);
+                }
+            }
+        }
+        throw new IllegalStateException("배정 가능한 " + type + " 좌석이 없습니다.");
+    }
+
+    public int freeCount(Seat.SeatType type) {
+        return freeSeats.getOrDefault(type, Map.of()).values().stream()
+                .mapToInt(FreeSeats::count)
+                .sum();
+    }
+
+    /**
+     * 좌석의 비트를 레지스트리의 현재 상태에 맞춘다.
+     * 이벤트는 스레드마다 순서가 섞여 도착할 수 있으므로, 쓰고 난 뒤 다시 읽어서 달라졌으면 한 번 더 맞춘다.
+     */
+    private void refresh(String seatNumber) {
+        FreeSeats free = seatsByNumber.get(seatNumber);
+        if (free == null) {
+            return;
+        }
+        int index = free.indexOf(seatNumber);
+        boolean available;
+        do {
+            available = seatRegistry.get(seatNumber).status() == Seat.SeatStatus.AVAILABLE;
+            free.set(index, available);
+        } while (available != (seatRegistry.get(seatNumber).status() == Seat.SeatStatus.AVAILABLE));
+    }
+
+    static String zoneOf(String seatNumber) {
+        int dash = seatNumber.indexOf('-');
+        return dash > 0 ? seatNumber.substring(0, dash) : seatNumber;
+    }
+
+    /**
+     * 한 (좌석타입, 구역)의 빈 좌석 비트셋. 좌석번호 순으로 비트를 배정한다.
+     */
+    private static final class FreeSeats {
+
+        private final String[] seatNumbers;
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final AtomicLongArray words;
+
+        FreeSeats(List<String> seatNumbers) {
+            this.seatNumbers = seatNumbers.stream().sorted().toArray(String[]::new);
+            for (int i = 0; i < this.seatNumbers.length; i++) {
+                indexes.put(this.seatNumbers[i], i);
+            }
+            this.words = new AtomicLongArray((this.seatNumbers.length + 63) / 64);
+        }
+
+        int indexOf(String seatNumber) {
+            return indexes.get(seatNumber);
+        }
+
+        void set(int index, boolean free) {
+            int word = index >>> 6;
+            long mask = 1L << index;
+            long current;
+            long next;
+            do {
+                current = words.get(word);
+                next = free ? current | mask : current & ~mask;
+            } while (current != next && !words.compareAndSet(word, current, next));
+        }
+
+        // from 이상에서 첫 번째 빈 좌석 인덱스 (없으면 -1)
+        int next(int from) {
+            if (from >= seatNumbers.length) {
+                return -1;
+            }
+            int word = from >>> 6;
+            long bits = words.get(word) & (-1L << from);
+            while (true) {
+                if (bits != 0) {
+                    int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    return index < seatNumbers.length ? index : -1;
+                }
+                if (++word >= words.length()) {
+                    return -1;
+                }
+                bits = words.get(word);
+            }
+        }
+
+        int count() {
+            int count = 0;
+            for (int i = 0; i < words.length(); i++) {
+                count += Long.bitCount(words.get(i));
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.SeatEventResponse;
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 좌석 현황 SSE 방송
+ * 구독하면 먼저 전체 스냅샷(snapshot)을 보내고, 이후에는 SeatChangedEvent 로 바뀐 좌석(seat)만 보낸다.
+ * 좌석을 바꾼 스레드는 구독자별 고정 크기 버퍼에 넣기만 하고, 실제 전송은 공용 전송 스레드가 한다.
+ * 버퍼가 가득 찰 만큼 느린 구독자는 기다리지 않고 끊는다 (다시 연결하면 새 스냅샷부터 받는다).
+ * 전송 한 건이 SEND_TIMEOUT 을 넘겨도 끊어서, 응답을 읽지 않는 구독자가 공용 전송 스레드를 계속 붙잡지 않게 한다.
+ */
+@Slf4j
+@Service
+public class SeatEventBroadcaster {
+
+    static final int BUFFER_SIZE = 256;
+    static final Duration SEND_TIMEOUT = Duration.ofSeconds(5);
+    private static final int SENDER_THREADS = 4;
+
+    private final SeatRegistry seatRegistry;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender =
+            Executors.newFixedThreadPool(SENDER_THREADS, new CustomizableThreadFactory("seat-sse-"));
+
+    public SeatEventBroadcaster(SeatRegistry seatRegistry) {
+        this.seatRegistry = seatRegistry;
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter = new SseEmitter();
+        private final Queue<SeatState> buffer = new ArrayBlockingQueue<>(BUFFER_SIZE);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile List<SeatState> snapshot;
+        private volatile boolean dropped;
+        private volatile long sendStartedAt;  // 전송 중일 때의 System.nanoTime(), 아니면 0
+        // 스냅샷에 이미 반영된 버전 (전송 스레드에서만 사용)
+        private final Map<String, Long> sentVersions = new HashMap<>();
+    }
+
+    public SseEmitter subscribe() {
+        Subscriber subscriber = new Subscriber();
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+
+        // 먼저 등록해서 이후 변경을 버퍼에 받고, 그 다음 스냅샷을 뜬다 (겹치는 변경은 버전으로 거른다)
+        subscribers.add(subscriber);
+        subscriber.snapshot = seatRegistry.snapshot();
+        schedule(subscriber);
+        return subscriber.emitter;
+    }
+
+    @EventListener
+    public void onSeatChanged(SeatChangedEvent event) {
+        SeatState state = event.getCurrent();
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.buffer.offer(state)) {
+                drop(subscriber);
+                log.info("Slow seat stream subscriber dropped: buffer={}", BUFFER_SIZE);
+            }
+            schedule(subscriber);
+        }
+    }
+
+    // 전송이 멈춘 구독자 끊기: 막힌 send 를 이 스레드에서 끊을 수는 없으므로 표시만 하고,
+    // send 가 (컨테이너 쓰기 타임아웃 등으로) 돌아오면 전송 스레드가 emitter 를 닫고 빠진다
+    @Scheduled(fixedDelayString = "${manca.seats.stream-stall-check-interval:PT1S}")
+    public void dropStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt != 0 && now - startedAt > SEND_TIMEOUT.toNanos()) {
+                drop(subscriber);
+                log.info("Stalled seat stream subscriber dropped: sendTimeout={}", SEND_TIMEOUT);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        subscriber.dropped = true;
+        subscribers.remove(subscriber);
+    }
+
+    // 구독자당 한 번에 하나의 전송 스레드만 들어온다 (scheduled 플래그)
+    // 끊긴 구독자는 버퍼를 비우는 중에도 확인해서, 전송 중에 끊겨도 emitter 를 닫고 빠진다
+    private void drain(Subscriber subscriber) {
+        do {
+            try {
+                List<SeatState> snapshot = subscriber.snapshot;
+                if (snapshot != null && !subscriber.dropped) {
+                    subscriber.snapshot = null;
+                    snapshot.forEach(state -> subscriber.sentVersions.put(state.seatNumber(), state.version()));
+                    send(subscriber, SseEmitter.event()
+                            .name("snapshot")
+                            .data(snapshot.stream().map(SeatEventResponse::from).toList()));
+                }
+                SeatState state;
+                while (!subscriber.dropped && (state = subscriber.buffer.poll()) != null) {
+                    Long sent = subscriber.sentVersions.get(state.seatNumber());
+                    if (sent != null && sent >= state.version()) {
+                        continue;
+                    }
+                    subscriber.sentVersions.put(state.seatNumber(), state.version());
+                    send(subscriber, SseEmitter.event()
+                            .name("seat")
+                            .data(SeatEventResponse.from(state)));
+                }
+                if (subscriber.dropped) {
+                    subscriber.buffer.clear();
+                    subscriber.emitter.complete();
+                    return;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊겼거나 이미 완료된 emitter
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(e);
+                return;
+            } finally {
+                subscriber.scheduled.set(false);
+            }
+        } while ((subscriber.dropped || !subscriber.buffer.isEmpty())
+                && subscriber.scheduled.compareAndSet(false, true));
+    }
+
+    // 기한을 넘긴 전송은 끝나더라도 그 구독자를 끊는다 (다음 전송에서 또 스레드를 붙잡지 않도록)
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        long startedAt = System.nanoTime();
+        subscriber.sendStartedAt = startedAt;
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendStartedAt = 0;
+        }
+        if (System.nanoTime() - startedAt > SEND_TIMEOUT.toNanos()) {
+            drop(subscriber);
+            log.info("Stalled seat stream subscriber dropped: sendTimeout={}", SEND_TIMEOUT);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        sender.shutdownNow();
+    }
+}
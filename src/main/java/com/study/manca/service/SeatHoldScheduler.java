@@ -0,0 +1,113 @@
+package com.study.manca.service;
+
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import com.study.manca.support.HierarchicalTimingWheel;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 좌석 예약 만료
+ * 예약마다 만료 시각을 타이밍 휠에 걸어 두고, 짧은 주기로 휠을 돌려 만료된 예약만 해제한다 (seats 테이블을 훑지 않음).
+ * 예약은 (좌석번호, version) 으로 식별하므로 그 사이 입실/해제된 좌석의 만료는 아무것도 하지 않는다.
+ * 예약이 끝나면(입실/해제) 휠에서 바로 빼서 휠에는 살아 있는 예약만 남긴다.
+ */
+@Slf4j
+@Service
+public class SeatHoldScheduler {
+
+    private static final long TICK_MILLIS = 1_000;
+
+    private final SeatRegistry seatRegistry;
+    private final Clock clock;
+    private final HierarchicalTimingWheel<Hold> wheel;
+
+    private final ConcurrentMap<String, HierarchicalTimingWheel.Timeout<Hold>> timeouts = new ConcurrentHashMap<>();
+
+    record Hold(String seatNumber, long version) {
+    }
+
+    public SeatHoldScheduler(SeatRegistry seatRegistry, Clock clock) {
+        this.seatRegistry = seatRegistry;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, clock.millis());
+    }
+
+    // 재기동 전에 걸린 예약 복구 (이미 지난 예약은 첫 주기에 해제)
+    @PostConstruct
+    public void load() {
+        int holds = 0;
+        for (SeatState state : seatRegistry.snapshot()) {
+            if (state.status() == Seat.SeatStatus.HELD) {
+                schedule(state);
+                holds++;
+            }
+        }
+        log.info("Seat holds restored: holds={}", holds);
+    }
+
+    @EventListener
+    public void onSeatChanged(SeatChangedEvent event) {
+        SeatState previous = event.getPrevious();
+        SeatState current = event.getCurrent();
+        if (previous.status() == Seat.SeatStatus.HELD) {
+            timeouts.computeIfPresent(previous.seatNumber(), (seatNumber, timeout) -> {
+                if (timeout.task().version() == previous.version()) {
+                    timeout.cancel();
+                    return null;
+                }
+                return timeout;
+            });
+        }
+        if (current.status() == Seat.SeatStatus.HELD) {
+            schedule(current);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${manca.seats.hold-expiry-interval:PT1S}")
+    public void expireDue() {
+        List<Hold> expired = wheel.advance(clock.millis());
+        for (Hold hold : expired) {
+            timeouts.computeIfPresent(hold.seatNumber(),
+                    (seatNumber, timeout) -> timeout.task().equals(hold) ? null : timeout);
+            seatRegistry.expireHold(hold.seatNumber(), hold.version());
+        }
+        if (!expired.isEmpty()) {
+            log.debug("Seat holds expired: holds={}", expired.size());
+        }
+    }
+
+    public int pendingCount() {
+        return wheel.size();
+    }
+
+    /**
+     * 이벤트는 스레드마다 순서가 섞여 도착할 수 있으므로 더 최신 예약만 남긴다.
+     * 밀려난 옛 예약이 만료돼도 version 이 달라 해제되지 않는다.
+     */
+    private void schedule(SeatState state) {
+        Hold hold = new Hold(state.seatNumber(), state.version());
+        // 만료 시각이 없는 예약(잘못된 데이터)은 바로 만료시킨다
+        long deadline = state.holdExpiresAt() == null
+                ? clock.millis()
+                : state.holdExpiresAt().atZone(clock.getZone()).toInstant().toEpochMilli();
+        timeouts.compute(state.seatNumber(), (seatNumber, existing) -> {
+            if (existing != null) {
+                if (existing.task().version() >= hold.version()) {
+                    return existing;
+                }
+                existing.cancel();
+            }
+            return wheel.schedule(hold, deadline);
+        });
+    }
+}
@@ -0,0 +1,170 @@
+package com.study.manca.service;
+
+import com.study.manca.config.SeatRateProperties;
+import com.study.manca.dto.SeatMeterResponse;
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 좌석 이용 미터기
+ * 진행 중인 이용은 SeatRegistry 의 좌석 상태(사용중 + 시작 시각)와 요금표만으로 계산하므로 DB 를 읽지 않는다.
+ * 좌석이 사용중에서 다른 상태로 바뀌면 그 이용을 마감해 큐에 넣고, 주기적으로 모아서 seat_sessions 에 배치 INSERT 한다.
+ * 마감된 이용은 변경 이벤트의 이전/현재 상태만으로 완성되므로 이벤트 처리 순서와 무관하다.
+ * 묶음 INSERT 가 실패하면 한 건씩 다시 넣어, 그 사이 삭제된 회원처럼 제약을 어기는 이용만 로그로 남기고 빼며
+ * 일시적인 실패만 큐에 되돌린다.
+ * 큐는 메모리에만 있으므로 프로세스가 비정상 종료되면 마지막 저장 이후(최대 session-flush-interval, 기본 5초)
+ * 마감된 이용은 seat_sessions 에 남지 않는다 (정상 종료 시에는 @PreDestroy 에서 모두 저장한다).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatMeter {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO seat_sessions (seat_id, member_id, seat_type, started_at, ended_at, hourly_rate, charge, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+            """;
+
+    private final SeatRegistry seatRegistry;
+    private final SeatRateProperties seatRates;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    private final Queue<ClosedSession> closed = new ConcurrentLinkedQueue<>();
+
+    record ClosedSession(Long seatId, Long memberId, Seat.SeatType type, LocalDateTime startedAt,
+                         LocalDateTime endedAt, BigDecimal hourlyRate, BigDecimal charge) {
+    }
+
+    @EventListener
+    public void onSeatChanged(SeatChangedEvent event) {
+        SeatState previous = event.getPrevious();
+        SeatState current = event.getCurrent();
+        if (previous.status() != Seat.SeatStatus.OCCUPIED || current.status() == Seat.SeatStatus.OCCUPIED) {
+            return;
+        }
+        closed.add(new ClosedSession(previous.id(), previous.memberId(), previous.type(),
+                previous.since(), current.since(), seatRates.hourlyRate(previous.type()),
+                seatRates.charge(previous.type(), previous.since(), current.since())));
+    }
+
+    // 좌석 한 개의 현재 이용요금
+    public SeatMeterResponse current(String seatNumber) {
+        SeatState state = seatRegistry.get(seatNumber);
+        if (state.status() != Seat.SeatStatus.OCCUPIED) {
+            throw new IllegalStateException("사용중인 좌석이 아닙니다.");
+        }
+        return measure(state, LocalDateTime.now(clock));
+    }
+
+    // 사용중인 전체 좌석의 현재 이용요금 (같은 기준 시각으로 계산)
+    public List<SeatMeterResponse> currentAll() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<SeatMeterResponse> meters = new ArrayList<>();
+        for (SeatState state : seatRegistry.snapshot()) {
+            if (state.status() == Seat.SeatStatus.OCCUPIED) {
+                meters.add(measure(state, now));
+            }
+        }
+        return meters;
+    }
+
+    @Scheduled(fixedDelayString = "${manca.seats.session-flush-interval:PT5S}")
+    public synchronized void flush() {
+        List<ClosedSession> batch = new ArrayList<>(FLUSH_BATCH_SIZE);
+        ClosedSession session;
+        while ((session = closed.poll()) != null) {
+            batch.add(session);
+            if (batch.size() == FLUSH_BATCH_SIZE) {
+                if (!insert(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>(FLUSH_BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 묶음이 실패하면 한 건씩 다시 넣고, 일시적인 실패로 남은 이용만 큐에 되돌려 다음 주기에 다시 쓴다
+    private boolean insert(List<ClosedSession> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), SeatMeter::bind);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Seat session batch insert failed, inserting one by one: sessions={}", batch.size(), e);
+            return insertEach(batch);
+        }
+    }
+
+    private boolean insertEach(List<ClosedSession> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            ClosedSession session = batch.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, session));
+            } catch (DataIntegrityViolationException e) {
+                // 다시 넣어도 같은 이유로 실패하므로 되돌리지 않는다 (요금 내역은 로그에 남긴다)
+                log.error("Seat session skipped: {}", session, e);
+            } catch (DataAccessException e) {
+                closed.addAll(batch.subList(i, batch.size()));
+                log.warn("Seat session flush failed, will retry: sessions={}", batch.size() - i, e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void bind(PreparedStatement ps, ClosedSession s) throws SQLException {
+        ps.setLong(1, s.seatId());
+        ps.setObject(2, s.memberId(), Types.BIGINT);
+        ps.setString(3, s.type().name());
+        ps.setTimestamp(4, Timestamp.valueOf(s.startedAt()));
+        ps.setTimestamp(5, Timestamp.valueOf(s.endedAt()));
+        ps.setBigDecimal(6, s.hourlyRate());
+        ps.setBigDecimal(7, s.charge());
+    }
+
+    private SeatMeterResponse measure(SeatState state, LocalDateTime now) {
+        return SeatMeterResponse.builder()
+                .seatNumber(state.seatNumber())
+                .type(state.type())
+                .memberId(state.memberId())
+                .startedAt(state.since())
+                .measuredAt(now)
+                .elapsedMinutes(Math.max(0, Duration.between(state.since(), now).toMinutes()))
+                .hourlyRate(seatRates.hourlyRate(state.type()))
+                .charge(seatRates.charge(state.type(), state.since(), now))
+                .build();
+    }
+}
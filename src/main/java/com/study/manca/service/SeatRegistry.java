@@ -0,0 +1,114 @@
+package com.study.manca.service;
+
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import com.study.manca.repository.SeatRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * 좌석 상태 레지스트리 (좌석 상태의 원본)
+ * 좌석마다 불변 SeatState 를 AtomicReference 로 들고, 배정/해제는 락 없이 compare-and-set 으로 처리한다.
+ * 기동 시 seats 테이블에서 복구하고, DB 반영은 SeatWriteBehind 가 SeatChangedEvent 를 받아 모아서 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatRegistry {
+
+    private final SeatRepository seatRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    // 기동 시 한 번 채운 뒤 구조는 바뀌지 않으므로 읽기 전용 맵으로 공유한다
+    private volatile Map<String, AtomicReference<SeatState>> seats = Map.of();
+
+    @PostConstruct
+    public void load() {
+        Map<String, AtomicReference<SeatState>> loaded = new TreeMap<>();
+        for (SeatState state : seatRepository.findAllStates()) {
+            loaded.put(state.seatNumber(), new AtomicReference<>(state));
+        }
+        seats = loaded;
+        log.info("Seat registry loaded: seats={}", loaded.size());
+    }
+
+    public SeatState get(String seatNumber) {
+        return slot(seatNumber).get();
+    }
+
+    // 좌석번호 순 전체 현황
+    public List<SeatState> snapshot() {
+        List<SeatState> states = new ArrayList<>(seats.size());
+        for (AtomicReference<SeatState> slot : seats.values()) {
+            states.add(slot.get());
+        }
+        return states;
+    }
+
+    public SeatState assign(String seatNumber, Long memberId) {
+        return update(seatNumber, state -> state.assignTo(memberId, LocalDateTime.now(clock)));
+    }
+
+    public SeatState hold(String seatNumber, Long memberId, Duration ttl) {
+        return update(seatNumber, state -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            return state.hold(memberId, now, now.plus(ttl));
+        });
+    }
+
+    public SeatState release(String seatNumber) {
+        return update(seatNumber, state -> state.release(LocalDateTime.now(clock)));
+    }
+
+    /**
+     * 예약 만료: 그 예약(version)이 아직 그대로일 때만 release 와 같은 전이로 해제한다.
+     * 그 사이 입실/해제/재예약이 있었다면 아무것도 하지 않는다.
+     */
+    public SeatState expireHold(String seatNumber, long version) {
+        return update(seatNumber, state -> state.status() == Seat.SeatStatus.HELD && state.version() == version
+                ? state.release(LocalDateTime.now(clock))
+                : state);
+    }
+
+    /**
+     * 현재 값을 읽어 change 를 적용한 값으로 compare-and-set, 다른 스레드가 먼저 바꿨으면 새 값으로 다시 시도한다.
+     * change 가 예외를 던지면(예: 이미 사용중) 아무것도 바꾸지 않는다.
+     */
+    SeatState update(String seatNumber, UnaryOperator<SeatState> change) {
+        AtomicReference<SeatState> slot = slot(seatNumber);
+        while (true) {
+            SeatState current = slot.get();
+            SeatState next = change.apply(current);
+            if (next == current) {
+                return current;
+            }
+            if (slot.compareAndSet(current, next)) {
+                eventPublisher.publishEvent(SeatChangedEvent.of(current, next));
+                return next;
+            }
+        }
+    }
+
+    private AtomicReference<SeatState> slot(String seatNumber) {
+        AtomicReference<SeatState> slot = seats.get(seatNumber);
+        if (slot == null) {
+            throw new IllegalArgumentException("Seat not found: " + seatNumber);
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,88 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.SeatAllocateRequest;
+import com.study.manca.dto.SeatHoldRequest;
+import com.study.manca.dto.SeatMeterResponse;
+import com.study.manca.dto.SeatResponse;
+import com.study.manca.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 좌석 배정/해제
+ * 좌석 상태는 DB 가 아니라 SeatRegistry 에서 읽고 바꾼다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatService {
+
+    static final int DEFAULT_HOLD_MINUTES = 15;
+    static final int MAX_HOLD_MINUTES = 60;
+
+    private final SeatRegistry seatRegistry;
+    private final SeatAllocator seatAllocator;
+    private final SeatMeter seatMeter;
+    private final MemberRepository memberRepository;
+
+    // 전체 좌석 현황 (GET)
+    public List<SeatResponse> findAll() {
+        return seatRegistry.snapshot().stream()
+                .map(SeatResponse::from)
+                .toList();
+    }
+
+    // 좌석 단건 조회 (GET)
+    public SeatResponse findBySeatNumber(String seatNumber) {
+        return SeatResponse.from(seatRegistry.get(seatNumber));
+    }
+
+    // 사용중인 전체 좌석의 현재 이용요금 (GET)
+    public List<SeatMeterResponse> findMeters() {
+        return seatMeter.currentAll();
+    }
+
+    // 좌석 한 개의 현재 이용요금 (GET)
+    public SeatMeterResponse findMeter(String seatNumber) {
+        return seatMeter.current(seatNumber);
+    }
+
+    // 좌석 배정 (POST)
+    public SeatResponse assign(String seatNumber, Long memberId) {
+        checkMember(memberId);
+        return SeatResponse.from(seatRegistry.assign(seatNumber, memberId));
+    }
+
+    // 빈 좌석 자동 배정 (POST) - 좌석타입과 원하는 구역으로 가장 앞선 빈 좌석을 배정
+    public SeatResponse allocate(SeatAllocateRequest request) {
+        if (request.getType() == null) {
+            throw new IllegalArgumentException("Seat type is required");
+        }
+        checkMember(request.getMemberId());
+        return SeatResponse.from(seatAllocator.allocate(request.getType(), request.getZones(), request.getMemberId()));
+    }
+
+    // 좌석 예약 (POST) - 유지 시간 안에 같은 회원이 배정받으면 사용중으로, 지나면 자동 해제
+    public SeatResponse hold(String seatNumber, SeatHoldRequest request) {
+        int minutes = request.getMinutes() == null ? DEFAULT_HOLD_MINUTES : request.getMinutes();
+        if (minutes < 1 || minutes > MAX_HOLD_MINUTES) {
+            throw new IllegalArgumentException("Hold minutes must be between 1 and " + MAX_HOLD_MINUTES);
+        }
+        checkMember(request.getMemberId());
+        return SeatResponse.from(seatRegistry.hold(seatNumber, request.getMemberId(), Duration.ofMinutes(minutes)));
+    }
+
+    // 좌석 해제 (POST)
+    public SeatResponse release(String seatNumber) {
+        return SeatResponse.from(seatRegistry.release(seatNumber));
+    }
+
+    // 지연 쓰기가 외래키 위반으로 막히지 않도록 회원은 미리 확인
+    private void checkMember(Long memberId) {
+        if (memberId == null || !memberRepository.existsById(memberId)) {
+            throw new IllegalArgumentException("Member not found with id: " + memberId);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.study.manca.service;
+
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 상태 지연 쓰기
+ * 바뀐 좌석 번호만 모아 두었다가 주기적으로 최신 상태를 한 번의 배치 UPDATE 로 seats 테이블에 반영한다.
+ * 같은 좌석이 여러 번 바뀌어도 마지막 상태만 쓴다.
+ * 배치가 실패하면 한 건씩 다시 써서, 제약 위반처럼 다시 써도 실패할 행(예: 그 사이 삭제된 회원)만 로그로 남기고 빼며
+ * 연결 오류 같은 일시적인 실패만 다음 주기에 다시 쓴다 (한 행 때문에 좌석 저장 전체가 멈추지 않도록).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatWriteBehind {
+
+    private static final String UPDATE_SQL =
+            "UPDATE seats SET status = ?, current_member_id = ?, status_changed_at = ?, hold_expires_at = ?, "
+                    + "updated_at = CURRENT_TIMESTAMP "
+                    + "WHERE id = ?";
+
+    private final SeatRegistry seatRegistry;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    @EventListener
+    public void onSeatChanged(SeatChangedEvent event) {
+        dirty.add(event.getCurrent().seatNumber());
+    }
+
+    @Scheduled(fixedDelayString = "${manca.seats.write-behind-interval:PT0.5S}")
+    public synchronized void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        // 꺼낸 뒤에 바뀐 좌석은 다시 dirty 에 들어가 다음 주기에 쓰인다
+        List<SeatState> states = new ArrayList<>();
+        for (String seatNumber : dirty) {
+            if (dirty.remove(seatNumber)) {
+                states.add(seatRegistry.get(seatNumber));
+            }
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, states, states.size(), SeatWriteBehind::bind);
+        } catch (DataAccessException e) {
+            log.warn("Seat write-behind batch failed, writing seats one by one: seats={}", states.size(), e);
+            writeEach(states);
+        }
+    }
+
+    private void writeEach(List<SeatState> states) {
+        for (int i = 0; i < states.size(); i++) {
+            SeatState state = states.get(i);
+            try {
+                jdbcTemplate.update(UPDATE_SQL, ps -> bind(ps, state));
+            } catch (DataIntegrityViolationException e) {
+                // 다시 써도 같은 이유로 실패하므로 다시 넣지 않는다 (좌석이 다시 바뀌면 그 상태로 다시 쓴다)
+                log.error("Seat write-behind skipped invalid seat state: {}", state, e);
+            } catch (DataAccessException e) {
+                // 일시적인 실패: 남은 좌석 모두 다음 주기에 다시 쓴다
+                states.subList(i, states.size()).forEach(remaining -> dirty.add(remaining.seatNumber()));
+                log.warn("Seat write-behind failed, will retry: seats={}", states.size() - i, e);
+                return;
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, SeatState state) throws SQLException {
+        ps.setString(1, state.status().name());
+        if (state.memberId() == null) {
+            ps.setNull(2, Types.BIGINT);
+        } else {
+            ps.setLong(2, state.memberId());
+        }
+        ps.setTimestamp(3, state.since() == null ? null : Timestamp.valueOf(state.since()));
+        ps.setTimestamp(4, state.holdExpiresAt() == null ? null : Timestamp.valueOf(state.holdExpiresAt()));
+        ps.setLong(5, state.id());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
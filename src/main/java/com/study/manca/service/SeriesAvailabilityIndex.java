@@ -0,0 +1,97 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.SeriesAvailabilityResponse;
+import com.study.manca.entity.Book;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.repository.BookAvailabilityView;
+import com.study.manca.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * 시리즈별 대여가능 권 비트맵 인덱스
+ * 도서코드(MH-<시리즈>-<권>)로 시리즈를 나누고, 시리즈마다 대여가능 권을 비트셋으로 보관한다.
+ * 기동 시 한 번 적재하고 이후에는 BookChangedEvent 로 커밋 직후 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeriesAvailabilityIndex {
+
+    private final BookRepository bookRepository;
+
+    private final ConcurrentMap<String, SeriesVolumes> seriesByCode = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> seriesCodeByTitle = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.currentTimeMillis();
+        try (Stream<BookAvailabilityView> rows = bookRepository.streamAvailability()) {
+            rows.forEach(row -> apply(row.getBookCode(), row.getTitle(), row.getStatus()));
+        }
+        log.info("Series availability index loaded: series={}, elapsed={}ms",
+                seriesByCode.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == BookChangedEvent.ChangeType.DELETED) {
+            remove(event.getBookCode());
+        } else {
+            apply(event.getBookCode(), event.getTitle(), event.getStatus());
+        }
+    }
+
+    // 시리즈 코드(예: 001) 또는 제목(예: 원피스)으로 조회
+    public SeriesAvailabilityResponse find(String seriesOrTitle) {
+        String series = seriesByCode.containsKey(seriesOrTitle)
+                ? seriesOrTitle
+                : seriesCodeByTitle.get(seriesOrTitle);
+        SeriesVolumes volumes = series == null ? null : seriesByCode.get(series);
+        if (volumes == null) {
+            throw new IllegalArgumentException("Series not found: " + seriesOrTitle);
+        }
+
+        SeriesVolumes.Snapshot snapshot = volumes.snapshot();
+        return SeriesAvailabilityResponse.builder()
+                .series(series)
+                .title(volumes.getTitle())
+                .ownedVolumes(snapshot.ownedCount)
+                .availableCount(snapshot.availableCount)
+                .availableVolumes(snapshot.availableRanges)
+                .build();
+    }
+
+    private void apply(String bookCode, String title, Book.BookStatus status) {
+        BookCodeParts parts = BookCodeParts.parse(bookCode);
+        if (parts == null) {
+            return;
+        }
+        seriesByCode.computeIfAbsent(parts.series(), s -> new SeriesVolumes(title))
+                .put(parts.volume(), status == Book.BookStatus.AVAILABLE, title);
+        if (title != null) {
+            seriesCodeByTitle.put(title, parts.series());
+        }
+    }
+
+    private void remove(String bookCode) {
+        BookCodeParts parts = BookCodeParts.parse(bookCode);
+        if (parts == null) {
+            return;
+        }
+        SeriesVolumes volumes = seriesByCode.get(parts.series());
+        if (volumes != null) {
+            volumes.remove(parts.volume());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.study.manca.service;
+
+import java.util.BitSet;
+
+/**
+ * 한 시리즈의 권별 보유/대여가능 비트셋
+ * 비트 위치가 권 번호이며, 시리즈 단위로 동기화한다.
+ */
+class SeriesVolumes {
+
+    private final BitSet owned = new BitSet();
+    private final BitSet available = new BitSet();
+    private volatile String title;
+
+    SeriesVolumes(String title) {
+        this.title = title;
+    }
+
+    String getTitle() {
+        return title;
+    }
+
+    synchronized void put(int volume, boolean isAvailable, String title) {
+        owned.set(volume);
+        available.set(volume, isAvailable);
+        if (title != null) {
+            this.title = title;
+        }
+    }
+
+    synchronized void remove(int volume) {
+        owned.clear(volume);
+        available.clear(volume);
+    }
+
+    synchronized Snapshot snapshot() {
+        return new Snapshot(owned.cardinality(), available.cardinality(), ranges(available));
+    }
+
+    /**
+     * 비트셋을 "1-12, 15, 18-40" 형태의 구간 문자열로 변환
+     */
+    static String ranges(BitSet bits) {
+        StringBuilder sb = new StringBuilder();
+        int start = bits.nextSetBit(0);
+        while (start >= 0) {
+            int end = bits.nextClearBit(start) - 1;
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(start);
+            if (end > start) {
+                sb.append('-').append(end);
+            }
+            start = bits.nextSetBit(end + 1);
+        }
+        return sb.toString();
+    }
+
+    static final class Snapshot {
+        final int ownedCount;
+        final int availableCount;
+        final String availableRanges;
+
+        Snapshot(int ownedCount, int availableCount, String availableRanges) {
+            this.ownedCount = ownedCount;
+            this.availableCount = availableCount;
+            this.availableRanges = availableRanges;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.BookResponse;
+import com.study.manca.dto.ShelfAuditRequest;
+import com.study.manca.dto.ShelfAuditResponse;
+import com.study.manca.entity.Book;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.BookFacets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 서가 점검
+ * 한 서가에서 스캔한 도서코드 묶음을 받아 한 트랜잭션 안에서 집합 단위 UPDATE 로 반영한다.
+ * - 스캔된 도서: 책 상태 갱신, 서가위치를 이 서가로 이동, 분실(LOST) 이었다면 대여가능으로 복구
+ * - 스캔되지 않은 대여가능 도서: 누락 목록으로 반환 (옵션에 따라 분실 처리)
+ */
+@Service
+@RequiredArgsConstructor
+public class ShelfAuditService {
+
+    private static final String BOOK_COLUMNS =
+            "b.id, b.book_code, b.title, b.author, b.publisher, b.volume, b.genre, b.status, b.condition, "
+                    + "b.location, b.remarks";
+
+    private static final String APPLY_SCANS_SQL = """
+            UPDATE books b
+               SET condition = COALESCE(x.new_condition, b.condition),
+                   status = CASE WHEN b.status = 'LOST' THEN 'AVAILABLE' ELSE b.status END,
+                   location = ?,
+                   version = b.version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+              FROM (SELECT o.id, o.status AS old_status, o.condition AS old_condition,
+                           o.location AS old_location, s.new_condition
+                      FROM books o
+                      JOIN unnest(?::varchar[], ?::varchar[]) AS s(book_code, new_condition)
+                        ON o.book_code = s.book_code
+                       FOR UPDATE OF o) x
+             WHERE b.id = x.id
+            RETURNING %s, x.old_status, x.old_condition, x.old_location
+            """.formatted(BOOK_COLUMNS);
+
+    private static final String FIND_MISSING_SQL = """
+            SELECT %s
+              FROM books b
+             WHERE b.location = ? AND b.status = 'AVAILABLE' AND NOT (b.book_code = ANY (?::varchar[]))
+             ORDER BY b.book_code
+            """.formatted(BOOK_COLUMNS);
+
+    private static final String MARK_MISSING_SQL = """
+            UPDATE books b
+               SET status = 'LOST', version = b.version + 1, updated_at = CURRENT_TIMESTAMP
+             WHERE b.location = ? AND b.status = 'AVAILABLE' AND NOT (b.book_code = ANY (?::varchar[]))
+            RETURNING %s
+            """.formatted(BOOK_COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public ShelfAuditResponse audit(String location, ShelfAuditRequest request) {
+        // 같은 도서코드를 여러 번 스캔했다면 마지막 스캔 값을 사용
+        Map<String, Book.BookCondition> scans = new LinkedHashMap<>();
+        if (request.getScans() != null) {
+            for (ShelfAuditRequest.ScannedBook scan : request.getScans()) {
+                if (scan.getBookCode() != null) {
+                    scans.put(scan.getBookCode(), scan.getCondition());
+                }
+            }
+        }
+        String[] codes = scans.keySet().toArray(new String[0]);
+        String[] conditions = scans.values().stream()
+                .map(condition -> condition == null ? null : condition.name())
+                .toArray(String[]::new);
+
+        // 1. 스캔된 도서 일괄 반영
+        List<BookResponse> updated = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(APPLY_SCANS_SQL);
+            ps.setString(1, location);
+            ps.setArray(2, con.createArrayOf("varchar", codes));
+            ps.setArray(3, con.createArrayOf("varchar", conditions));
+            return ps;
+        }, (rs, rowNum) -> {
+            BookResponse book = mapBook(rs);
+            publishUpdated(book, new BookFacets(
+                    Book.BookStatus.valueOf(rs.getString("old_status")),
+                    book.getGenre(),
+                    Book.BookCondition.valueOf(rs.getString("old_condition")),
+                    rs.getString("old_location"),
+                    book.getPublisher()));
+            return book;
+        });
+
+        // 2. 누락 도서 조회 (또는 분실 처리)
+        List<BookResponse> missing = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    request.isMarkMissingAsLost() ? MARK_MISSING_SQL : FIND_MISSING_SQL);
+            ps.setString(1, location);
+            ps.setArray(2, con.createArrayOf("varchar", codes));
+            return ps;
+        }, (rs, rowNum) -> {
+            BookResponse book = mapBook(rs);
+            if (request.isMarkMissingAsLost()) {
+                publishUpdated(book, new BookFacets(Book.BookStatus.AVAILABLE, book.getGenre(),
+                        Book.BookCondition.valueOf(book.getCondition()), book.getLocation(), book.getPublisher()));
+            }
+            return book;
+        });
+
+        Set<String> found = updated.stream().map(BookResponse::getBookCode).collect(Collectors.toSet());
+        List<String> unknown = new ArrayList<>();
+        for (String code : codes) {
+            if (!found.contains(code)) {
+                unknown.add(code);
+            }
+        }
+
+        return ShelfAuditResponse.builder()
+                .location(location)
+                .scanned(codes.length)
+                .updated(updated.size())
+                .unknownBookCodes(unknown)
+                .missing(missing)
+                .build();
+    }
+
+    // JDBC 경로는 엔티티 리스너를 거치지 않으므로 변경 이벤트를 직접 발행
+    private void publishUpdated(BookResponse book, BookFacets previous) {
+        eventPublisher.publishEvent(BookChangedEvent.builder()
+                .type(BookChangedEvent.ChangeType.UPDATED)
+                .bookId(book.getId())
+                .bookCode(book.getBookCode())
+                .title(book.getTitle())
+                .author(book.getAuthor())
+                .publisher(book.getPublisher())
+                .genre(book.getGenre())
+                .status(Book.BookStatus.valueOf(book.getStatus()))
+                .condition(Book.BookCondition.valueOf(book.getCondition()))
+                .location(book.getLocation())
+                .previousFacets(previous)
+                .build());
+    }
+
+    static BookResponse mapBook(ResultSet rs) throws SQLException {
+        return BookResponse.builder()
+                .id(rs.getLong("id"))
+                .bookCode(rs.getString("book_code"))
+                .title(rs.getString("title"))
+                .author(rs.getString("author"))
+                .publisher(rs.getString("publisher"))
+                .volume(rs.getInt("volume"))
+                .genre(rs.getString("genre"))
+                .status(rs.getString("status"))
+                .condition(rs.getString("condition"))
+                .location(rs.getString("location"))
+                .remarks(rs.getString("remarks"))
+                .build();
+    }
+}
@@ -0,0 +1,266 @@
+package com.study.manca.service;
+
+import com.study.manca.support.Hangul;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 필드(제목/작가/회원이름)의 자동완성 접두어 트라이
+ * 같은 문자열은 하나의 후보로 묶고 등장 횟수를 가중치로 쓴다.
+ * 문자열 전체와 띄어쓰기 뒤 단어마다 자모 키/초성 키를 트라이에 넣고,
+ * 노드별 상위 후보 목록은 조회 시 계산해서 캐시하며 해당 경로가 바뀔 때만 비운다.
+ */
+class SuggestionIndex {
+
+    static final int MAX_K = 20;
+
+    static final Comparator<Suggestion> RANKING = Comparator
+            .comparingInt(Suggestion::getWeight).reversed()
+            .thenComparingInt(s -> s.getText().length())
+            .thenComparing(Suggestion::getText);
+
+    private final Map<String, Suggestion> byText = new HashMap<>();
+    private final Trie keystrokes = new Trie();
+    private final Trie choseongs = new Trie();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    static final class Suggestion {
+
+        private final String text;
+        private volatile int weight;
+
+        private Suggestion(String text) {
+            this.text = text;
+        }
+
+        String getText() {
+            return text;
+        }
+
+        int getWeight() {
+            return weight;
+        }
+    }
+
+    void increment(String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Suggestion suggestion = byText.get(text);
+            if (suggestion == null) {
+                suggestion = new Suggestion(text);
+                suggestion.weight = 1;
+                byText.put(text, suggestion);
+                for (String key : keystrokeKeys(text)) {
+                    keystrokes.add(key, suggestion);
+                }
+                for (String key : choseongKeys(text)) {
+                    choseongs.add(key, suggestion);
+                }
+            } else {
+                suggestion.weight++;
+                invalidate(text);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void decrement(String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Suggestion suggestion = byText.get(text);
+            if (suggestion == null) {
+                return;
+            }
+            if (--suggestion.weight > 0) {
+                invalidate(text);
+                return;
+            }
+            byText.remove(text);
+            for (String key : keystrokeKeys(text)) {
+                keystrokes.remove(key, suggestion);
+            }
+            for (String key : choseongKeys(text)) {
+                choseongs.remove(key, suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 자음만 입력했으면 초성 트라이, 아니면 자모 트라이에서 상위 k 개
+    List<Suggestion> top(String query, int k) {
+        boolean choseongOnly = Hangul.isChoseongOnly(query);
+        String key = choseongOnly ? Hangul.choseong(query) : Hangul.keystrokes(query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Suggestion> top = (choseongOnly ? choseongs : keystrokes).top(key);
+            return top.size() > k ? top.subList(0, k) : top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return byText.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void invalidate(String text) {
+        for (String key : keystrokeKeys(text)) {
+            keystrokes.invalidate(key);
+        }
+        for (String key : choseongKeys(text)) {
+            choseongs.invalidate(key);
+        }
+    }
+
+    private static Set<String> keystrokeKeys(String text) {
+        Set<String> keys = new HashSet<>();
+        for (String suffix : wordSuffixes(text)) {
+            keys.add(Hangul.keystrokes(suffix));
+        }
+        return keys;
+    }
+
+    private static Set<String> choseongKeys(String text) {
+        Set<String> keys = new HashSet<>();
+        for (String suffix : wordSuffixes(text)) {
+            keys.add(Hangul.choseong(suffix));
+        }
+        return keys;
+    }
+
+    // "오다 에이이치로" -> ["오다 에이이치로", "에이이치로"]
+    private static List<String> wordSuffixes(String text) {
+        List<String> suffixes = new ArrayList<>();
+        String trimmed = text.trim();
+        suffixes.add(trimmed);
+        for (int i = 1; i < trimmed.length(); i++) {
+            if (Character.isWhitespace(trimmed.charAt(i - 1)) && !Character.isWhitespace(trimmed.charAt(i))) {
+                suffixes.add(trimmed.substring(i));
+            }
+        }
+        return suffixes;
+    }
+
+    /**
+     * 접두어 트라이. 쓰기는 바깥 쓰기 락 안에서만, 읽기는 읽기 락 안에서 한다.
+     * 읽기 락 아래에서 여러 스레드가 같은 캐시를 채울 수 있지만 결과가 같으므로 문제없다.
+     */
+    private static final class Trie {
+
+        private final Node root = new Node();
+
+        private static final class Node {
+            private final Map<Character, Node> children = new HashMap<>();
+            private final Set<Suggestion> terminals = new HashSet<>();
+            private volatile List<Suggestion> top;
+        }
+
+        void add(String key, Suggestion suggestion) {
+            Node node = root;
+            node.top = null;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.top = null;
+            }
+            node.terminals.add(suggestion);
+        }
+
+        void remove(String key, Suggestion suggestion) {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+                path.add(node);
+            }
+            if (node == null) {
+                return;
+            }
+            node.terminals.remove(suggestion);
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node current = path.get(i);
+                current.top = null;
+                // 비어 있는 잎 노드는 부모에서 떼어낸다
+                if (i > 0 && current.terminals.isEmpty() && current.children.isEmpty()) {
+                    path.get(i - 1).children.remove(key.charAt(i - 1));
+                }
+            }
+        }
+
+        void invalidate(String key) {
+            Node node = root;
+            node.top = null;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+                if (node != null) {
+                    node.top = null;
+                }
+            }
+        }
+
+        List<Suggestion> top(String prefix) {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            List<Suggestion> cached = node.top;
+            if (cached == null) {
+                cached = collect(node);
+                node.top = cached;
+            }
+            return cached;
+        }
+
+        // 하위 노드 전체에서 상위 MAX_K 개를 뽑는다 (한 후보가 여러 키로 들어 있을 수 있어 중복 제거)
+        private static List<Suggestion> collect(Node start) {
+            PriorityQueue<Suggestion> heap = new PriorityQueue<>(MAX_K + 1, RANKING.reversed());
+            Set<Suggestion> seen = new HashSet<>();
+            List<Node> stack = new ArrayList<>();
+            stack.add(start);
+            while (!stack.isEmpty()) {
+                Node node = stack.remove(stack.size() - 1);
+                for (Suggestion suggestion : node.terminals) {
+                    if (seen.add(suggestion)) {
+                        heap.offer(suggestion);
+                        if (heap.size() > MAX_K) {
+                            heap.poll();
+                        }
+                    }
+                }
+                stack.addAll(node.children.values());
+            }
+            List<Suggestion> result = new ArrayList<>(heap);
+            result.sort(RANKING);
+            return Collections.unmodifiableList(result);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.study.manca.support;
+
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 유틸
+ * - keystrokes: 두벌식 자판으로 칠 때의 자모 순서로 분해 (원피스 -> ㅇㅜㅓㄴㅍㅣㅅㅡ)
+ *   겹모음/겹받침도 낱자로 풀어서 입력 중간 상태(우 -> 워 -> 원)가 접두어로 맞도록 한다.
+ * - choseong: 음절마다 초성만 뽑는다 (원피스 -> ㅇㅍㅅ)
+ * 한글이 아닌 문자는 소문자로 바꾸고, 연속된 공백은 하나로 줄인다.
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_FIRST = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    // 낱자로 입력된 겹모음/겹받침 (호환 자모)
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+            Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+
+    private Hangul() {
+    }
+
+    public static String keystrokes(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_FIRST;
+                sb.append(CHOSEONG.charAt(offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+                sb.append(JUNGSEONG[offset / JONGSEONG_COUNT % JUNGSEONG_COUNT]);
+                sb.append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else {
+                appendOther(sb, c, COMPOUND_JAMO.get(c));
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    public static String choseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                sb.append(CHOSEONG.charAt((c - SYLLABLE_FIRST) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+            } else {
+                appendOther(sb, c, null);
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    // 자음(ㄱ~ㅎ)과 공백으로만 이루어진 입력인지 (초성 검색 대상)
+    public static boolean isChoseongOnly(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                hasConsonant = true;
+            } else if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    private static void appendOther(StringBuilder sb, char c, String expanded) {
+        if (Character.isWhitespace(c)) {
+            if (!sb.isEmpty() && sb.charAt(sb.length() - 1) != ' ') {
+                sb.append(' ');
+            }
+        } else if (expanded != null) {
+            sb.append(expanded);
+        } else {
+            sb.append(Character.toLowerCase(c));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.study.manca.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠 (만료 예약용)
+ * 틱 하나 = tickMillis, 바퀴마다 64칸, 4단(64^4 틱)까지 두고
+ * 아래 바퀴가 한 바퀴 돌 때마다 위 바퀴의 한 칸을 풀어 다시 배치한다.
+ * 등록/취소는 칸의 이중 연결 리스트에 넣고 빼는 O(1) 이고, 만료 확인은 지나간 틱 수에만 비례한다.
+ * 마감 시각은 틱 단위로 올림하므로 만료가 마감보다 일찍 일어나지 않는다 (늦어도 한 틱 안).
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final Slot<T>[][] wheels;
+
+    private long currentTick;  // 아직 처리하지 않은 첫 틱
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.wheels = new Slot[LEVELS][WHEEL_SIZE];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheels[level][i] = new Slot<>();
+            }
+        }
+    }
+
+    /**
+     * deadlineMillis 이후 advance 에서 task 가 만료되도록 등록한다. 이미 지난 시각이면 다음 advance 에서 만료된다.
+     */
+    public synchronized Timeout<T> schedule(T task, long deadlineMillis) {
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick);
+        Timeout<T> timeout = new Timeout<>(this, task, deadlineTick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * nowMillis 까지의 틱을 처리하고 만료된 작업을 틱 순서대로 돌려준다.
+     * 작업 실행은 호출한 쪽에서 휠의 락 밖에서 한다.
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        while (currentTick <= nowTick) {
+            if (size == 0) {
+                // 기다리는 작업이 없으면 빈 틱을 하나씩 돌 필요가 없다
+                currentTick = nowTick + 1;
+                break;
+            }
+            long tick = currentTick;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((tick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                    cascade(wheels[level][(int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK)]);
+                }
+            }
+            Slot<T> slot = wheels[0][(int) (tick & WHEEL_MASK)];
+            for (Timeout<T> timeout = slot.head; timeout != null; timeout = slot.head) {
+                slot.remove(timeout);
+                size--;
+                expired.add(timeout.task);
+            }
+            currentTick++;
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.slot == null) {
+            return false;
+        }
+        timeout.slot.remove(timeout);
+        size--;
+        return true;
+    }
+
+    // 위 바퀴 칸의 작업들을 현재 틱 기준으로 다시 배치 (더 아래 바퀴로 내려간다)
+    private void cascade(Slot<T> slot) {
+        for (Timeout<T> timeout = slot.head; timeout != null; timeout = slot.head) {
+            slot.remove(timeout);
+            place(timeout);
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        // 가장 높은 바퀴보다 먼 마감은 일단 끝 칸에 두고, 풀릴 때 다시 배치한다
+        long tick = Math.min(timeout.deadlineTick, currentTick + MAX_DELTA);
+        long delta = tick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        wheels[level][(int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK)].add(timeout);
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    /**
+     * 등록된 작업 핸들. cancel 하면 만료되지 않는다.
+     */
+    public static final class Timeout<T> {
+
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T task;
+        private final long deadlineTick;
+        private Slot<T> slot;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, T task, long deadlineTick) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T task() {
+            return task;
+        }
+
+        // 아직 만료되지 않았으면 취소하고 true
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+
+    private static final class Slot<T> {
+
+        private Timeout<T> head;
+
+        void add(Timeout<T> timeout) {
+            timeout.slot = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.slot = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.study.manca.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @RetryOnOptimisticLock 처리
+ * 트랜잭션 프록시보다 바깥에서 동작해야 시도마다 새 트랜잭션(새 스냅샷)으로 다시 읽는다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class OptimisticLockRetryAspect {
+
+    private static final long BASE_BACKOFF_MILLIS = 5;
+
+    @Around("@annotation(retry)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnOptimisticLock retry) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= retry.maxAttempts()) {
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict on {} (attempt {}/{})",
+                        joinPoint.getSignature().toShortString(), attempt, retry.maxAttempts());
+                // 같은 행을 노리는 요청끼리 다시 부딪히지 않도록 짧게 흩어서 대기
+                Thread.sleep(ThreadLocalRandom.current().nextLong(BASE_BACKOFF_MILLIS << attempt));
+            }
+        }
+    }
+}
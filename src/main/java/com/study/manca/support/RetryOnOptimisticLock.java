@@ -0,0 +1,18 @@
+package com.study.manca.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌 시 트랜잭션을 새로 열어 다시 실행한다.
+ * 이미 진행 중인 트랜잭션 안에서 호출되면 재시도하지 않고 바깥 트랜잭션에 맡긴다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnOptimisticLock {
+
+    // 최초 실행을 포함한 최대 시도 횟수
+    int maxAttempts() default 3;
+}
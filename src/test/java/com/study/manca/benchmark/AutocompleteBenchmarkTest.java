@@ -0,0 +1,87 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.MemberChangedEvent;
+import com.study.manca.service.AutocompleteIndex;
+import com.study.manca.support.Hangul;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 자동완성 인덱스 조회 지연시간
+ * 무작위 한글 제목/작가/회원이름을 적재한 뒤 음절 접두어/초성 질의의 p50, p99 를 출력한다.
+ * 입력 중인 음절/초성/단어 접두어로 찾는지는 AutocompleteIndexTest, 자모 분해는 HangulTest 에서 확인한다.
+ * DB 없이 인덱스만 대상으로 하므로 스프링 컨텍스트를 띄우지 않는다.
+ */
+@Tag("benchmark")
+@DisplayName("자동완성 인덱스 벤치마크")
+class AutocompleteBenchmarkTest {
+
+    private static final int TITLES = 5_000;
+    private static final int VOLUMES_PER_TITLE = 10;
+    private static final int MEMBERS = 20_000;
+    private static final int QUERIES = 50_000;
+
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("음절 접두어/초성 질의 지연시간")
+    void queryLatency() {
+        AutocompleteIndex index = new AutocompleteIndex(null, null);
+        List<String> titles = new ArrayList<>();
+        long id = 1;
+        for (int t = 0; t < TITLES; t++) {
+            String title = randomWord(2 + random.nextInt(4));
+            String author = randomWord(2) + " " + randomWord(3);
+            titles.add(title);
+            for (int v = 0; v < VOLUMES_PER_TITLE; v++) {
+                index.onBookChanged(BookChangedEvent.builder()
+                        .type(BookChangedEvent.ChangeType.CREATED)
+                        .bookId(id++).title(title).author(author).build());
+            }
+        }
+        for (long m = 1; m <= MEMBERS; m++) {
+            index.onMemberChanged(MemberChangedEvent.of(MemberChangedEvent.ChangeType.CREATED, m, randomWord(3)));
+        }
+
+        List<String> queries = new ArrayList<>(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            String title = titles.get(random.nextInt(titles.size()));
+            String prefix = title.substring(0, 1 + random.nextInt(title.length()));
+            queries.add(random.nextInt(4) == 0 ? Hangul.choseong(prefix) : prefix);
+        }
+
+        for (String query : queries) {
+            index.suggest(query, null, 10);
+        }
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            index.suggest(queries.get(i), null, 10);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        long p50 = nanos[QUERIES / 2];
+        long p99 = nanos[(int) (QUERIES * 0.99)];
+        System.out.printf("autocomplete: titles=%d, members=%d, queries=%d, p50=%.1f us, p99=%.1f us, max=%.1f us%n",
+                TITLES, MEMBERS, QUERIES, p50 / 1e3, p99 / 1e3, nanos[QUERIES - 1] / 1e3);
+    }
+
+    private String randomWord(int syllables) {
+        StringBuilder sb = new StringBuilder(syllables);
+        for (int i = 0; i < syllables; i++) {
+            // 초성 19 x 중성 21 x 종성 28 중 자주 쓰는 앞쪽 일부만 사용해 접두어가 겹치도록 한다
+            int cho = random.nextInt(12);
+            int jung = random.nextInt(8);
+            int jong = random.nextInt(4) == 0 ? random.nextInt(8) : 0;
+            sb.append((char) (0xAC00 + (cho * 21 + jung) * 28 + jong));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.dto.BookRequest;
+import com.study.manca.dto.BookResponse;
+import com.study.manca.entity.Book;
+import com.study.manca.repository.BookRepository;
+import com.study.manca.service.BookBulkService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 경로 비교: 엔티티 조회 후 BookResponse.from 변환 vs JPQL 생성자 프로젝션
+ * 두 경로 모두 읽기 전용 트랜잭션 안에서 라운드당 할당 바이트와 지연시간을 잰다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("도서 목록 조회 경로 벤치마크")
+class BookReadPathBenchmarkTest {
+
+    private static final String CODE_PREFIX = "BM-READ-";
+    private static final int BOOKS = 20_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookBulkService bookBulkService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void seed() {
+        List<BookRequest> books = IntStream.range(0, BOOKS)
+                .mapToObj(i -> new BookRequest(CODE_PREFIX + i, "벤치마크 " + (i / 100), "작가", "출판사",
+                        i % 100 + 1, "액션", Book.BookStatus.AVAILABLE, Book.BookCondition.GOOD, "Z-01", null))
+                .toList();
+        bookBulkService.importBooks(books);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM books WHERE book_code LIKE ?", CODE_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("프로젝션 경로가 엔티티 경로보다 적게 할당한다")
+    void compareListReadPaths() {
+        Result entityPath = measure("entity", () -> bookRepository.findAll().stream()
+                .map(BookResponse::from)
+                .toList());
+        Result projectionPath = measure("projection", () -> bookRepository.findAllResponses());
+
+        System.out.println(entityPath);
+        System.out.println(projectionPath);
+        System.out.printf("allocation ratio (projection/entity) = %.2f, latency ratio = %.2f%n",
+                (double) projectionPath.bytesPerRound / entityPath.bytesPerRound,
+                projectionPath.millisPerRound / entityPath.millisPerRound);
+
+        assertThat(projectionPath.rows).isEqualTo(entityPath.rows);
+        assertThat(projectionPath.bytesPerRound).isLessThan(entityPath.bytesPerRound);
+    }
+
+    private Result measure(String name, Supplier<List<BookResponse>> readPath) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        int rows = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            rows = runRound(readOnly, readPath);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            runRound(readOnly, readPath);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        return new Result(name, rows, allocated / ROUNDS, elapsedNanos / 1_000_000.0 / ROUNDS);
+    }
+
+    private int runRound(TransactionTemplate readOnly, Supplier<List<BookResponse>> readPath) {
+        Integer rows = readOnly.execute(status -> {
+            int size = readPath.get().size();
+            entityManager.clear();
+            return size;
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    private record Result(String name, int rows, long bytesPerRound, double millisPerRound) {
+
+        @Override
+        public String toString() {
+            return String.format("%-10s rows=%d, allocated=%,d bytes/round, latency=%.2f ms/round",
+                    name, rows, bytesPerRound, millisPerRound);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.dto.BookRequest;
+import com.study.manca.dto.BookResponse;
+import com.study.manca.dto.BookSearchResponse;
+import com.study.manca.entity.Book;
+import com.study.manca.repository.BookRepository;
+import com.study.manca.service.BookBulkService;
+import com.study.manca.service.BookService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카탈로그 검색 실행 계획 테스트
+ * 실제 매장 규모(10만 권)의 도서를 넣고 ANALYZE 한 뒤, 검색 쿼리가 순차 스캔 없이
+ * 트라이그램/tsvector GIN 인덱스를 타는지 EXPLAIN 으로 확인한다.
+ * 트라이그램이 나오지 않는 2글자 검색어는 단어 앞부분 일치(search_vector)로만 찾으므로 그 경로도 따로 확인한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("도서 검색 실행 계획")
+class BookSearchPlanTest {
+
+    private static final String CODE_PREFIX = "BM-SEARCH-";
+    private static final int BOOKS = 100_000;
+    private static final String[] WORDS = {
+            "소년", "마법", "전설", "학교", "기사", "용사", "고양이", "바다", "도시", "탐정",
+            "요리", "농구", "야구", "검", "별", "하늘", "시간", "여행", "왕국", "괴물"};
+
+    @Autowired
+    private BookBulkService bookBulkService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        Random random = new Random(7);
+        List<BookRequest> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            boolean target = i % 5_000 == 0;  // 20종 x 1권 정도만 검색어와 일치
+            String title = target
+                    ? "강철의 연금술사 " + (i / 5_000)
+                    : WORDS[random.nextInt(WORDS.length)] + "의 " + WORDS[random.nextInt(WORDS.length)] + " " + (i / 50);
+            books.add(new BookRequest(CODE_PREFIX + i, title, "작가" + (i % 3_000), "출판사" + (i % 40),
+                    i % 50 + 1, WORDS[i % 7], i % 3 == 0 ? Book.BookStatus.RENTED : Book.BookStatus.AVAILABLE,
+                    Book.BookCondition.GOOD, "S-" + (i % 100), null));
+        }
+        bookBulkService.importBooks(books);
+        jdbcTemplate.execute("ANALYZE books");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM books WHERE book_code LIKE ?", CODE_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("부분 문자열 검색은 GIN 인덱스를 사용하고 순차 스캔하지 않는다")
+    void searchUsesGinIndexes() {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", "연금술")
+                .addValue("pattern", "%연금술%")
+                .addValue("status", null)
+                .addValue("genre", null)
+                .addValue("condition", null)
+                .addValue("lastScore", null)
+                .addValue("lastId", null)
+                .addValue("limit", 21);
+        String plan = String.join("\n",
+                namedParameterJdbcTemplate.queryForList("EXPLAIN " + BookRepository.SEARCH_SQL, params, String.class));
+        System.out.println(plan);
+
+        assertThat(plan).contains("idx_books_title_trgm");
+        assertThat(plan).doesNotContain("Seq Scan on books");
+    }
+
+    @Test
+    @DisplayName("2글자 검색어는 tsvector GIN 인덱스만 사용하고 순차 스캔하지 않는다")
+    void shortQueryUsesSearchVectorIndex() {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", "강철")
+                .addValue("prefixQuery", "'강철':*")
+                .addValue("status", null)
+                .addValue("genre", null)
+                .addValue("condition", null)
+                .addValue("lastScore", null)
+                .addValue("lastId", null)
+                .addValue("limit", 21);
+        String plan = String.join("\n", namedParameterJdbcTemplate.queryForList(
+                "EXPLAIN " + BookRepository.PREFIX_SEARCH_SQL, params, String.class));
+        System.out.println(plan);
+
+        assertThat(plan).contains("idx_books_search_vector");
+        assertThat(plan).doesNotContain("idx_books_title_trgm");
+        assertThat(plan).doesNotContain("Seq Scan on books");
+
+        BookSearchResponse page = bookService.search("강철", null, null, null, null, 100);
+        Integer expected = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books WHERE search_vector @@ to_tsquery('simple', '''강철'':*')", Integer.class);
+        assertThat(page.getContent()).hasSize(expected).isNotEmpty();
+        assertThat(page.getContent()).allSatisfy(book -> assertThat(book.getTitle()).startsWith("강철"));
+    }
+
+    @Test
+    @DisplayName("키셋 페이지를 끝까지 넘기면 일치하는 도서를 중복 없이 모두 받는다")
+    void keysetPagesCoverAllMatches() {
+        Set<Long> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            BookSearchResponse page = bookService.search("연금술", null, null, null, cursor, 7);
+            for (BookResponse book : page.getContent()) {
+                assertThat(seen.add(book.getId())).as("duplicate id %d", book.getId()).isTrue();
+                assertThat(book.getTitle()).contains("연금술");
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        Integer expected = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books WHERE title LIKE '%연금술%'", Integer.class);
+        assertThat(seen).hasSize(expected);
+        assertThat(pages).isGreaterThan(1);
+    }
+}
@@ -0,0 +1,173 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.dto.BookRequest;
+import com.study.manca.dto.BookStatusChangeRequest;
+import com.study.manca.dto.RentalRequest;
+import com.study.manca.entity.Book;
+import com.study.manca.entity.Member;
+import com.study.manca.repository.MemberRepository;
+import com.study.manca.service.BookBulkService;
+import com.study.manca.service.BookService;
+import com.study.manca.service.RentalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서 상태 전이 동시성 스트레스 테스트
+ * 1) 여러 창구가 같은 도서들을 동시에 대여할 때 도서당 대여가 정확히 한 건만 생기는지
+ * 2) 조건부 UPDATE(CAS) 로 상태를 뒤집는 요청이 몰릴 때 성공한 전이 횟수와 최종 상태가 맞는지
+ * 를 확인하고 각 단계의 처리량을 출력한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("도서 상태 전이 동시성 벤치마크")
+class BookStatusContentionBenchmarkTest {
+
+    private static final String CODE_PREFIX = "BM-CAS-";
+    private static final int BOOKS = 8;
+    private static final int THREADS = 16;
+    private static final int CAS_OPS_PER_THREAD = 500;
+
+    @Autowired
+    private BookBulkService bookBulkService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private List<Long> bookIds;
+
+    @BeforeEach
+    void seed() {
+        memberId = memberRepository.save(Member.builder()
+                .name("벤치마크").email("bm-cas@example.com").phone("010-0000-0000").build()).getId();
+        bookBulkService.importBooks(IntStream.range(0, BOOKS)
+                .mapToObj(i -> new BookRequest(CODE_PREFIX + i, "동시성", "작가", "출판사", i + 1, "액션",
+                        Book.BookStatus.AVAILABLE, Book.BookCondition.GOOD, "Z-02", null))
+                .toList());
+        bookIds = jdbcTemplate.queryForList(
+                "SELECT id FROM books WHERE book_code LIKE ? ORDER BY id", Long.class, CODE_PREFIX + "%");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM rentals WHERE member_id = ?", memberId);
+        jdbcTemplate.update("DELETE FROM books WHERE book_code LIKE ?", CODE_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM members WHERE id = ?", memberId);
+    }
+
+    @Test
+    @DisplayName("동시 대여는 도서당 한 건만 성공하고, CAS 전이 횟수와 최종 상태가 일치한다")
+    void contendedStatusTransitions() throws Exception {
+        // 1) 대여 경합: 모든 스레드가 모든 도서를 순서를 섞어 대여 시도
+        AtomicInteger rented = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger exhausted = new AtomicInteger();
+        long rentalNanos = runConcurrently(() -> {
+            List<Long> order = new ArrayList<>(bookIds);
+            Collections.shuffle(order);
+            for (Long bookId : order) {
+                try {
+                    rentalService.create(new RentalRequest(memberId, bookId, 7, null));
+                    rented.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                } catch (OptimisticLockingFailureException e) {
+                    exhausted.incrementAndGet();
+                }
+            }
+        });
+
+        int attempts = THREADS * BOOKS;
+        System.out.printf("rental contention: attempts=%d, rented=%d, rejected=%d, retries exhausted=%d, %.0f attempts/sec%n",
+                attempts, rented.get(), rejected.get(), exhausted.get(), attempts / (rentalNanos / 1e9));
+
+        assertThat(rented.get()).isEqualTo(BOOKS);
+        for (Long bookId : bookIds) {
+            Integer active = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM rentals WHERE book_id = ? AND status = 'ACTIVE'", Integer.class, bookId);
+            assertThat(active).as("active rentals of book %d", bookId).isEqualTo(1);
+        }
+
+        // 2) CAS 경합: 무작위 도서를 RENTED <-> AVAILABLE 로 뒤집기
+        AtomicIntegerArray toAvailable = new AtomicIntegerArray(BOOKS);
+        AtomicIntegerArray toRented = new AtomicIntegerArray(BOOKS);
+        AtomicInteger lost = new AtomicInteger();
+        long casNanos = runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < CAS_OPS_PER_THREAD; i++) {
+                int index = random.nextInt(BOOKS);
+                boolean release = random.nextBoolean();
+                BookStatusChangeRequest request = release
+                        ? new BookStatusChangeRequest(Book.BookStatus.RENTED, Book.BookStatus.AVAILABLE)
+                        : new BookStatusChangeRequest(Book.BookStatus.AVAILABLE, Book.BookStatus.RENTED);
+                try {
+                    bookService.changeStatus(bookIds.get(index), request);
+                    (release ? toAvailable : toRented).incrementAndGet(index);
+                } catch (IllegalStateException e) {
+                    lost.incrementAndGet();
+                }
+            }
+        });
+
+        int casOps = THREADS * CAS_OPS_PER_THREAD;
+        System.out.printf("CAS contention: ops=%d, applied=%d, lost=%d, %.0f ops/sec%n",
+                casOps, casOps - lost.get(), lost.get(), casOps / (casNanos / 1e9));
+
+        for (int i = 0; i < BOOKS; i++) {
+            int net = toAvailable.get(i) - toRented.get(i);
+            String status = jdbcTemplate.queryForObject(
+                    "SELECT status FROM books WHERE id = ?", String.class, bookIds.get(i));
+            // 처음 상태가 RENTED 이므로 성공한 전이는 반드시 번갈아 일어난다
+            assertThat(net).as("net transitions of book %d", bookIds.get(i)).isBetween(0, 1);
+            assertThat(status).isEqualTo(net == 1 ? "AVAILABLE" : "RENTED");
+        }
+    }
+
+    private long runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        return System.nanoTime() - begin;
+    }
+}
@@ -0,0 +1,132 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.dto.MemberRequest;
+import com.study.manca.entity.Member;
+import com.study.manca.repository.MemberRepository;
+import com.study.manca.service.MemberService;
+import com.study.manca.support.StatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 회원 변경 경로 비교: 엔티티 조회 후 변경(기존 방식) vs UPDATE/DELETE ... RETURNING 한 번
+ * 요청당 서버로 나간 SQL 문장 수와 지연시간을 출력한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(StatementCounter.Config.class)
+@DisplayName("회원 변경 경로 벤치마크")
+class MemberMutationBenchmarkTest {
+
+    private static final String EMAIL_DOMAIN = "@bm-mutation.example.com";
+    private static final int MEMBERS = 500;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Long> memberIds;
+
+    @BeforeEach
+    void seed() {
+        memberIds = IntStream.range(0, MEMBERS)
+                .mapToObj(i -> memberRepository.save(Member.builder()
+                        .name("회원" + i).email("m" + i + EMAIL_DOMAIN).phone("010-0000-0000").build()).getId())
+                .toList();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM members WHERE email LIKE ?", "%" + EMAIL_DOMAIN);
+    }
+
+    @Test
+    @DisplayName("빠른 경로는 수정/부분수정/삭제 모두 요청당 SQL 한 번으로 끝난다")
+    void compareStatementsPerRequest() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<Long> half1 = memberIds.subList(0, MEMBERS / 2);
+        List<Long> half2 = memberIds.subList(MEMBERS / 2, MEMBERS);
+
+        // 기존 방식: findById + dirty checking / existsById + deleteById
+        Result entityPatch = measure("entity patch", half1, id -> tx.executeWithoutResult(status -> {
+            Member member = memberRepository.findById(id).orElseThrow();
+            member.setPhone("010-1111-" + String.format("%04d", id % 10_000));
+        }));
+        Result entityDelete = measure("entity delete", half1, id -> tx.executeWithoutResult(status -> {
+            if (!memberRepository.existsById(id)) {
+                throw new IllegalArgumentException("Member not found with id: " + id);
+            }
+            memberRepository.deleteById(id);
+        }));
+
+        // 빠른 경로: UPDATE ... RETURNING / DELETE ... RETURNING
+        Result fastUpdate = measure("fast update", half2, id -> memberService.update(id,
+                new MemberRequest("회원", "u" + id + EMAIL_DOMAIN, "010-2222-2222")));
+        Result fastPatch = measure("fast patch", half2, id -> memberService.updatePartial(id,
+                new MemberRequest(null, null, "010-3333-" + String.format("%04d", id % 10_000))));
+        Result fastDelete = measure("fast delete", half2, memberService::delete);
+
+        List.of(entityPatch, entityDelete, fastUpdate, fastPatch, fastDelete).forEach(System.out::println);
+
+        assertThat(entityPatch.statementsPerRequest()).isGreaterThan(1.0);
+        assertThat(entityDelete.statementsPerRequest()).isGreaterThan(1.0);
+        assertThat(fastUpdate.statementsPerRequest()).isEqualTo(1.0);
+        assertThat(fastPatch.statementsPerRequest()).isEqualTo(1.0);
+        assertThat(fastDelete.statementsPerRequest()).isEqualTo(1.0);
+
+        // 없는 회원은 기존과 같이 Member not found
+        assertThatThrownBy(() -> memberService.delete(half2.get(0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Member not found");
+        assertThatThrownBy(() -> memberService.updatePartial(half2.get(0), new MemberRequest("x", null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Member not found");
+    }
+
+    private Result measure(String name, List<Long> ids, LongConsumer request) {
+        StatementCounter.reset();
+        long start = System.nanoTime();
+        for (Long id : ids) {
+            request.accept(id);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        return new Result(name, ids.size(), StatementCounter.count(), elapsedNanos / 1_000.0 / ids.size());
+    }
+
+    private record Result(String name, int requests, long statements, double microsPerRequest) {
+
+        double statementsPerRequest() {
+            return (double) statements / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-14s requests=%d, statements=%d (%.2f/request), latency=%.1f us/request",
+                    name, requests, statements, statementsPerRequest(), microsPerRequest);
+        }
+    }
+}
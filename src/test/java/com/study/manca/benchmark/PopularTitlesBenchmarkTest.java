@@ -0,0 +1,93 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.RentalChangedEvent;
+import com.study.manca.service.PopularTitlesIndex;
+import com.study.manca.support.MutableClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 인기 시리즈 순위 벤치마크
+ * 인기 편중(Zipf)된 대여를 2주 동안 흘려 보내면서 대여 1건 반영 시간과 상위 K 조회 시간을 출력한다.
+ * 순위가 최근 7일을 다시 센 값과 같은지는 PopularTitlesIndexTest 에서 확인한다.
+ * DB 없이 인덱스만 대상으로 하므로 스프링 컨텍스트를 띄우지 않는다.
+ */
+@Tag("benchmark")
+@DisplayName("인기 시리즈 순위 벤치마크")
+class PopularTitlesBenchmarkTest {
+
+    private static final int SERIES = 2_000;
+    private static final int VOLUMES = 20;
+    private static final int RENTALS = 1_000_000;
+    private static final Duration SPAN = Duration.ofDays(14);
+    private static final int K = 10;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("대여 반영 시간과 상위 K 조회 시간")
+    void rentAndTopLatency() {
+        PopularTitlesIndex index = new PopularTitlesIndex(mock(JdbcTemplate.class), clock);
+        for (int series = 0; series < SERIES; series++) {
+            for (int volume = 1; volume <= VOLUMES; volume++) {
+                index.onBookChanged(BookChangedEvent.builder()
+                        .type(BookChangedEvent.ChangeType.CREATED)
+                        .bookId(bookId(series, volume))
+                        .bookCode(String.format("MH-%04d-%03d", series, volume))
+                        .title("시리즈" + series)
+                        .build());
+            }
+        }
+
+        // 시리즈 선택은 Zipf(1.1) 누적분포로, 이벤트는 측정 전에 미리 만든다
+        double[] cumulative = new double[SERIES];
+        double sum = 0;
+        for (int i = 0; i < SERIES; i++) {
+            sum += 1 / Math.pow(i + 1, 1.1);
+            cumulative[i] = sum;
+        }
+        int[] picks = new int[RENTALS];
+        RentalChangedEvent[] events = new RentalChangedEvent[RENTALS];
+        for (int i = 0; i < RENTALS; i++) {
+            int pos = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            picks[i] = pos >= 0 ? pos : -pos - 1;
+            events[i] = RentalChangedEvent.of(RentalChangedEvent.ChangeType.RENTED, (long) i, 1L,
+                    bookId(picks[i], 1 + random.nextInt(VOLUMES)), null);
+        }
+
+        Duration step = SPAN.dividedBy(RENTALS);
+        long rentNanos = 0;
+        long topNanos = 0;
+        int tops = 0;
+        for (int i = 0; i < RENTALS; i++) {
+            clock.advance(step);
+            long start = System.nanoTime();
+            index.onRentalChanged(events[i]);
+            rentNanos += System.nanoTime() - start;
+
+            if (i % 100 == 0) {
+                start = System.nanoTime();
+                index.top(K);
+                topNanos += System.nanoTime() - start;
+                tops++;
+            }
+        }
+        System.out.printf("popular titles: rentals=%d, %.0f ns/rental, top-%d read %.0f ns%n",
+                RENTALS, rentNanos / (double) RENTALS, K, topNanos / (double) tops);
+    }
+
+    private static long bookId(int series, int volume) {
+        return (long) series * VOLUMES + volume;
+    }
+}
@@ -0,0 +1,135 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.config.RentalArchiveProperties;
+import com.study.manca.dto.RentalResponse;
+import com.study.manca.service.RentalArchiveService;
+import com.study.manca.service.RentalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대여 이력 보관 벤치마크
+ * 오래된 반납분이 쌓인 rentals 를 배치 단위로 rentals_archive 로 옮기면서 배치당 소요시간(= 행 잠금 유지 시간)을 출력하고,
+ * 옮긴 뒤에도 기본 목록은 hot 테이블만, 회원별 이력은 두 테이블을 합쳐 돌려주는지 확인한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "manca.rentals.archive-interval=PT1H")
+@DisplayName("대여 이력 보관 벤치마크")
+class RentalArchiveBenchmarkTest {
+
+    private static final String BOOK_CODE = "BM-ARCHIVE-001";
+    private static final int COLD = 20_000;
+    private static final int RECENT = 50;
+    private static final int ACTIVE = 10;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private RentalArchiveService rentalArchiveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+
+    @BeforeEach
+    void seed() {
+        memberId = jdbcTemplate.queryForObject("""
+                INSERT INTO members (name, email, phone, created_at, updated_at)
+                VALUES ('벤치마크', 'bm-archive@example.com', '010-0000-0000', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                RETURNING id
+                """, Long.class);
+        Long bookId = jdbcTemplate.queryForObject("""
+                INSERT INTO books (book_code, title, author, publisher, volume, genre, status, location,
+                                   created_at, updated_at)
+                VALUES (?, '보관', '작가', '출판사', 1, '액션', 'RENTED', 'Z-06', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                RETURNING id
+                """, Long.class, BOOK_CODE);
+        // 오래된 반납분 / 최근 반납분 / 대여중 (동일 도서를 반복 사용, FK 만 맞춘다)
+        insertRentals(bookId, COLD, "RETURNED", "CURRENT_TIMESTAMP - INTERVAL '90 days'",
+                "CURRENT_TIMESTAMP - INTERVAL '60 days'");
+        insertRentals(bookId, RECENT, "RETURNED", "CURRENT_TIMESTAMP - INTERVAL '3 days'",
+                "CURRENT_TIMESTAMP - INTERVAL '1 day'");
+        insertRentals(bookId, ACTIVE, "ACTIVE", "CURRENT_TIMESTAMP - INTERVAL '1 day'", "NULL");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM rentals_archive WHERE member_id = ?", memberId);
+        jdbcTemplate.update("DELETE FROM rentals WHERE member_id = ?", memberId);
+        jdbcTemplate.update("DELETE FROM books WHERE book_code = ?", BOOK_CODE);
+        jdbcTemplate.update("DELETE FROM members WHERE id = ?", memberId);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 반납분만 배치 단위로 옮기고, 이력 조회는 두 테이블을 합친다")
+    void archiveInBatches() {
+        assertThat(rentalService.findByMemberId(memberId)).hasSize(COLD + RECENT + ACTIVE);
+
+        // 한 주기에 한 배치씩 돌려 배치마다 걸린 시간을 잰다
+        RentalArchiveService oneBatchPerRun = new RentalArchiveService(jdbcTemplate,
+                new RentalArchiveProperties(Duration.ofDays(30), BATCH_SIZE, 1), Clock.systemDefaultZone());
+        List<Long> batchNanos = new ArrayList<>();
+        int moved;
+        do {
+            long start = System.nanoTime();
+            moved = oneBatchPerRun.archive();
+            batchNanos.add(System.nanoTime() - start);
+        } while (moved == BATCH_SIZE);
+
+        long start = System.nanoTime();
+        List<RentalResponse> history = rentalArchiveService.findHistoryByMemberId(memberId);
+        long historyNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        List<RentalResponse> hot = rentalService.findByMemberId(memberId);
+        long hotNanos = System.nanoTime() - start;
+
+        Collections.sort(batchNanos);
+        System.out.printf("archive: batches=%d, batch p50=%.1f ms, max=%.1f ms%n", batchNanos.size(),
+                batchNanos.get(batchNanos.size() / 2) / 1e6, batchNanos.get(batchNanos.size() - 1) / 1e6);
+        System.out.printf("member listing (hot) : rentals=%d, %.1f ms%n", hot.size(), hotNanos / 1e6);
+        System.out.printf("member history (all) : rentals=%d, %.1f ms%n", history.size(), historyNanos / 1e6);
+
+        assertThat(countRows("rentals_archive")).isEqualTo(COLD);
+        assertThat(countRows("rentals")).isEqualTo(RECENT + ACTIVE);
+        assertThat(hot).hasSize(RECENT + ACTIVE);
+        assertThat(history).hasSize(COLD + RECENT + ACTIVE);
+        assertThat(history.get(0).getStatus()).isEqualTo("ACTIVE");
+        assertThat(history.get(history.size() - 1).getStatus()).isEqualTo("RETURNED");
+        assertThat(history).allSatisfy(rental -> assertThat(rental.getMemberName()).isEqualTo("벤치마크"));
+
+        // 이미 옮긴 뒤에는 더 옮길 것이 없다
+        assertThat(rentalArchiveService.archive()).isZero();
+    }
+
+    private void insertRentals(Long bookId, int count, String status, String rentedAt, String returnedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO rentals (member_id, book_id, rental_date_time, return_date_time, due_date_time, status,
+                                     created_at, updated_at)
+                SELECT ?, ?, %1$s, %2$s, %1$s + INTERVAL '7 days', ?, %1$s, CURRENT_TIMESTAMP
+                  FROM generate_series(1, ?)
+                """.formatted(rentedAt, returnedAt), memberId, bookId, status, count);
+    }
+
+    private long countRows(String table) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE member_id = ?", Long.class, memberId);
+        return count == null ? 0 : count;
+    }
+}
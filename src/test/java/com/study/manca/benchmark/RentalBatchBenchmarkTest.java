@@ -0,0 +1,169 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.dto.BookRequest;
+import com.study.manca.dto.RentalBatchCheckoutRequest;
+import com.study.manca.dto.RentalBatchMode;
+import com.study.manca.dto.RentalBatchResponse;
+import com.study.manca.dto.RentalBatchResponse.ItemStatus;
+import com.study.manca.dto.RentalBatchReturnRequest;
+import com.study.manca.dto.RentalRequest;
+import com.study.manca.entity.Book;
+import com.study.manca.entity.Member;
+import com.study.manca.repository.MemberRepository;
+import com.study.manca.service.BookBulkService;
+import com.study.manca.service.RentalBatchService;
+import com.study.manca.service.RentalService;
+import com.study.manca.support.StatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 대여/반납 vs 단건 대여 반복
+ * 같은 수의 도서를 단건 API 로 한 권씩 대여할 때와 일괄 API 로 한 번에 대여/반납할 때
+ * 서버로 나간 SQL 문장 수와 지연시간을 출력하고, ALL_OR_NOTHING/PER_ITEM 결과가 맞는지 확인한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(StatementCounter.Config.class)
+@DisplayName("일괄 대여/반납 벤치마크")
+class RentalBatchBenchmarkTest {
+
+    private static final String CODE_PREFIX = "BM-BATCH-";
+    private static final int BOOKS = 50;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private RentalBatchService rentalBatchService;
+
+    @Autowired
+    private BookBulkService bookBulkService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private List<String> singleCodes;
+    private List<String> batchCodes;
+
+    @BeforeEach
+    void seed() {
+        memberId = memberRepository.save(Member.builder()
+                .name("벤치마크").email("bm-batch@example.com").phone("010-0000-0000").build()).getId();
+        bookBulkService.importBooks(IntStream.range(0, BOOKS * 2)
+                .mapToObj(i -> new BookRequest(CODE_PREFIX + i, "일괄대여", "작가", "출판사", i + 1, "액션",
+                        Book.BookStatus.AVAILABLE, Book.BookCondition.GOOD, "Z-03", null))
+                .toList());
+        singleCodes = IntStream.range(0, BOOKS).mapToObj(i -> CODE_PREFIX + i).toList();
+        batchCodes = IntStream.range(BOOKS, BOOKS * 2).mapToObj(i -> CODE_PREFIX + i).toList();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM rentals WHERE member_id = ?", memberId);
+        jdbcTemplate.update("DELETE FROM books WHERE book_code LIKE ?", CODE_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM members WHERE id = ?", memberId);
+    }
+
+    @Test
+    @DisplayName("일괄 경로는 도서 수와 관계없이 SQL 문장 수가 일정하다")
+    void compareSingleAndBatch() {
+        List<Long> singleIds = jdbcTemplate.queryForList(
+                "SELECT id FROM books WHERE book_code = ANY (?::varchar[]) ORDER BY id", Long.class,
+                (Object) singleCodes.toArray(new String[0]));
+
+        StatementCounter.reset();
+        long start = System.nanoTime();
+        for (Long bookId : singleIds) {
+            rentalService.create(new RentalRequest(memberId, bookId, 7, null));
+        }
+        long singleNanos = System.nanoTime() - start;
+        long singleStatements = StatementCounter.count();
+
+        StatementCounter.reset();
+        start = System.nanoTime();
+        RentalBatchResponse checkout = rentalBatchService.checkout(
+                new RentalBatchCheckoutRequest(memberId, batchCodes, 7, null, RentalBatchMode.ALL_OR_NOTHING));
+        long checkoutNanos = System.nanoTime() - start;
+        long checkoutStatements = StatementCounter.count();
+
+        StatementCounter.reset();
+        start = System.nanoTime();
+        RentalBatchResponse returned = rentalBatchService.returnBooks(
+                new RentalBatchReturnRequest(batchCodes, RentalBatchMode.ALL_OR_NOTHING));
+        long returnNanos = System.nanoTime() - start;
+        long returnStatements = StatementCounter.count();
+
+        System.out.printf("single checkout x%d: statements=%d, %.1f ms%n", BOOKS, singleStatements, singleNanos / 1e6);
+        System.out.printf("batch checkout  x%d: statements=%d, %.1f ms%n", BOOKS, checkoutStatements, checkoutNanos / 1e6);
+        System.out.printf("batch return    x%d: statements=%d, %.1f ms%n", BOOKS, returnStatements, returnNanos / 1e6);
+
+        assertThat(checkout.isApplied()).isTrue();
+        assertThat(checkout.getSucceeded()).isEqualTo(BOOKS);
+        assertThat(returned.getSucceeded()).isEqualTo(BOOKS);
+        // 회원 확인 + 잠금 + 도서 UPDATE + 대여 INSERT / 잠금 + 대여 UPDATE + 도서 UPDATE
+        assertThat(checkoutStatements).isLessThanOrEqualTo(4);
+        assertThat(returnStatements).isLessThanOrEqualTo(3);
+        assertThat(singleStatements).isGreaterThan(BOOKS * 2L);
+        assertThat(countBooks(batchCodes, "AVAILABLE")).isEqualTo(BOOKS);
+    }
+
+    @Test
+    @DisplayName("ALL_OR_NOTHING 은 하나라도 실패하면 아무것도 반영하지 않고, PER_ITEM 은 가능한 도서만 반영한다")
+    void resultModes() {
+        List<String> codes = new ArrayList<>(batchCodes.subList(0, 5));
+        codes.add(CODE_PREFIX + "UNKNOWN");
+        codes.add(batchCodes.get(0));
+
+        RentalBatchResponse allOrNothing = rentalBatchService.checkout(
+                new RentalBatchCheckoutRequest(memberId, codes, null, null, RentalBatchMode.ALL_OR_NOTHING));
+        assertThat(allOrNothing.isApplied()).isFalse();
+        assertThat(allOrNothing.getResults()).extracting(RentalBatchResponse.ItemResult::getStatus)
+                .containsExactly(ItemStatus.SKIPPED, ItemStatus.SKIPPED, ItemStatus.SKIPPED, ItemStatus.SKIPPED,
+                        ItemStatus.SKIPPED, ItemStatus.NOT_FOUND, ItemStatus.DUPLICATE);
+        assertThat(countBooks(batchCodes, "RENTED")).isZero();
+
+        RentalBatchResponse perItem = rentalBatchService.checkout(
+                new RentalBatchCheckoutRequest(memberId, codes, null, null, RentalBatchMode.PER_ITEM));
+        assertThat(perItem.isApplied()).isTrue();
+        assertThat(perItem.getSucceeded()).isEqualTo(5);
+        assertThat(perItem.getFailed()).isEqualTo(1);
+        assertThat(countBooks(batchCodes, "RENTED")).isEqualTo(5);
+
+        // 이미 대여된 도서 + 대여되지 않은 도서를 섞어 반납
+        List<String> returns = List.of(batchCodes.get(0), batchCodes.get(10));
+        RentalBatchResponse rejected = rentalBatchService.returnBooks(
+                new RentalBatchReturnRequest(returns, RentalBatchMode.ALL_OR_NOTHING));
+        assertThat(rejected.getResults()).extracting(RentalBatchResponse.ItemResult::getStatus)
+                .containsExactly(ItemStatus.SKIPPED, ItemStatus.NOT_RENTED);
+        RentalBatchResponse partial = rentalBatchService.returnBooks(
+                new RentalBatchReturnRequest(returns, RentalBatchMode.PER_ITEM));
+        assertThat(partial.getResults()).extracting(RentalBatchResponse.ItemResult::getStatus)
+                .containsExactly(ItemStatus.RETURNED, ItemStatus.NOT_RENTED);
+        assertThat(countBooks(batchCodes, "RENTED")).isEqualTo(4);
+    }
+
+    private long countBooks(List<String> codes, String status) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books WHERE book_code = ANY (?::varchar[]) AND status = ?", Long.class,
+                codes.toArray(new String[0]), status);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,146 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.dto.RentalResponse;
+import com.study.manca.repository.RentalRepository;
+import com.study.manca.support.StatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 대여 목록 조회 SQL 예산 테스트
+ * 실제 엔드포인트를 MockMvc 로 호출해 요청 하나(직렬화 포함)에 나간 SQL 문장 수를 세고,
+ * 정해 둔 예산을 넘으면 실패한다. 비교용으로 엔티티 목록 + LAZY 연관 접근(N+1) 경로의 문장 수도 출력한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCounter.Config.class)
+@DisplayName("대여 목록 조회 SQL 예산")
+class RentalListingQueryBudgetTest {
+
+    private static final String CODE_PREFIX = "BM-LIST-";
+    private static final String EMAIL_DOMAIN = "@bm-list.example.com";
+    private static final int MEMBERS = 3;
+    private static final int BOOKS = 30;
+
+    // 목록/단건 모두 대여 + 회원 + 도서를 한 번의 조인으로 읽는다
+    private static final long LISTING_BUDGET = 1;
+    private static final long DETAIL_BUDGET = 1;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Long> memberIds;
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < MEMBERS; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO members (name, email, phone, created_at, updated_at)
+                    VALUES (?, ?, '010-0000-0000', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                    """, "목록회원" + i, "m" + i + EMAIL_DOMAIN);
+        }
+        memberIds = jdbcTemplate.queryForList(
+                "SELECT id FROM members WHERE email LIKE ? ORDER BY id", Long.class, "%" + EMAIL_DOMAIN);
+        jdbcTemplate.update("""
+                INSERT INTO books (book_code, title, author, publisher, volume, genre, status, location,
+                                   created_at, updated_at)
+                SELECT ? || g, '목록' || g, '작가', '출판사', g, '액션',
+                       CASE WHEN g % 2 = 0 THEN 'AVAILABLE' ELSE 'RENTED' END, 'Z-05',
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                  FROM generate_series(1, ?) AS g
+                """, CODE_PREFIX, BOOKS);
+        // 도서마다 대여 한 건씩, 회원에게 돌아가며 배정 (짝수번 도서는 반납 완료)
+        jdbcTemplate.update("""
+                INSERT INTO rentals (member_id, book_id, rental_date_time, return_date_time, due_date_time, status,
+                                     created_at, updated_at)
+                SELECT m.id, b.id, CURRENT_TIMESTAMP - INTERVAL '3 days',
+                       CASE WHEN b.rn % 2 = 0 THEN CURRENT_TIMESTAMP END,
+                       CURRENT_TIMESTAMP + INTERVAL '4 days',
+                       CASE WHEN b.rn % 2 = 0 THEN 'RETURNED' ELSE 'ACTIVE' END,
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                  FROM (SELECT id, row_number() OVER (ORDER BY id) AS rn FROM books WHERE book_code LIKE ?) b
+                  JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 AS rn FROM members WHERE email LIKE ?) m
+                    ON b.rn % ? = m.rn
+                """, CODE_PREFIX + "%", "%" + EMAIL_DOMAIN, MEMBERS);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM rentals WHERE member_id IN (SELECT id FROM members WHERE email LIKE ?)",
+                "%" + EMAIL_DOMAIN);
+        jdbcTemplate.update("DELETE FROM books WHERE book_code LIKE ?", CODE_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM members WHERE email LIKE ?", "%" + EMAIL_DOMAIN);
+    }
+
+    @Test
+    @DisplayName("대여 목록/단건 조회는 대여 건수와 관계없이 SQL 예산 안에서 끝난다")
+    void listingsStayWithinBudget() throws Exception {
+        Long memberId = memberIds.get(0);
+        Long rentalId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM rentals WHERE member_id = ?", Long.class, memberId);
+
+        // N+1 비교: 엔티티 목록을 읽고 응답으로 바꾸면서 LAZY 회원/도서를 하나씩 불러온다
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        StatementCounter.reset();
+        int entities = tx.execute(status -> rentalRepository.findAll().stream().map(RentalResponse::from).toList())
+                .size();
+        System.out.printf("entity listing      : rentals=%d, statements=%d%n", entities, StatementCounter.count());
+
+        Long firstRentalId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM rentals WHERE member_id IN (SELECT id FROM members WHERE email LIKE ?)",
+                Long.class, "%" + EMAIL_DOMAIN);
+        measure("/api/rentals?lastId=" + (firstRentalId - 1) + "&size=" + BOOKS, LISTING_BUDGET)
+                .andExpect(jsonPath("$.content.length()").value(BOOKS))
+                .andExpect(jsonPath("$.content[?(@.bookCode == '" + CODE_PREFIX + "1')].memberName").value("목록회원1"));
+        measure("/api/rentals/member/" + memberId, LISTING_BUDGET)
+                .andExpect(jsonPath("$.length()").value(BOOKS / MEMBERS))
+                .andExpect(jsonPath("$[0].memberName").value("목록회원0"))
+                .andExpect(jsonPath("$[0].bookTitle").exists());
+        measure("/api/rentals/status/RETURNED", LISTING_BUDGET)
+                .andExpect(jsonPath("$[0].status").value("RETURNED"));
+        measure("/api/rentals/" + rentalId, DETAIL_BUDGET)
+                .andExpect(jsonPath("$.memberName").value("목록회원0"));
+    }
+
+    /**
+     * GET 요청 하나에 나간 SQL 문장 수를 출력하고 예산을 넘으면 실패한다.
+     */
+    private ResultActions measure(String uri, long budget) throws Exception {
+        StatementCounter.reset();
+        ResultActions result = mockMvc.perform(get(uri)).andExpect(status().isOk());
+        long statements = StatementCounter.count();
+        System.out.printf("GET %-28s: statements=%d (budget %d)%n", uri, statements, budget);
+        assertThat(statements).as("SQL statements for GET %s", uri).isLessThanOrEqualTo(budget);
+        return result;
+    }
+}
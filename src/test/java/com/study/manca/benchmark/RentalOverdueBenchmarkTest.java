@@ -0,0 +1,138 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.entity.Rental;
+import com.study.manca.repository.RentalRepository;
+import com.study.manca.service.RentalOverdueScheduler;
+import com.study.manca.support.StatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 연체 전환 경로 비교: 대여중 엔티티를 모두 읽어 isOverdue 로 거르기(기존 방식) vs 최소 힙 + 집합 UPDATE
+ * 연체 대상 찾기/전환에 나간 SQL 문장 수와 지연시간을 출력하고, 반납된 대여는 전환되지 않는지 확인한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "manca.rentals.overdue-sweep-interval=PT1H")
+@Import(StatementCounter.Config.class)
+@DisplayName("연체 전환 벤치마크")
+class RentalOverdueBenchmarkTest {
+
+    private static final String BOOK_CODE = "BM-OVERDUE-001";
+    private static final int RENTALS = 20_000;
+
+    @Autowired
+    private RentalOverdueScheduler rentalOverdueScheduler;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long memberId;
+
+    @BeforeEach
+    void seed() {
+        memberId = jdbcTemplate.queryForObject("""
+                INSERT INTO members (name, email, phone, created_at, updated_at)
+                VALUES ('벤치마크', 'bm-overdue@example.com', '010-0000-0000', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                RETURNING id
+                """, Long.class);
+        Long bookId = jdbcTemplate.queryForObject("""
+                INSERT INTO books (book_code, title, author, publisher, volume, genre, status, location,
+                                   created_at, updated_at)
+                VALUES (?, '연체', '작가', '출판사', 1, '액션', 'RENTED', 'Z-04', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                RETURNING id
+                """, Long.class, BOOK_CODE);
+        // 짝수번은 기한이 지났고 홀수번은 아직 남았다 (동일 도서를 반복 사용, FK 만 맞춘다)
+        jdbcTemplate.update("""
+                INSERT INTO rentals (member_id, book_id, rental_date_time, due_date_time, status, created_at, updated_at)
+                SELECT ?, ?, CURRENT_TIMESTAMP - INTERVAL '14 days',
+                       CASE WHEN g % 2 = 0 THEN CURRENT_TIMESTAMP - (g || ' minutes')::interval
+                            ELSE CURRENT_TIMESTAMP + (g || ' minutes')::interval END,
+                       'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                  FROM generate_series(1, ?) AS g
+                """, memberId, bookId, RENTALS);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM rentals WHERE member_id = ?", memberId);
+        jdbcTemplate.update("DELETE FROM books WHERE book_code = ?", BOOK_CODE);
+        jdbcTemplate.update("DELETE FROM members WHERE id = ?", memberId);
+    }
+
+    @Test
+    @DisplayName("힙 경로는 엔티티를 읽지 않고 기한이 지난 대여만 한 번에 OVERDUE 로 바꾼다")
+    void compareScanAndSweep() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        // 기존 방식: 모든 대여를 엔티티로 읽어 isOverdue 로 거른다
+        StatementCounter.reset();
+        long start = System.nanoTime();
+        Long scanned = tx.execute(status -> rentalRepository.findAll().stream()
+                .filter(rental -> rental.getMember().getId().equals(memberId))
+                .filter(Rental::isOverdue)
+                .count());
+        long scanNanos = System.nanoTime() - start;
+        long scanStatements = StatementCounter.count();
+
+        // 힙 경로: 기동 시 재구성 + 주기 전환
+        StatementCounter.reset();
+        start = System.nanoTime();
+        rentalOverdueScheduler.load();
+        long loadNanos = System.nanoTime() - start;
+        long loadStatements = StatementCounter.count();
+
+        // 적재 이후 반납된 대여는 힙에 남아 있어도 전환되지 않아야 한다
+        int returnedLate = jdbcTemplate.update("""
+                UPDATE rentals SET status = 'RETURNED', return_date_time = CURRENT_TIMESTAMP
+                 WHERE member_id = ? AND status = 'ACTIVE' AND due_date_time < CURRENT_TIMESTAMP
+                   AND id % 10 = 0
+                """, memberId);
+
+        StatementCounter.reset();
+        start = System.nanoTime();
+        rentalOverdueScheduler.sweep();
+        long sweepNanos = System.nanoTime() - start;
+        long sweepStatements = StatementCounter.count();
+
+        System.out.printf("entity scan: overdue=%d, statements=%d, %.1f ms%n", scanned, scanStatements, scanNanos / 1e6);
+        System.out.printf("heap load  : pending=%d, statements=%d, %.1f ms%n",
+                rentalOverdueScheduler.pendingCount(), loadStatements, loadNanos / 1e6);
+        System.out.printf("heap sweep : statements=%d, %.1f ms%n", sweepStatements, sweepNanos / 1e6);
+
+        long pastDue = RENTALS / 2;
+        assertThat(scanned).isEqualTo(pastDue);
+        assertThat(countRentals("OVERDUE")).isEqualTo(pastDue - returnedLate);
+        assertThat(countRentals("RETURNED")).isEqualTo(returnedLate);
+        assertThat(countRentals("ACTIVE")).isEqualTo(RENTALS - pastDue);
+        assertThat(loadStatements).isEqualTo(1);
+        // 1,000건씩 끊어 UPDATE (샘플 데이터의 연체분 한 번 여유)
+        assertThat(sweepStatements).isLessThanOrEqualTo(pastDue / 1_000 + 2);
+
+        // 이미 전환된 대여는 다시 다루지 않는다
+        assertThat(rentalOverdueScheduler.sweep()).isZero();
+    }
+
+    private long countRentals(String status) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM rentals WHERE member_id = ? AND status = ?", Long.class, memberId, status);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,222 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.dto.RentalBatchMode;
+import com.study.manca.dto.RentalBatchResponse;
+import com.study.manca.dto.RentalBatchReturnRequest;
+import com.study.manca.dto.RentalRequest;
+import com.study.manca.dto.ReservationRequest;
+import com.study.manca.dto.ReservationResponse;
+import com.study.manca.service.RentalBatchService;
+import com.study.manca.service.RentalService;
+import com.study.manca.service.ReservationQueue;
+import com.study.manca.service.ReservationService;
+import com.study.manca.support.StatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 도서 예약 대기열 벤치마크
+ * 도서마다 수백 건, 전체 수천 건의 예약이 걸린 상태에서 반납 한 건에 걸리는 시간과 SQL 문장 수를 출력하고
+ * (대기자가 없는 도서의 반납보다 보관 UPDATE 한 문장만 늘어야 함), 예약 순서대로 보관/대여/취소가 이어지는지 확인한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(StatementCounter.Config.class)
+@DisplayName("도서 예약 대기열 벤치마크")
+class ReservationBenchmarkTest {
+
+    private static final String CODE_PREFIX = "BM-RSV-";
+    private static final String EMAIL_PREFIX = "bm-reserve-";
+    private static final int BOOKS = 10;
+    private static final int MEMBERS = 500;  // 첫 회원이 대여, 나머지가 도서마다 예약
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private RentalBatchService rentalBatchService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationQueue reservationQueue;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> memberIds;
+    private List<Long> bookIds;
+    private List<Long> rentalIds;
+    private Long controlRentalId;  // 대기자가 없는 도서의 대여
+
+    @BeforeEach
+    void seed() {
+        memberIds = jdbcTemplate.queryForList("""
+                INSERT INTO members (name, email, phone, created_at, updated_at)
+                SELECT '예약' || g, ? || g || '@example.com', '010-0000-0000', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                  FROM generate_series(1, ?) g
+                RETURNING id
+                """, Long.class, EMAIL_PREFIX, MEMBERS).stream().sorted().toList();
+        Long renterId = memberIds.get(0);
+
+        bookIds = new ArrayList<>();
+        rentalIds = new ArrayList<>();
+        for (int i = 0; i <= BOOKS; i++) {
+            Long bookId = jdbcTemplate.queryForObject("""
+                    INSERT INTO books (book_code, title, author, publisher, volume, genre, status, location,
+                                       created_at, updated_at)
+                    VALUES (?, '예약', '작가', '출판사', ?, '액션', 'RENTED', 'Z-07', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                    RETURNING id
+                    """, Long.class, String.format("%s%03d", CODE_PREFIX, i + 1), i + 1);
+            Long rentalId = jdbcTemplate.queryForObject("""
+                    INSERT INTO rentals (member_id, book_id, rental_date_time, due_date_time, status,
+                                         created_at, updated_at)
+                    VALUES (?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP + INTERVAL '7 days', 'ACTIVE',
+                            CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                    RETURNING id
+                    """, Long.class, renterId, bookId);
+            if (i == BOOKS) {
+                controlRentalId = rentalId;
+                continue;
+            }
+            bookIds.add(bookId);
+            rentalIds.add(rentalId);
+            // 회원 ID 순서 = 예약 순서
+            jdbcTemplate.update("""
+                    INSERT INTO reservations (member_id, book_id, status, reserved_date_time, created_at, updated_at)
+                    SELECT m.id, ?, 'WAITING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                      FROM members m
+                     WHERE m.email LIKE ? AND m.id <> ?
+                     ORDER BY m.id
+                    """, bookId, EMAIL_PREFIX + "%", renterId);
+        }
+        reservationQueue.load();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM reservations WHERE member_id IN (SELECT id FROM members WHERE email LIKE ?)",
+                EMAIL_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM rentals WHERE member_id IN (SELECT id FROM members WHERE email LIKE ?)",
+                EMAIL_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM books WHERE book_code LIKE ?", CODE_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM members WHERE email LIKE ?", EMAIL_PREFIX + "%");
+        reservationQueue.load();
+    }
+
+    @Test
+    @DisplayName("반납 시 맨 앞 대기자에게 보관되고, 반납 SQL 수는 대기열 길이와 관계없다")
+    void returnHoldsForHeadOfQueue() {
+        StatementCounter.reset();
+        long start = System.nanoTime();
+        rentalService.returnBook(controlRentalId);
+        long controlNanos = System.nanoTime() - start;
+        long controlStatements = StatementCounter.count();
+
+        long holdNanos = 0;
+        long maxStatements = 0;
+        for (int i = 0; i < BOOKS; i++) {
+            StatementCounter.reset();
+            start = System.nanoTime();
+            rentalService.returnBook(rentalIds.get(i));
+            holdNanos += System.nanoTime() - start;
+            maxStatements = Math.max(maxStatements, StatementCounter.count());
+
+            List<ReservationResponse> reservations = reservationService.findByBookId(bookIds.get(i));
+            assertThat(bookStatus(bookIds.get(i))).isEqualTo("RESERVED");
+            assertThat(reservations).hasSize(MEMBERS - 1);
+            assertThat(reservations.get(0).getStatus()).isEqualTo("HELD");
+            assertThat(reservations.get(0).getMemberId()).isEqualTo(memberIds.get(1));
+            assertThat(reservations.get(1).getPosition()).isEqualTo(1);
+            assertThat(reservations.get(1).getMemberId()).isEqualTo(memberIds.get(2));
+        }
+
+        System.out.printf("reservations: outstanding=%d (%d per book)%n", BOOKS * (MEMBERS - 1), MEMBERS - 1);
+        System.out.printf("return without waiters: %.2f ms, statements=%d%n", controlNanos / 1e6, controlStatements);
+        System.out.printf("return with hold      : %.2f ms avg, statements<=%d%n",
+                holdNanos / 1e6 / BOOKS, maxStatements);
+        assertThat(maxStatements).isLessThanOrEqualTo(controlStatements + 1);
+        assertThat(bookStatus(bookIdOf(controlRentalId))).isEqualTo("AVAILABLE");
+    }
+
+    @Test
+    @DisplayName("일괄 반납도 반납 트랜잭션 안에서 맨 앞 대기자에게 보관한다")
+    void batchReturnHoldsForHeadOfQueue() {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i <= BOOKS; i++) {
+            codes.add(String.format("%s%03d", CODE_PREFIX, i + 1));
+        }
+        StatementCounter.reset();
+        RentalBatchResponse response = rentalBatchService.returnBooks(
+                new RentalBatchReturnRequest(codes, RentalBatchMode.ALL_OR_NOTHING));
+        long statements = StatementCounter.count();
+        System.out.printf("batch return x%d with holds: statements=%d%n", codes.size(), statements);
+
+        assertThat(response.getSucceeded()).isEqualTo(BOOKS + 1);
+        for (Long bookId : bookIds) {
+            assertThat(bookStatus(bookId)).isEqualTo("RESERVED");
+            List<ReservationResponse> reservations = reservationService.findByBookId(bookId);
+            assertThat(reservations.get(0).getStatus()).isEqualTo("HELD");
+            assertThat(reservations.get(0).getMemberId()).isEqualTo(memberIds.get(1));
+        }
+        assertThat(bookStatus(bookIdOf(controlRentalId))).isEqualTo("AVAILABLE");
+    }
+
+    @Test
+    @DisplayName("보관된 도서는 보관 대상 회원만 대여하고, 보관을 취소하면 다음 대기자에게 넘어간다")
+    void holdIsFulfilledOrPassedOn() {
+        Long bookId = bookIds.get(0);
+        rentalService.returnBook(rentalIds.get(0));
+        Long heldId = reservationService.findByBookId(bookId).get(0).getId();
+
+        // 두 번째 대기자는 아직 대여할 수 없다
+        assertThatThrownBy(() -> rentalService.create(new RentalRequest(memberIds.get(2), bookId, null, null)))
+                .isInstanceOf(IllegalStateException.class);
+
+        // 보관 취소 → 다음 대기자에게 보관 (도서는 RESERVED 그대로)
+        reservationService.cancel(heldId);
+        List<ReservationResponse> reservations = reservationService.findByBookId(bookId);
+        assertThat(reservations.get(0).getStatus()).isEqualTo("HELD");
+        assertThat(reservations.get(0).getMemberId()).isEqualTo(memberIds.get(2));
+        assertThat(bookStatus(bookId)).isEqualTo("RESERVED");
+
+        // 보관 대상 회원이 대여하면 예약은 대여완료, 다음 대기자가 맨 앞
+        rentalService.create(new RentalRequest(memberIds.get(2), bookId, null, null));
+        assertThat(bookStatus(bookId)).isEqualTo("RENTED");
+        reservations = reservationService.findByBookId(bookId);
+        assertThat(reservations.get(0).getStatus()).isEqualTo("WAITING");
+        assertThat(reservations.get(0).getMemberId()).isEqualTo(memberIds.get(3));
+        assertThat(reservations).hasSize(MEMBERS - 3);
+
+        // 같은 회원의 중복 예약은 거절, 시리즈 권(도서코드)으로도 예약할 수 있다
+        assertThatThrownBy(() -> reservationService.reserve(new ReservationRequest(memberIds.get(3), bookId, null)))
+                .isInstanceOf(IllegalStateException.class);
+        ReservationResponse reserved = reservationService.reserve(
+                new ReservationRequest(memberIds.get(0), null, CODE_PREFIX + "001"));
+        assertThat(reserved.getPosition()).isEqualTo(MEMBERS - 2);
+        assertThat(reservationService.findByBookId(bookId)).last()
+                .satisfies(last -> assertThat(last.getMemberId()).isEqualTo(memberIds.get(0)));
+    }
+
+    private String bookStatus(Long bookId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM books WHERE id = ?", String.class, bookId);
+    }
+
+    private Long bookIdOf(Long rentalId) {
+        return jdbcTemplate.queryForObject("SELECT book_id FROM rentals WHERE id = ?", Long.class, rentalId);
+    }
+}
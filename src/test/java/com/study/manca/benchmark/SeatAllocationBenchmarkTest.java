@@ -0,0 +1,112 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import com.study.manca.repository.SeatRepository;
+import com.study.manca.service.SeatAllocator;
+import com.study.manca.service.SeatRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 빈 좌석 자동 배정 경합 벤치마크
+ * 여러 창구가 같은 좌석타입/구역을 동시에 요청할 때 초당 배정 수를 출력한다.
+ * 이중 배정/빈 좌석 수의 정확성은 SeatAllocatorTest 에서 확인한다.
+ */
+@Tag("benchmark")
+@DisplayName("빈 좌석 자동 배정 벤치마크")
+class SeatAllocationBenchmarkTest {
+
+    private static final int ZONES = 4;
+    private static final int SEATS_PER_ZONE = 24;
+    private static final int THREADS = 16;
+    private static final int OPS_PER_THREAD = 100_000;
+
+    @Test
+    @DisplayName("동시 자동 배정 처리량")
+    void contendedAllocation() throws Exception {
+        List<SeatState> seats = new ArrayList<>();
+        long id = 1;
+        for (Seat.SeatType type : List.of(Seat.SeatType.REGULAR, Seat.SeatType.PREMIUM)) {
+            for (int z = 0; z < ZONES; z++) {
+                for (int s = 1; s <= SEATS_PER_ZONE; s++) {
+                    String zone = type.name().charAt(0) + String.valueOf(z);
+                    seats.add(new SeatState(id++, String.format("%s-%02d", zone, s), type, Seat.SeatStatus.AVAILABLE, null, null, null));
+                }
+            }
+        }
+        SeatRepository seatRepository = mock(SeatRepository.class);
+        given(seatRepository.findAllStates()).willReturn(seats);
+
+        AtomicReference<SeatAllocator> allocatorRef = new AtomicReference<>();
+        SeatRegistry registry = new SeatRegistry(seatRepository, event -> {
+            SeatAllocator allocator = allocatorRef.get();
+            if (allocator != null) {
+                allocator.onSeatChanged((SeatChangedEvent) event);
+            }
+        }, Clock.systemDefaultZone());
+        registry.load();
+        SeatAllocator allocator = new SeatAllocator(registry);
+        allocator.load();
+        allocatorRef.set(allocator);
+
+        AtomicLong allocated = new AtomicLong();
+        AtomicLong soldOut = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 1; t <= THREADS; t++) {
+            long memberId = t;
+            executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                List<SeatState> held = new ArrayList<>();
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    Seat.SeatType type = random.nextBoolean() ? Seat.SeatType.REGULAR : Seat.SeatType.PREMIUM;
+                    String zone = type.name().charAt(0) + String.valueOf(random.nextInt(ZONES));
+                    try {
+                        SeatState seat = allocator.allocate(type, List.of(zone), memberId);
+                        allocated.incrementAndGet();
+                        held.add(seat);
+                    } catch (IllegalStateException e) {
+                        soldOut.incrementAndGet();
+                    }
+                    // 몇 자리씩 잡고 있다가 놓아서 좌석이 자주 바닥나게 한다
+                    if (held.size() > 8 || (!held.isEmpty() && random.nextInt(3) == 0)) {
+                        SeatState seat = held.remove(random.nextInt(held.size()));
+                        registry.release(seat.seatNumber());
+                    }
+                }
+                for (SeatState seat : held) {
+                    registry.release(seat.seatNumber());
+                }
+                return null;
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        System.out.printf("seat allocation: threads=%d, seats=%d, allocated=%d, sold out=%d, %.0f allocations/sec%n",
+                THREADS, seats.size(), allocated.get(), soldOut.get(), allocated.get() / seconds);
+    }
+}
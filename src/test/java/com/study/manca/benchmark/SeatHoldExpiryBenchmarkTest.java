@@ -0,0 +1,96 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import com.study.manca.repository.SeatRepository;
+import com.study.manca.service.SeatHoldScheduler;
+import com.study.manca.service.SeatRegistry;
+import com.study.manca.support.MutableClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 좌석 예약 만료 벤치마크
+ * 수만 건의 예약을 걸어 두고 시계를 직접 흘려 보내면서 예약 등록 처리량과 만료 주기당 처리 시간을 출력한다.
+ * 만료 시점/입실·취소 처리의 정확성은 SeatHoldSchedulerTest, HierarchicalTimingWheelTest 에서 확인한다.
+ * DB 없이 레지스트리와 스케줄러만 대상으로 하므로 스프링 컨텍스트를 띄우지 않는다.
+ */
+@Tag("benchmark")
+@DisplayName("좌석 예약 만료 벤치마크")
+class SeatHoldExpiryBenchmarkTest {
+
+    private static final int SEATS = 50_000;
+    private static final int MAX_HOLD_MINUTES = 60;
+    private static final Duration STEP = Duration.ofSeconds(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T10:00:00.250Z"));
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("예약 등록 처리량과 만료 주기당 처리 시간")
+    void holdAndSweepThroughput() {
+        SeatRepository seatRepository = mock(SeatRepository.class);
+        given(seatRepository.findAllStates()).willReturn(IntStream.range(0, SEATS)
+                .mapToObj(i -> new SeatState((long) i, seatNumber(i), Seat.SeatType.REGULAR,
+                        Seat.SeatStatus.AVAILABLE, null, null, null))
+                .toList());
+
+        AtomicReference<SeatHoldScheduler> schedulerRef = new AtomicReference<>();
+        SeatRegistry registry = new SeatRegistry(seatRepository, event -> {
+            SeatHoldScheduler scheduler = schedulerRef.get();
+            if (scheduler != null) {
+                scheduler.onSeatChanged((SeatChangedEvent) event);
+            }
+        }, clock);
+        registry.load();
+        SeatHoldScheduler scheduler = new SeatHoldScheduler(registry, clock);
+        scheduler.load();
+        schedulerRef.set(scheduler);
+
+        // 좌석번호 문자열 생성은 측정에서 뺀다
+        String[] seatNumbers = IntStream.range(0, SEATS).mapToObj(SeatHoldExpiryBenchmarkTest::seatNumber)
+                .toArray(String[]::new);
+        long begin = System.nanoTime();
+        for (int i = 0; i < SEATS; i++) {
+            int minutes = 1 + random.nextInt(MAX_HOLD_MINUTES);
+            registry.hold(seatNumbers[i], (long) i, Duration.ofMinutes(minutes).plusSeconds(random.nextInt(60)));
+        }
+        double holdNanos = (System.nanoTime() - begin) / (double) SEATS;
+
+        // 10% 는 제시간에 입실, 10% 는 취소
+        for (int i = 0; i < SEATS; i += 10) {
+            registry.assign(seatNumbers[i], (long) i);
+            registry.release(seatNumbers[i + 1]);
+        }
+        int pending = scheduler.pendingCount();
+
+        int steps = (int) (Duration.ofMinutes(MAX_HOLD_MINUTES + 2).toMillis() / STEP.toMillis());
+        long[] sweepNanos = new long[steps];
+        for (int s = 0; s < steps; s++) {
+            clock.advance(STEP);
+            long start = System.nanoTime();
+            scheduler.expireDue();
+            sweepNanos[s] = System.nanoTime() - start;
+        }
+        Arrays.sort(sweepNanos);
+        System.out.printf("seat holds: holds=%d, %.0f ns/hold, expired=%d, sweep p50=%.1f us, p99=%.1f us, max=%.1f us%n",
+                SEATS, holdNanos, pending - scheduler.pendingCount(), sweepNanos[steps / 2] / 1e3,
+                sweepNanos[(int) (steps * 0.99)] / 1e3, sweepNanos[steps - 1] / 1e3);
+    }
+
+    private static String seatNumber(int i) {
+        return String.format("H-%05d", i);
+    }
+}
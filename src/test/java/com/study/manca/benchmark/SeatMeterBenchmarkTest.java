@@ -0,0 +1,121 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.config.SeatRateProperties;
+import com.study.manca.dto.SeatMeterResponse;
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import com.study.manca.repository.SeatRepository;
+import com.study.manca.service.SeatMeter;
+import com.study.manca.service.SeatRegistry;
+import com.study.manca.support.MutableClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 좌석 이용 미터기 벤치마크
+ * 가장 붐비는 시간대처럼 전 좌석이 사용중일 때 이용요금 조회 지연시간을 재고,
+ * 마감된 이용이 한 건씩이 아니라 묶음으로 저장되는지 확인한다.
+ * DB 없이 레지스트리와 미터기만 대상으로 하므로 스프링 컨텍스트를 띄우지 않는다.
+ */
+@Tag("benchmark")
+@DisplayName("좌석 이용 미터기 벤치마크")
+class SeatMeterBenchmarkTest {
+
+    private static final int SEATS = 200;
+    private static final int QUERIES = 100_000;
+    private static final int CHURN = 5_000;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T10:00:00Z"));
+
+    @Test
+    @DisplayName("이용요금 조회는 DB 없이 p99 100us 미만이고, 마감된 이용은 묶음으로 저장된다")
+    void meterLookupsAndBatchedSessions() {
+        SeatRepository seatRepository = mock(SeatRepository.class);
+        given(seatRepository.findAllStates()).willReturn(IntStream.range(0, SEATS)
+                .mapToObj(i -> new SeatState((long) i, seatNumber(i), Seat.SeatType.PREMIUM,
+                        Seat.SeatStatus.AVAILABLE, null, null, null))
+                .toList());
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        List<Integer> batches = new ArrayList<>();
+        doAnswer(invocation -> {
+            batches.add(((Collection<?>) invocation.getArgument(1)).size());
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+
+        AtomicReference<SeatMeter> meterRef = new AtomicReference<>();
+        SeatRegistry registry = new SeatRegistry(seatRepository,
+                event -> meterRef.get().onSeatChanged((SeatChangedEvent) event), clock);
+        registry.load();
+        SeatRateProperties rates = new SeatRateProperties(Map.of(
+                Seat.SeatType.REGULAR, BigDecimal.valueOf(2000),
+                Seat.SeatType.PREMIUM, BigDecimal.valueOf(3000),
+                Seat.SeatType.COUPLE, BigDecimal.valueOf(5000),
+                Seat.SeatType.ROOM, BigDecimal.valueOf(8000)));
+        SeatMeter meter = new SeatMeter(registry, rates, jdbcTemplate, clock);
+        meterRef.set(meter);
+
+        // 정답 확인: 프리미엄석(시간당 3000원) 90분 = 4500원
+        for (int i = 0; i < SEATS; i++) {
+            registry.assign(seatNumber(i), (long) i + 1);
+        }
+        clock.advance(Duration.ofMinutes(90));
+        SeatMeterResponse first = meter.current(seatNumber(0));
+        assertThat(first.getElapsedMinutes()).isEqualTo(90);
+        assertThat(first.getCharge()).isEqualByComparingTo("4500");
+        assertThat(meter.currentAll()).hasSize(SEATS);
+
+        for (int i = 0; i < QUERIES; i++) {
+            meter.current(seatNumber(i % SEATS));
+        }
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            meter.current(seatNumber(i % SEATS));
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        long p50 = nanos[QUERIES / 2];
+        long p99 = nanos[(int) (QUERIES * 0.99)];
+        System.out.printf("seat meter: seats=%d, queries=%d, p50=%.1f us, p99=%.1f us%n",
+                SEATS, QUERIES, p50 / 1e3, p99 / 1e3);
+
+        // 좌석 회전: 해제될 때마다 마감된 이용이 쌓이고, flush 한 번에 묶음으로 저장된다
+        for (int i = 0; i < CHURN; i++) {
+            String seatNumber = seatNumber(i % SEATS);
+            registry.release(seatNumber);
+            registry.assign(seatNumber, (long) i);
+        }
+        meter.flush();
+        System.out.printf("seat sessions: closed=%d, batches=%s%n", CHURN, batches);
+
+        assertThat(p99).isLessThan(100_000L);
+        assertThat(batches.stream().mapToInt(Integer::intValue).sum()).isEqualTo(CHURN);
+        assertThat(batches.size()).isLessThanOrEqualTo(CHURN / 100);
+    }
+
+    private static String seatNumber(int i) {
+        return String.format("P-%03d", i);
+    }
+}
@@ -0,0 +1,104 @@
+package com.study.manca.benchmark;
+
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatState;
+import com.study.manca.repository.SeatRepository;
+import com.study.manca.service.SeatRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 좌석 레지스트리 경합 벤치마크
+ * 적은 수의 좌석을 여러 스레드가 동시에 배정/해제하면서 초당 배정 수를 재고,
+ * 한 좌석이 동시에 두 회원에게 배정되는 일이 없는지 확인한다.
+ * DB 없이 레지스트리만 대상으로 하므로 스프링 컨텍스트를 띄우지 않는다.
+ */
+@Tag("benchmark")
+@DisplayName("좌석 레지스트리 경합 벤치마크")
+class SeatRegistryBenchmarkTest {
+
+    private static final int SEATS = 32;
+    private static final int THREADS = 16;
+    private static final int OPS_PER_THREAD = 200_000;
+
+    @Test
+    @DisplayName("동시 배정에서도 좌석당 사용자는 한 명이다")
+    void contendedAssignments() throws Exception {
+        SeatRepository seatRepository = mock(SeatRepository.class);
+        given(seatRepository.findAllStates()).willReturn(IntStream.range(0, SEATS)
+                .mapToObj(i -> new SeatState((long) i, seatNumber(i), Seat.SeatType.REGULAR,
+                        Seat.SeatStatus.AVAILABLE, null, null, null))
+                .toList());
+        AtomicLong events = new AtomicLong();
+        SeatRegistry registry = new SeatRegistry(seatRepository, event -> events.incrementAndGet(),
+                Clock.systemDefaultZone());
+        registry.load();
+
+        // 좌석별 현재 사용자 (배정 성공 직후 기록, 해제 직전 지움) - 겹치면 이중 배정
+        AtomicLongArray owners = new AtomicLongArray(SEATS);
+        AtomicInteger doubleAssigned = new AtomicInteger();
+        AtomicLong assigned = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 1; t <= THREADS; t++) {
+            long memberId = t;
+            executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    int seat = random.nextInt(SEATS);
+                    try {
+                        registry.assign(seatNumber(seat), memberId);
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                        continue;
+                    }
+                    assigned.incrementAndGet();
+                    if (!owners.compareAndSet(seat, 0, memberId)) {
+                        doubleAssigned.incrementAndGet();
+                    }
+                    owners.set(seat, 0);
+                    registry.release(seatNumber(seat));
+                }
+                return null;
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        System.out.printf("seat registry: threads=%d, seats=%d, assigned=%d, rejected=%d, %.0f assignments/sec, %.0f ops/sec%n",
+                THREADS, SEATS, assigned.get(), rejected.get(), assigned.get() / seconds,
+                (double) THREADS * OPS_PER_THREAD / seconds);
+
+        assertThat(doubleAssigned.get()).isZero();
+        assertThat(events.get()).isEqualTo(assigned.get() * 2);
+        List<SeatState> seats = registry.snapshot();
+        assertThat(seats).allMatch(seat -> seat.status() == Seat.SeatStatus.AVAILABLE && seat.memberId() == null);
+    }
+
+    private static String seatNumber(int index) {
+        return String.format("Z-%02d", index);
+    }
+}
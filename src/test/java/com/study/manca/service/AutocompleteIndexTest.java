@@ -0,0 +1,101 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.AutocompleteResponse;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.MemberChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 자동완성 인덱스 단위 테스트
+ * 입력 중인 음절/초성/단어 접두어로 찾는지, 같은 문자열 수 순으로 매기는지, 수정/삭제가 반영되는지 확인한다
+ * (조회 지연시간은 AutocompleteBenchmarkTest).
+ */
+@DisplayName("자동완성 인덱스")
+class AutocompleteIndexTest {
+
+    private final AutocompleteIndex index = new AutocompleteIndex(null, null);
+
+    @Test
+    @DisplayName("입력 중인 음절, 초성, 띄어쓰기 뒤 단어 접두어로 찾는다")
+    void matchesPartialSyllablesChoseongAndWords() {
+        book(1L, "원피스", "오다 에이이치로");
+
+        assertThat(texts("원핏", AutocompleteIndex.Field.TITLE)).containsExactly("원피스");
+        assertThat(texts("ㅇㅍㅅ", AutocompleteIndex.Field.TITLE)).containsExactly("원피스");
+        assertThat(texts("에이", AutocompleteIndex.Field.AUTHOR)).containsExactly("오다 에이이치로");
+        assertThat(texts("원피슷", AutocompleteIndex.Field.TITLE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 문자열을 가진 도서가 많은 순으로, 필드를 합쳐서도 같은 기준으로 매긴다")
+    void ranksByCount() {
+        for (long id = 1; id <= 3; id++) {
+            book(id, "원피스", "오다 에이이치로");
+        }
+        book(4L, "원펀맨", "원");
+        index.onMemberChanged(MemberChangedEvent.of(MemberChangedEvent.ChangeType.CREATED, 1L, "원영희"));
+        index.onMemberChanged(MemberChangedEvent.of(MemberChangedEvent.ChangeType.CREATED, 2L, "원영희"));
+
+        assertThat(index.suggest("원", null, 10))
+                .extracting(AutocompleteResponse::getField, AutocompleteResponse::getText, AutocompleteResponse::getCount)
+                .containsExactly(
+                        tuple("TITLE", "원피스", 3),
+                        tuple("MEMBER", "원영희", 2),
+                        tuple("AUTHOR", "원", 1),
+                        tuple("TITLE", "원펀맨", 1));
+        assertThat(index.suggest("원", null, 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("수정/삭제하면 이전 문자열은 빠지고, 도서 ID 가 없는 이벤트는 무시한다")
+    void appliesUpdatesAndDeletes() {
+        book(1L, "원피스", "오다 에이이치로");
+        book(2L, "원피스", "오다 에이이치로");
+
+        index.onBookChanged(BookChangedEvent.builder()
+                .type(BookChangedEvent.ChangeType.UPDATED).bookId(2L).title("원펀맨").author("ONE").build());
+        assertThat(index.suggest("원", AutocompleteIndex.Field.TITLE, 10))
+                .extracting(AutocompleteResponse::getText, AutocompleteResponse::getCount)
+                .containsExactly(tuple("원펀맨", 1), tuple("원피스", 1));
+
+        index.onBookChanged(BookChangedEvent.builder()
+                .type(BookChangedEvent.ChangeType.DELETED).bookId(1L).build());
+        assertThat(texts("원", AutocompleteIndex.Field.TITLE)).containsExactly("원펀맨");
+        assertThat(texts("ㅇㄷ", AutocompleteIndex.Field.AUTHOR)).isEmpty();
+
+        index.onBookChanged(BookChangedEvent.builder()
+                .type(BookChangedEvent.ChangeType.CREATED).title("드래곤볼").author("토리야마 아키라").build());
+        assertThat(texts("드래", AutocompleteIndex.Field.TITLE)).isEmpty();
+
+        index.onMemberChanged(MemberChangedEvent.of(MemberChangedEvent.ChangeType.CREATED, 1L, "김철수"));
+        index.onMemberChanged(MemberChangedEvent.of(MemberChangedEvent.ChangeType.UPDATED, 1L, "김영희"));
+        assertThat(texts("김", AutocompleteIndex.Field.MEMBER)).containsExactly("김영희");
+        index.onMemberChanged(MemberChangedEvent.of(MemberChangedEvent.ChangeType.DELETED, 1L, null));
+        assertThat(texts("김", AutocompleteIndex.Field.MEMBER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("후보 개수는 1~MAX_K 만 허용하고, 빈 질의는 빈 목록이다")
+    void validatesArguments() {
+        assertThatThrownBy(() -> index.suggest("원", null, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.suggest("원", null, SuggestionIndex.MAX_K + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(index.suggest("  ", null, 5)).isEmpty();
+    }
+
+    private void book(Long id, String title, String author) {
+        index.onBookChanged(BookChangedEvent.builder()
+                .type(BookChangedEvent.ChangeType.CREATED).bookId(id).title(title).author(author).build());
+    }
+
+    private List<String> texts(String query, AutocompleteIndex.Field field) {
+        return index.suggest(query, field, 10).stream().map(AutocompleteResponse::getText).toList();
+    }
+}
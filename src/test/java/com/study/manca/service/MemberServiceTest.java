@@ -0,0 +1,89 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.MemberRequest;
+import com.study.manca.entity.Member;
+import com.study.manca.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 회원 서비스 단위 테스트
+ * 이메일을 쓰는 요청의 이메일 유니크 인덱스 위반만 중복 이메일 오류로 바꾸고, 다른 제약 위반은 그대로 던지는지 확인한다.
+ */
+@DisplayName("회원 서비스")
+class MemberServiceTest {
+
+    private static final String EMAIL = "hong@example.com";
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final MemberService memberService = new MemberService(memberRepository, mock(MemberEmailFilter.class),
+            mock(ApplicationEventPublisher.class));
+
+    @Test
+    @DisplayName("등록 중 이메일 유니크 인덱스 위반은 중복 이메일 오류가 된다")
+    void duplicateEmailOnCreate() {
+        given(memberRepository.saveAndFlush(any(Member.class))).willThrow(emailDuplicate());
+
+        assertThatThrownBy(() -> memberService.create(new MemberRequest("홍길동", EMAIL, "010-1234-5678")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Email already exists: " + EMAIL);
+    }
+
+    @Test
+    @DisplayName("등록 중 다른 제약 위반(길이 초과, 다른 유니크 인덱스)은 그대로 던진다")
+    void otherViolationsOnCreate() {
+        DataIntegrityViolationException tooLong = valueTooLong();
+        given(memberRepository.saveAndFlush(any(Member.class))).willThrow(tooLong);
+        assertThatThrownBy(() -> memberService.create(new MemberRequest("홍".repeat(101), EMAIL, "010-1234-5678")))
+                .isSameAs(tooLong);
+
+        DuplicateKeyException otherKey = new DuplicateKeyException("insert",
+                new SQLException("ERROR: duplicate key value violates unique constraint \"members_pkey\"", "23505"));
+        given(memberRepository.saveAndFlush(any(Member.class))).willThrow(otherKey);
+        assertThatThrownBy(() -> memberService.create(new MemberRequest("홍길동", EMAIL, "010-1234-5678")))
+                .isSameAs(otherKey);
+    }
+
+    @Test
+    @DisplayName("수정 중 이메일 유니크 인덱스 위반만 중복 이메일 오류가 되고, 이메일이 없는 부분 수정의 위반은 그대로 던진다")
+    void violationsOnUpdate() {
+        given(memberRepository.updateReturning(1L, "홍길동", EMAIL, "010-1234-5678")).willThrow(emailDuplicate());
+        assertThatThrownBy(() -> memberService.update(1L, new MemberRequest("홍길동", EMAIL, "010-1234-5678")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Email already exists: " + EMAIL);
+
+        DataIntegrityViolationException tooLong = valueTooLong();
+        given(memberRepository.updateReturning(1L, "홍".repeat(101), EMAIL, null)).willThrow(tooLong);
+        assertThatThrownBy(() -> memberService.update(1L, new MemberRequest("홍".repeat(101), EMAIL, null)))
+                .isSameAs(tooLong);
+
+        given(memberRepository.patchReturning(1L, "홍".repeat(101), null, null)).willThrow(tooLong);
+        assertThatThrownBy(() -> memberService.updatePartial(1L, new MemberRequest("홍".repeat(101), null, null)))
+                .isSameAs(tooLong);
+
+        DuplicateKeyException duplicate = emailDuplicate();
+        given(memberRepository.patchReturning(1L, null, null, "010-0000-0000")).willThrow(duplicate);
+        assertThatThrownBy(() -> memberService.updatePartial(1L, new MemberRequest(null, null, "010-0000-0000")))
+                .isSameAs(duplicate);
+    }
+
+    private static DuplicateKeyException emailDuplicate() {
+        return new DuplicateKeyException("insert", new SQLException(
+                "ERROR: duplicate key value violates unique constraint \"uq_members_email_lower\"", "23505"));
+    }
+
+    private static DataIntegrityViolationException valueTooLong() {
+        return new DataIntegrityViolationException("insert",
+                new SQLException("ERROR: value too long for type character varying(100)", "22001"));
+    }
+}
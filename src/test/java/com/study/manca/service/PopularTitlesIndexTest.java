@@ -0,0 +1,142 @@
+package com.study.manca.service;
+
+import com.study.manca.dto.PopularTitleResponse;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.RentalChangedEvent;
+import com.study.manca.support.MutableClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 인기 시리즈 순위 단위 테스트
+ * 권이 다른 도서가 한 시리즈로 묶이는지, 7일이 지난 대여가 빠지는지,
+ * 편중된 대여를 흘려 보내는 동안 상위 K 대여 수가 최근 7일을 다시 센 값과 같은지 확인한다
+ * (처리 시간은 PopularTitlesBenchmarkTest).
+ */
+@DisplayName("인기 시리즈 순위")
+class PopularTitlesIndexTest {
+
+    private static final int SERIES = 200;
+    private static final int VOLUMES = 5;
+    private static final int RENTALS = 200_000;
+    private static final Duration SPAN = Duration.ofDays(14);
+    private static final int K = 10;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final Random random = new Random(42);
+    private final PopularTitlesIndex index = new PopularTitlesIndex(mock(JdbcTemplate.class), clock);
+
+    @Test
+    @DisplayName("권이 다른 도서는 한 시리즈로 세고, 7일이 지난 대여는 순위에서 빠진다")
+    void groupsVolumesAndDropsExpiredHours() {
+        register(1L, "MH-0001-001", "강철의 연금술사");
+        register(2L, "MH-0001-002", "강철의 연금술사");
+        register(3L, "MH-0002-001", "나루토");
+        rent(1L);
+        rent(2L);
+        rent(1L);
+        rent(3L);
+
+        assertThat(index.top(K))
+                .extracting(PopularTitleResponse::getRank, PopularTitleResponse::getSeries, PopularTitleResponse::getRentals)
+                .containsExactly(tuple(1, "0001", 3), tuple(2, "0002", 1));
+        assertThat(index.top(1)).hasSize(1);
+
+        clock.advance(Duration.ofDays(6));
+        index.rotate();
+        assertThat(index.top(K)).hasSize(2);
+
+        clock.advance(Duration.ofDays(1));
+        index.rotate();
+        assertThat(index.top(K)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회 개수는 1~MAX_LIMIT 만 허용한다")
+    void rejectsInvalidLimit() {
+        assertThatThrownBy(() -> index.top(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.top(PopularTitlesIndex.MAX_LIMIT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("상위 K 대여 수는 최근 7일 대여를 다시 센 값과 같다")
+    void rankingMatchesRecount() {
+        for (int series = 0; series < SERIES; series++) {
+            for (int volume = 1; volume <= VOLUMES; volume++) {
+                register(bookId(series, volume), String.format("MH-%04d-%03d", series, volume), "시리즈" + series);
+            }
+        }
+
+        // 시리즈 선택은 Zipf(1.1) 누적분포로
+        double[] cumulative = new double[SERIES];
+        double sum = 0;
+        for (int i = 0; i < SERIES; i++) {
+            sum += 1 / Math.pow(i + 1, 1.1);
+            cumulative[i] = sum;
+        }
+        Duration step = SPAN.dividedBy(RENTALS);
+        int[] picks = new int[RENTALS];
+        long[] hours = new long[RENTALS];
+        int checks = 0;
+        for (int i = 0; i < RENTALS; i++) {
+            int pos = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            picks[i] = pos >= 0 ? pos : -pos - 1;
+            clock.advance(step);
+            hours[i] = hourNow();
+            rent(bookId(picks[i], 1 + random.nextInt(VOLUMES)));
+
+            if (i % 10_000 == 9_999) {
+                assertThat(index.top(K)).extracting(PopularTitleResponse::getRentals)
+                        .containsExactly(recount(picks, hours, i));
+                checks++;
+            }
+        }
+        assertThat(checks).isEqualTo(RENTALS / 10_000);
+    }
+
+    // 최근 7일(현재 시간 버킷 포함 168개) 대여를 시리즈별로 다시 세어 상위 K 대여 수를 구한다
+    private Integer[] recount(int[] picks, long[] hours, int last) {
+        long from = hours[last] - PopularTitlesIndex.WINDOW_HOURS + 1;
+        int[] counts = new int[SERIES];
+        for (int i = last; i >= 0 && hours[i] >= from; i--) {
+            counts[picks[i]]++;
+        }
+        return Arrays.stream(counts).boxed().sorted((a, b) -> b - a).limit(K).toArray(Integer[]::new);
+    }
+
+    private void register(long bookId, String bookCode, String title) {
+        index.onBookChanged(BookChangedEvent.builder()
+                .type(BookChangedEvent.ChangeType.CREATED)
+                .bookId(bookId)
+                .bookCode(bookCode)
+                .title(title)
+                .build());
+    }
+
+    private void rent(long bookId) {
+        index.onRentalChanged(RentalChangedEvent.of(RentalChangedEvent.ChangeType.RENTED, bookId, 1L, bookId, null));
+    }
+
+    private long hourNow() {
+        return Math.floorDiv(LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC), 3600L);
+    }
+
+    private static long bookId(int series, int volume) {
+        return (long) series * VOLUMES + volume;
+    }
+}
@@ -0,0 +1,205 @@
+package com.study.manca.service;
+
+import com.study.manca.config.ReservationProperties;
+import com.study.manca.entity.Book;
+import com.study.manca.event.BookChangedEvent;
+import com.study.manca.event.ReservationChangedEvent;
+import com.study.manca.repository.BookChangeView;
+import com.study.manca.repository.BookRepository;
+import com.study.manca.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 예약 보관 만료 단위 테스트
+ * 시계를 직접 흘려 보내면서 보관이 기한 전에 만료되지 않는지, 만료되면 다음 대기자에게 넘어가거나 도서가 대여가능으로 돌아가는지,
+ * 보관 선반에 없는 도서에는 새 보관을 걸지 않는지 확인한다 (대기열이 길 때의 반납 비용은 ReservationBenchmarkTest).
+ * reservations/books 행은 SQL 별로 흉내 낸 메모리 상태로 대신한다.
+ */
+@DisplayName("예약 보관 만료")
+class ReservationHoldSchedulerTest {
+
+    private static final Long BOOK_ID = 1L;
+    private static final Duration HOLD_FOR = Duration.ofDays(2);
+    private static final Duration TICK = Duration.ofSeconds(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T10:00:00Z"));
+
+    // 예약 ID → 상태/회원/보관 기한, 도서 상태
+    private final Map<Long, String> statuses = new HashMap<>();
+    private final Map<Long, Long> members = new HashMap<>();
+    private final Map<Long, LocalDateTime> heldUntil = new HashMap<>();
+    private String bookStatus = Book.BookStatus.RENTED.name();
+    private final List<Book.BookStatus> publishedBookStatuses = new ArrayList<>();
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class, this::execute);
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final ReservationQueue queue = new ReservationQueue(jdbcTemplate);
+    private final ReservationService reservationService = new ReservationService(jdbcTemplate, null, bookRepository,
+            queue, new ReservationProperties(HOLD_FOR), this::publish, clock);
+    private final ReservationHoldScheduler scheduler =
+            new ReservationHoldScheduler(jdbcTemplate, queue, reservationService, clock);
+
+    @BeforeEach
+    void setUp() {
+        given(bookRepository.compareAndSetStatus(anyLong(), anyString(), anyString())).willAnswer(invocation -> {
+            if (!bookStatus.equals(invocation.getArgument(1))) {
+                return Optional.empty();
+            }
+            String to = invocation.getArgument(2);
+            bookStatus = to;
+            return Optional.of(mock(BookChangeView.class, view -> switch (view.getMethod().getName()) {
+                case "getId" -> BOOK_ID;
+                case "getStatus" -> to;
+                case "getCondition" -> Book.BookCondition.GOOD.name();
+                default -> null;
+            }));
+        });
+
+        // 대여중인 도서에 세 명이 예약
+        for (long id = 11; id <= 13; id++) {
+            statuses.put(id, "WAITING");
+            members.put(id, id + 90);
+            scheduler.onReservationChanged(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.WAITING,
+                    id, id + 90, BOOK_ID, null));
+        }
+
+        // 상태 변경으로 대여가능이 된 도서를 맨 앞 대기자에게 보관
+        bookStatus = Book.BookStatus.AVAILABLE.name();
+        scheduler.onBookChanged(BookChangedEvent.builder()
+                .type(BookChangedEvent.ChangeType.UPDATED).bookId(BOOK_ID).status(Book.BookStatus.AVAILABLE).build());
+        assertThat(bookStatus).isEqualTo("RESERVED");
+        assertThat(statuses.get(11L)).isEqualTo("HELD");
+        assertThat(scheduler.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관은 기한이 지나야 만료되고, 다음 대기자에게 차례로 넘어가다가 대기자가 없으면 대여가능으로 돌아간다")
+    void expiredHoldPassesToNextWaiter() {
+        clock.advance(HOLD_FOR);
+        assertThat(scheduler.expireDue()).isZero();
+        assertThat(statuses.get(11L)).isEqualTo("HELD");
+
+        clock.advance(TICK);
+        assertThat(scheduler.expireDue()).isEqualTo(1);
+        assertThat(statuses).containsEntry(11L, "EXPIRED").containsEntry(12L, "HELD").containsEntry(13L, "WAITING");
+        assertThat(bookStatus).isEqualTo("RESERVED");
+        assertThat(heldUntil.get(12L)).isEqualTo(LocalDateTime.now(clock).plus(HOLD_FOR));
+        assertThat(queue.snapshot(BOOK_ID)).extracting(ReservationQueue.Entry::reservationId).containsExactly(12L, 13L);
+        assertThat(scheduler.pendingCount()).isEqualTo(1);
+
+        clock.advance(HOLD_FOR.plus(TICK));
+        assertThat(scheduler.expireDue()).isEqualTo(1);
+        assertThat(statuses).containsEntry(12L, "EXPIRED").containsEntry(13L, "HELD");
+
+        clock.advance(HOLD_FOR.plus(TICK));
+        assertThat(scheduler.expireDue()).isEqualTo(1);
+        assertThat(statuses).containsEntry(13L, "EXPIRED");
+        assertThat(bookStatus).isEqualTo("AVAILABLE");
+        assertThat(publishedBookStatuses).containsExactly(Book.BookStatus.RESERVED, Book.BookStatus.AVAILABLE);
+        assertThat(queue.snapshot(BOOK_ID)).isEmpty();
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("그 사이 취소된 대기자는 건너뛰고 다음 대기자에게 보관한다")
+    void skipsCancelledWaiter() {
+        // 취소는 커밋됐지만 대기열에는 아직 반영되기 전
+        statuses.put(12L, "CANCELLED");
+
+        clock.advance(HOLD_FOR.plus(TICK));
+        assertThat(scheduler.expireDue()).isEqualTo(1);
+        assertThat(statuses).containsEntry(11L, "EXPIRED").containsEntry(12L, "CANCELLED").containsEntry(13L, "HELD");
+        assertThat(queue.snapshot(BOOK_ID)).extracting(ReservationQueue.Entry::reservationId).containsExactly(13L);
+    }
+
+    @Test
+    @DisplayName("기한 안에 대여된 보관은 만료하지 않는다")
+    void fulfilledHoldIsNotExpired() {
+        statuses.put(11L, "FULFILLED");
+        bookStatus = Book.BookStatus.RENTED.name();
+        scheduler.onReservationChanged(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.FULFILLED,
+                11L, 101L, BOOK_ID, null));
+
+        clock.advance(HOLD_FOR.plus(TICK));
+        assertThat(scheduler.expireDue()).isZero();
+        assertThat(statuses).containsEntry(11L, "FULFILLED").containsEntry(12L, "WAITING");
+        assertThat(bookStatus).isEqualTo("RENTED");
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 선반에 없는 도서면 보관만 닫고 다음 대기자에게 넘기지 않는다")
+    void holdOnBookOffShelfIsOnlyClosed() {
+        bookStatus = Book.BookStatus.DAMAGED.name();
+
+        clock.advance(HOLD_FOR.plus(TICK));
+        assertThat(scheduler.expireDue()).isEqualTo(1);
+        assertThat(statuses).containsEntry(11L, "EXPIRED").containsEntry(12L, "WAITING").containsEntry(13L, "WAITING");
+        assertThat(statuses).doesNotContainValue("HELD");
+        assertThat(bookStatus).isEqualTo("DAMAGED");
+        assertThat(queue.waitingCount(BOOK_ID)).isEqualTo(2);
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    // 커밋 이후 리스너 대신 바로 전달
+    private void publish(Object event) {
+        if (event instanceof ReservationChangedEvent reservationChanged) {
+            scheduler.onReservationChanged(reservationChanged);
+        } else if (event instanceof BookChangedEvent bookChanged) {
+            publishedBookStatuses.add(bookChanged.getStatus());
+            scheduler.onBookChanged(bookChanged);
+        }
+    }
+
+    // ReservationService 가 쓰는 SQL 만 흉내 낸다
+    private Object execute(InvocationOnMock invocation) throws Exception {
+        Object[] args = invocation.getArguments();
+        String sql = (String) args[0];
+        if (sql.contains("SET status = 'HELD'")) {
+            long id = (Long) args[3];
+            if (!"WAITING".equals(statuses.get(id))) {
+                return 0;
+            }
+            statuses.put(id, "HELD");
+            heldUntil.put(id, ((Timestamp) args[1]).toLocalDateTime());
+            return 1;
+        }
+        if (sql.contains("SET status = 'EXPIRED'")) {
+            long id = (Long) args[3];
+            LocalDateTime now = ((Timestamp) args[2]).toLocalDateTime();
+            if (!"HELD".equals(statuses.get(id)) || !heldUntil.get(id).isBefore(now)) {
+                return List.of();
+            }
+            statuses.put(id, "EXPIRED");
+            ResultSet rs = mock(ResultSet.class, column ->
+                    "member_id".equals(column.getArgument(0)) ? members.get(id) : BOOK_ID);
+            return List.of(((RowMapper<?>) args[1]).mapRow(rs, 0));
+        }
+        if (sql.contains("FROM books") && sql.contains("FOR UPDATE")) {
+            return List.of(bookStatus);
+        }
+        throw new AssertionError("Unexpected SQL: " + sql);
+    }
+}
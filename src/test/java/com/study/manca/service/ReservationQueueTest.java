@@ -0,0 +1,73 @@
+package com.study.manca.service;
+
+import com.study.manca.event.ReservationChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 도서별 예약 대기열 단위 테스트
+ * 대기 순서, 보관/보관 해제, 중간 취소와 discard 가 반영되는지 확인한다 (대기열이 길 때의 반납 비용은 ReservationBenchmarkTest).
+ */
+@DisplayName("도서 예약 대기열")
+class ReservationQueueTest {
+
+    private static final Long BOOK_ID = 1L;
+    private static final LocalDateTime HELD_UNTIL = LocalDateTime.of(2026, 1, 3, 10, 0);
+
+    private final ReservationQueue queue = new ReservationQueue(null);
+
+    @Test
+    @DisplayName("예약 순서대로 맨 앞이 다음 대기자이고, 보관하면 대기열에서 빠져 현황 맨 앞에 온다")
+    void holdsHeadInOrder() {
+        waiting(11L, 101L);
+        waiting(12L, 102L);
+        waiting(13L, 103L);
+        assertThat(queue.peek(BOOK_ID).orElseThrow().reservationId()).isEqualTo(11L);
+        assertThat(queue.waitingCount(BOOK_ID)).isEqualTo(3);
+
+        queue.apply(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.HELD, 11L, 101L, BOOK_ID, HELD_UNTIL));
+        assertThat(queue.peek(BOOK_ID).orElseThrow().reservationId()).isEqualTo(12L);
+        assertThat(queue.waitingCount(BOOK_ID)).isEqualTo(2);
+        assertThat(queue.snapshot(BOOK_ID))
+                .extracting(ReservationQueue.Entry::reservationId, ReservationQueue.Entry::heldUntil)
+                .containsExactly(
+                        tuple(11L, HELD_UNTIL),
+                        tuple(12L, null),
+                        tuple(13L, null));
+    }
+
+    @Test
+    @DisplayName("보관 만료/대여/취소는 보관만 풀고, 대기 중 취소는 순서를 유지한 채 그 예약만 뺀다")
+    void releasesHeldAndCancelledWaiters() {
+        waiting(11L, 101L);
+        waiting(12L, 102L);
+        waiting(13L, 103L);
+        waiting(14L, 104L);
+        queue.apply(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.HELD, 11L, 101L, BOOK_ID, HELD_UNTIL));
+
+        queue.apply(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.CANCELLED, 13L, 103L, BOOK_ID, null));
+        queue.apply(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.EXPIRED, 11L, 101L, BOOK_ID, null));
+        assertThat(queue.snapshot(BOOK_ID)).extracting(ReservationQueue.Entry::reservationId).containsExactly(12L, 14L);
+
+        // DB 에서 이미 대기 상태가 아닌 맨 앞 예약
+        queue.discard(BOOK_ID, 12L);
+        assertThat(queue.peek(BOOK_ID).orElseThrow().reservationId()).isEqualTo(14L);
+
+        queue.apply(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.HELD, 14L, 104L, BOOK_ID, HELD_UNTIL));
+        assertThat(queue.hasWaiting(BOOK_ID)).isFalse();
+        queue.apply(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.FULFILLED, 14L, 104L, BOOK_ID, null));
+        assertThat(queue.snapshot(BOOK_ID)).isEmpty();
+        assertThat(queue.peek(BOOK_ID)).isEmpty();
+        assertThat(queue.waitingCount(BOOK_ID)).isZero();
+    }
+
+    private void waiting(Long reservationId, Long memberId) {
+        queue.apply(ReservationChangedEvent.of(ReservationChangedEvent.ChangeType.WAITING, reservationId, memberId,
+                BOOK_ID, null));
+    }
+}
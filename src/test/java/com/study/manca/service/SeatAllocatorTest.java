@@ -0,0 +1,168 @@
+package com.study.manca.service;
+
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import com.study.manca.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 빈 좌석 자동 배정 단위 테스트
+ * 원하는 구역/번호 순서대로 배정되는지, 동시에 배정해도 한 좌석이 두 창구에 배정되지 않고 빈 좌석 수가 맞는지 확인한다
+ * (처리량은 SeatAllocationBenchmarkTest).
+ */
+@DisplayName("빈 좌석 자동 배정")
+class SeatAllocatorTest {
+
+    private static final int ZONES = 4;
+    private static final int SEATS_PER_ZONE = 70;  // 구역 비트셋이 두 워드에 걸치도록
+    private static final int SEATS_PER_TYPE = ZONES * SEATS_PER_ZONE;
+
+    private SeatRegistry registry;
+    private SeatAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        List<SeatState> seats = new ArrayList<>();
+        long id = 1;
+        for (Seat.SeatType type : List.of(Seat.SeatType.REGULAR, Seat.SeatType.PREMIUM)) {
+            for (int z = 0; z < ZONES; z++) {
+                for (int s = 1; s <= SEATS_PER_ZONE; s++) {
+                    seats.add(new SeatState(id++, String.format("%s-%02d", zone(type, z), s), type,
+                            Seat.SeatStatus.AVAILABLE, null, null, null));
+                }
+            }
+        }
+        SeatRepository seatRepository = mock(SeatRepository.class);
+        given(seatRepository.findAllStates()).willReturn(seats);
+
+        AtomicReference<SeatAllocator> allocatorRef = new AtomicReference<>();
+        registry = new SeatRegistry(seatRepository, event -> {
+            SeatAllocator current = allocatorRef.get();
+            if (current != null) {
+                current.onSeatChanged((SeatChangedEvent) event);
+            }
+        }, Clock.systemDefaultZone());
+        registry.load();
+        allocator = new SeatAllocator(registry);
+        allocator.load();
+        allocatorRef.set(allocator);
+    }
+
+    @Test
+    @DisplayName("원하는 구역에서 번호가 가장 앞선 빈 좌석부터, 다 차면 나머지 구역 순으로 배정한다")
+    void allocatesPreferredZoneInSeatOrder() {
+        String preferred = zone(Seat.SeatType.PREMIUM, 2);
+        registry.assign(preferred + "-01", 99L);
+
+        assertThat(allocator.allocate(Seat.SeatType.PREMIUM, List.of(preferred), 1L).seatNumber())
+                .isEqualTo(preferred + "-02");
+        for (int s = 3; s <= SEATS_PER_ZONE; s++) {
+            allocator.allocate(Seat.SeatType.PREMIUM, List.of(preferred), 1L);
+        }
+        // 원하는 구역이 다 차면 나머지 구역 중 앞선 구역부터
+        assertThat(allocator.allocate(Seat.SeatType.PREMIUM, List.of(preferred), 1L).seatNumber())
+                .isEqualTo(zone(Seat.SeatType.PREMIUM, 0) + "-01");
+
+        // 해제된 좌석은 다시 맨 앞 후보가 된다 (두 번째 워드의 비트 포함)
+        registry.release(preferred + "-66");
+        registry.release(preferred + "-05");
+        assertThat(allocator.allocate(Seat.SeatType.PREMIUM, List.of(preferred), 1L).seatNumber())
+                .isEqualTo(preferred + "-05");
+        assertThat(allocator.allocate(Seat.SeatType.PREMIUM, List.of(preferred), 1L).seatNumber())
+                .isEqualTo(preferred + "-66");
+
+        assertThat(allocator.freeCount(Seat.SeatType.PREMIUM)).isEqualTo(SEATS_PER_TYPE - SEATS_PER_ZONE - 1);
+        assertThat(allocator.freeCount(Seat.SeatType.REGULAR)).isEqualTo(SEATS_PER_TYPE);
+    }
+
+    @Test
+    @DisplayName("빈 좌석이 없으면 배정을 거절한다")
+    void rejectsWhenSoldOut() {
+        for (int i = 0; i < SEATS_PER_TYPE; i++) {
+            allocator.allocate(Seat.SeatType.REGULAR, List.of(), 1L);
+        }
+        assertThat(allocator.freeCount(Seat.SeatType.REGULAR)).isZero();
+        assertThatThrownBy(() -> allocator.allocate(Seat.SeatType.REGULAR, List.of(), 2L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> allocator.allocate(Seat.SeatType.ROOM, List.of(), 2L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("동시 자동 배정에서 이중 배정이 없고, 모두 해제한 뒤 빈 좌석 수가 정확하다")
+    void concurrentAllocationNeverDoubleAssigns() throws Exception {
+        int threads = 8;
+        int opsPerThread = 5_000;
+        Map<String, Long> owners = new ConcurrentHashMap<>();
+        AtomicInteger doubleAssigned = new AtomicInteger();
+        AtomicInteger allocated = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 1; t <= threads; t++) {
+            long memberId = t;
+            executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                List<SeatState> held = new ArrayList<>();
+                for (int i = 0; i < opsPerThread; i++) {
+                    Seat.SeatType type = random.nextBoolean() ? Seat.SeatType.REGULAR : Seat.SeatType.PREMIUM;
+                    try {
+                        SeatState seat = allocator.allocate(type, List.of(zone(type, random.nextInt(ZONES))), memberId);
+                        allocated.incrementAndGet();
+                        if (owners.putIfAbsent(seat.seatNumber(), memberId) != null) {
+                            doubleAssigned.incrementAndGet();
+                        }
+                        held.add(seat);
+                    } catch (IllegalStateException e) {
+                        // 좌석이 바닥난 경우
+                    }
+                    // 좌석이 자주 바닥나도록 여러 자리를 잡고 있다가 놓는다
+                    if (held.size() > 80 || (!held.isEmpty() && random.nextInt(3) == 0)) {
+                        SeatState seat = held.remove(random.nextInt(held.size()));
+                        owners.remove(seat.seatNumber());
+                        registry.release(seat.seatNumber());
+                    }
+                }
+                for (SeatState seat : held) {
+                    owners.remove(seat.seatNumber());
+                    registry.release(seat.seatNumber());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(allocated.get()).isPositive();
+        assertThat(doubleAssigned.get()).isZero();
+        assertThat(allocator.freeCount(Seat.SeatType.REGULAR)).isEqualTo(SEATS_PER_TYPE);
+        assertThat(allocator.freeCount(Seat.SeatType.PREMIUM)).isEqualTo(SEATS_PER_TYPE);
+    }
+
+    private static String zone(Seat.SeatType type, int z) {
+        return type.name().charAt(0) + String.valueOf(z);
+    }
+}
@@ -0,0 +1,124 @@
+package com.study.manca.service;
+
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import com.study.manca.repository.SeatRepository;
+import com.study.manca.support.MutableClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 좌석 예약 만료 단위 테스트
+ * 시계를 직접 흘려 보내면서 만료가 마감 전에 일어나지 않고 한 틱 안에 일어나는지,
+ * 입실/취소된 예약은 만료되지 않는지 확인한다 (처리량은 SeatHoldExpiryBenchmarkTest).
+ */
+@DisplayName("좌석 예약 만료")
+class SeatHoldSchedulerTest {
+
+    private static final int SEATS = 2_000;
+    private static final int MAX_HOLD_MINUTES = 60;
+    private static final Duration STEP = Duration.ofSeconds(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T10:00:00.250Z"));
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("예약은 마감 후 한 틱 안에 release 경로로 해제되고, 입실/취소된 예약은 건드리지 않는다")
+    void holdsExpireOnTime() {
+        SeatRepository seatRepository = mock(SeatRepository.class);
+        given(seatRepository.findAllStates()).willReturn(IntStream.range(0, SEATS)
+                .mapToObj(i -> new SeatState((long) i, seatNumber(i), Seat.SeatType.REGULAR,
+                        Seat.SeatStatus.AVAILABLE, null, null, null))
+                .toList());
+
+        // 예약이 해제될 때 마감 전이었는지 기록
+        AtomicInteger expiredEarly = new AtomicInteger();
+        AtomicInteger expired = new AtomicInteger();
+        Set<String> settled = new HashSet<>();
+        AtomicReference<SeatHoldScheduler> schedulerRef = new AtomicReference<>();
+        SeatRegistry registry = new SeatRegistry(seatRepository, event -> {
+            SeatChangedEvent change = (SeatChangedEvent) event;
+            SeatHoldScheduler scheduler = schedulerRef.get();
+            if (scheduler != null) {
+                scheduler.onSeatChanged(change);
+            }
+            SeatState previous = change.getPrevious();
+            if (previous.status() == Seat.SeatStatus.HELD
+                    && change.getCurrent().status() == Seat.SeatStatus.AVAILABLE
+                    && !settled.contains(previous.seatNumber())) {
+                expired.incrementAndGet();
+                if (previous.holdExpiresAt().isAfter(change.getCurrent().since())) {
+                    expiredEarly.incrementAndGet();
+                }
+            }
+        }, clock);
+        registry.load();
+        SeatHoldScheduler scheduler = new SeatHoldScheduler(registry, clock);
+        scheduler.load();
+        schedulerRef.set(scheduler);
+
+        for (int i = 0; i < SEATS; i++) {
+            int minutes = 1 + random.nextInt(MAX_HOLD_MINUTES);
+            registry.hold(seatNumber(i), (long) i, Duration.ofMinutes(minutes).plusSeconds(random.nextInt(60)));
+        }
+        assertThat(scheduler.pendingCount()).isEqualTo(SEATS);
+
+        // 10% 는 제시간에 입실, 10% 는 취소
+        int arrived = 0;
+        for (int i = 0; i < SEATS; i += 10) {
+            settled.add(seatNumber(i));
+            settled.add(seatNumber(i + 1));
+            registry.assign(seatNumber(i), (long) i);
+            registry.release(seatNumber(i + 1));
+            arrived++;
+        }
+        assertThat(scheduler.pendingCount()).isEqualTo(SEATS - 2 * arrived);
+
+        int steps = (int) (Duration.ofMinutes(MAX_HOLD_MINUTES + 2).toMillis() / STEP.toMillis());
+        int overdue = 0;
+        for (int s = 0; s < steps; s++) {
+            clock.advance(STEP);
+            scheduler.expireDue();
+
+            // 한 틱(1초) 넘게 마감을 지난 예약이 남아 있으면 안 된다
+            LocalDateTime limit = LocalDateTime.now(clock).minus(STEP);
+            for (SeatState state : registry.snapshot()) {
+                if (state.status() == Seat.SeatStatus.HELD && state.holdExpiresAt().isBefore(limit)) {
+                    overdue++;
+                }
+            }
+        }
+
+        long occupied = registry.snapshot().stream()
+                .filter(state -> state.status() == Seat.SeatStatus.OCCUPIED)
+                .count();
+        long held = registry.snapshot().stream()
+                .filter(state -> state.status() == Seat.SeatStatus.HELD)
+                .count();
+        assertThat(expiredEarly.get()).isZero();
+        assertThat(overdue).isZero();
+        assertThat(expired.get()).isEqualTo(SEATS - 2 * arrived);
+        assertThat(occupied).isEqualTo(arrived);
+        assertThat(held).isZero();
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    private static String seatNumber(int i) {
+        return String.format("H-%04d", i);
+    }
+}
@@ -0,0 +1,117 @@
+package com.study.manca.service;
+
+import com.study.manca.config.SeatRateProperties;
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 좌석 이용 미터기 단위 테스트
+ * 묶음 INSERT 가 실패하면 한 건씩 다시 넣어, 제약을 어기는 이용만 빼고 나머지는 저장되는지 확인한다.
+ */
+@DisplayName("좌석 이용 미터기")
+class SeatMeterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SeatRateProperties rates = new SeatRateProperties(Map.of(
+            Seat.SeatType.REGULAR, BigDecimal.valueOf(2000),
+            Seat.SeatType.PREMIUM, BigDecimal.valueOf(3000),
+            Seat.SeatType.COUPLE, BigDecimal.valueOf(5000),
+            Seat.SeatType.ROOM, BigDecimal.valueOf(8000)));
+    private final SeatMeter meter = new SeatMeter(mock(SeatRegistry.class), rates, jdbcTemplate,
+            Clock.systemDefaultZone());
+
+    private final List<Long> inserted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 회원 1~3 의 이용 마감
+        for (long memberId = 1; memberId <= 3; memberId++) {
+            SeatState occupied = new SeatState(memberId, "A-" + memberId, Seat.SeatType.REGULAR,
+                    Seat.SeatStatus.OCCUPIED, memberId, START, null);
+            meter.onSeatChanged(SeatChangedEvent.of(occupied, occupied.release(START.plusHours(1))));
+        }
+        given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new DataIntegrityViolationException("batch"));
+    }
+
+    @Test
+    @DisplayName("제약을 어기는 이용만 빼고 나머지는 한 건씩 저장하며, 뺀 이용은 다시 넣지 않는다")
+    void skipsOnlyInvalidSession() {
+        given(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).willAnswer(invocation -> {
+            long memberId = boundMemberId(invocation.getArgument(1));
+            if (memberId == 2L) {
+                throw new DataIntegrityViolationException("member " + memberId);
+            }
+            inserted.add(memberId);
+            return 1;
+        });
+
+        meter.flush();
+        assertThat(inserted).containsExactly(1L, 3L);
+
+        inserted.clear();
+        meter.flush();
+        assertThat(inserted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일시적인 실패는 남은 이용을 큐에 되돌려 다음 주기에 저장한다")
+    void retriesTransientFailure() {
+        boolean[] down = {true};
+        given(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).willAnswer(invocation -> {
+            if (down[0]) {
+                throw new TransientDataAccessResourceException("connection");
+            }
+            inserted.add(boundMemberId(invocation.getArgument(1)));
+            return 1;
+        });
+
+        meter.flush();
+        assertThat(inserted).isEmpty();
+
+        down[0] = false;
+        meter.flush();
+        assertThat(inserted).containsExactly(1L, 2L, 3L);
+    }
+
+    private static long boundMemberId(PreparedStatementSetter setter) throws SQLException {
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.setValues(ps);
+        ArgumentCaptor<Object> memberId = ArgumentCaptor.forClass(Object.class);
+        verify(ps).setObject(eq(2), memberId.capture(), eq(Types.BIGINT));
+        return (Long) memberId.getValue();
+    }
+}
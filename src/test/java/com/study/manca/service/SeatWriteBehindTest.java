@@ -0,0 +1,107 @@
+package com.study.manca.service;
+
+import com.study.manca.entity.Seat;
+import com.study.manca.event.SeatChangedEvent;
+import com.study.manca.event.SeatState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 좌석 지연 쓰기 단위 테스트
+ * 배치가 실패하면 한 건씩 다시 써서, 제약 위반 행만 빼고 나머지는 반영되는지 확인한다.
+ */
+@DisplayName("좌석 지연 쓰기")
+class SeatWriteBehindTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final SeatRegistry seatRegistry = mock(SeatRegistry.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SeatWriteBehind writeBehind = new SeatWriteBehind(seatRegistry, jdbcTemplate);
+
+    private final List<Long> written = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 3; id++) {
+            SeatState state = new SeatState(id, "A-" + id, Seat.SeatType.REGULAR, Seat.SeatStatus.AVAILABLE,
+                    null, NOW, null);
+            given(seatRegistry.get(state.seatNumber())).willReturn(state);
+            writeBehind.onSeatChanged(SeatChangedEvent.of(state, state));
+        }
+        given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new DataIntegrityViolationException("batch"));
+    }
+
+    @Test
+    @DisplayName("제약 위반 좌석만 빼고 나머지는 한 건씩 반영하며, 뺀 좌석은 다시 쓰지 않는다")
+    void skipsOnlyInvalidSeat() {
+        given(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).willAnswer(invocation -> {
+            long id = boundId(invocation.getArgument(1));
+            if (id == 2L) {
+                throw new DataIntegrityViolationException("seat " + id);
+            }
+            written.add(id);
+            return 1;
+        });
+
+        writeBehind.flush();
+        assertThat(written).containsExactlyInAnyOrder(1L, 3L);
+
+        written.clear();
+        writeBehind.flush();
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일시적인 실패는 남은 좌석을 다음 주기에 다시 쓴다")
+    void retriesTransientFailure() {
+        boolean[] down = {true};
+        given(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).willAnswer(invocation -> {
+            if (down[0]) {
+                throw new TransientDataAccessResourceException("connection");
+            }
+            written.add(boundId(invocation.getArgument(1)));
+            return 1;
+        });
+
+        writeBehind.flush();
+        assertThat(written).isEmpty();
+
+        down[0] = false;
+        writeBehind.flush();
+        assertThat(written).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    private static long boundId(PreparedStatementSetter setter) throws SQLException {
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.setValues(ps);
+        ArgumentCaptor<Long> id = ArgumentCaptor.forClass(Long.class);
+        verify(ps).setLong(eq(5), id.capture());
+        return id.getValue();
+    }
+}
@@ -0,0 +1,44 @@
+package com.study.manca.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한글 자모 분해 단위 테스트
+ */
+@DisplayName("한글 자모 분해")
+class HangulTest {
+
+    @Test
+    @DisplayName("겹모음/겹받침까지 자판 입력 순서의 낱자로 풀어서, 입력 중인 음절이 접두어가 된다")
+    void keystrokesSplitCompoundJamo() {
+        assertThat(Hangul.keystrokes("원피스")).isEqualTo("ㅇㅜㅓㄴㅍㅣㅅㅡ");
+        assertThat(Hangul.keystrokes("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(Hangul.keystrokes("원피스")).startsWith(Hangul.keystrokes("원핏"));
+        assertThat(Hangul.keystrokes("원피스")).startsWith(Hangul.keystrokes("우"));
+        // 낱자로 입력한 겹모음/겹받침도 같은 키가 된다
+        assertThat(Hangul.keystrokes("ㅇㅝ")).isEqualTo("ㅇㅜㅓ");
+        assertThat(Hangul.keystrokes("다ㄺ")).isEqualTo(Hangul.keystrokes("닭"));
+    }
+
+    @Test
+    @DisplayName("초성만 뽑고, 한글이 아닌 문자는 소문자로 바꾸며 연속 공백은 하나로 줄인다")
+    void choseongAndNormalization() {
+        assertThat(Hangul.choseong("원피스")).isEqualTo("ㅇㅍㅅ");
+        assertThat(Hangul.choseong("오다  에이이치로")).isEqualTo("ㅇㄷ ㅇㅇㅇㅊㄹ");
+        assertThat(Hangul.keystrokes("  One   Piece ")).isEqualTo("one piece");
+        assertThat(Hangul.choseong("드래곤볼Z")).isEqualTo("ㄷㄹㄱㅂz");
+    }
+
+    @Test
+    @DisplayName("자음과 공백으로만 된 입력만 초성 검색 대상이다")
+    void choseongOnly() {
+        assertThat(Hangul.isChoseongOnly("ㅇㅍㅅ")).isTrue();
+        assertThat(Hangul.isChoseongOnly("ㅇㄷ ㅇ")).isTrue();
+        assertThat(Hangul.isChoseongOnly("원ㅍ")).isFalse();
+        assertThat(Hangul.isChoseongOnly("ㅇㅜ")).isFalse();
+        assertThat(Hangul.isChoseongOnly("   ")).isFalse();
+    }
+}
@@ -0,0 +1,89 @@
+package com.study.manca.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계층형 타이밍 휠 단위 테스트
+ * 만료가 마감보다 일찍 일어나지 않고 마감 후 한 틱 안에 일어나는지, 취소된 작업은 만료되지 않는지 확인한다.
+ */
+@DisplayName("계층형 타이밍 휠")
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 10;
+    private static final long START = 1_767_261_600_000L;  // 틱 경계
+    private static final long TOP_LEVEL_TICKS = 1L << 24;  // 4단(64^4 틱)
+
+    @Test
+    @DisplayName("마감 전에는 만료되지 않고, 마감 후 한 틱 안에 만료된다 (위 바퀴에서 풀려 내려온 작업 포함)")
+    void expiresWithinOneTickAfterDeadline() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        Random random = new Random(42);
+        int tasks = 10_000;
+        // 3단(64^2 틱 이상)까지 걸치도록 64^3 틱의 두 배 안에서 밀리초 단위로 흩어 둔다
+        long horizon = 2 * 64L * 64 * 64 * TICK;
+        for (int i = 0; i < tasks; i++) {
+            long deadline = START + 1 + random.nextLong(horizon);
+            wheel.schedule(deadline, deadline);
+        }
+
+        int expired = 0;
+        for (long now = START; now <= START + horizon + TICK; now += TICK) {
+            for (long deadline : wheel.advance(now)) {
+                assertThat(deadline).isLessThanOrEqualTo(now);
+                assertThat(now - deadline).isLessThan(TICK);
+                expired++;
+            }
+        }
+        assertThat(expired).isEqualTo(tasks);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("가장 높은 바퀴보다 먼 마감도 일찍 만료되지 않는다")
+    void farDeadlineIsNotEarly() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        long deadline = START + (TOP_LEVEL_TICKS + 100) * TICK;
+        wheel.schedule("far", deadline);
+
+        assertThat(wheel.advance(deadline - TICK)).isEmpty();
+        assertThat(wheel.advance(deadline)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감은 다음 틱에서 바로 만료된다")
+    void pastDeadlineExpiresOnNextTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        wheel.advance(START + 5 * TICK);
+        wheel.schedule("late", START);
+
+        assertThat(wheel.advance(START + 6 * TICK)).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("취소된 작업은 만료되지 않고, 만료되거나 취소된 작업은 다시 취소되지 않는다")
+    void cancelledTasksAreNotExpired() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        HierarchicalTimingWheel.Timeout<String> kept = wheel.schedule("kept", START + 5 * TICK);
+        HierarchicalTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", START + 5 * TICK);
+        // 위 바퀴에 걸렸다가 아래 바퀴로 내려온 뒤에 취소
+        HierarchicalTimingWheel.Timeout<String> cascaded = wheel.schedule("cascaded", START + 100 * TICK);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(wheel.size()).isEqualTo(2);
+
+        assertThat(wheel.advance(START + 70 * TICK)).containsExactly("kept");
+        assertThat(kept.cancel()).isFalse();
+        assertThat(cascaded.cancel()).isTrue();
+
+        List<String> expired = wheel.advance(START + 200 * TICK);
+        assertThat(expired).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,78 @@
+package com.study.manca.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 SQL 문장 카운터
+ * DataSource 를 감싸서 Connection 에서 만들어지는 Statement 수(= 서버로 가는 SQL 수)를 센다.
+ * 사용: @Import(StatementCounter.Config.class) 후 StatementCounter.reset()/count()
+ */
+public final class StatementCounter {
+
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+
+    private StatementCounter() {
+    }
+
+    public static void reset() {
+        STATEMENTS.set(0);
+    }
+
+    public static long count() {
+        return STATEMENTS.get();
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? wrap(connection) : result;
+        });
+    }
+
+    private static Connection wrap(Connection target) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "prepareStatement", "prepareCall", "createStatement" -> STATEMENTS.incrementAndGet();
+                default -> {
+                }
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(target.getClass().getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}